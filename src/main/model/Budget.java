@@ -3,6 +3,10 @@ package model;
 import org.json.JSONObject;
 import persistence.Writable;
 
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Calendar;
+
 // Represents a budget having an expense report and income report
 public class Budget implements Writable {
     protected Report expenseReport;
@@ -14,6 +18,14 @@ public class Budget implements Writable {
         incomeReport = new IncomeReport();
     }
 
+    // REQUIRES: expenseReport holds expenses, incomeReport holds incomes
+    // EFFECTS: Constructs a budget with the given expenseReport and incomeReport, e.g. to use another storage
+    //          mode such as ColumnarReport
+    public Budget(Report expenseReport, Report incomeReport) {
+        this.expenseReport = expenseReport;
+        this.incomeReport = incomeReport;
+    }
+
     // EFFECTS: adds an expense to the expenseReport
     public void addExpense(Expense e) {
         expenseReport.addEntry(e);
@@ -24,19 +36,94 @@ public class Budget implements Writable {
         incomeReport.addEntry(i);
     }
 
+    // EFFECTS: returns a read-only, point-in-time view of the budget that later changes to the budget do not
+    //          affect, e.g. to save or report on it from another thread while changes continue; must be called by
+    //          the thread that changes the budget
+    public Budget snapshot() {
+        return new Budget(expenseReport.snapshot(), incomeReport.snapshot());
+    }
+
     // EFFECTS: returns the difference in the total dollar amount between incomeReport and expenseReport
     public double getDifference() {
-        return incomeReport.sum() - expenseReport.sum();
+        return Money.toDollars(getDifferenceInCents());
+    }
+
+    // EFFECTS: returns the exact difference in the total amount, in cents, between incomeReport and expenseReport
+    public long getDifferenceInCents() {
+        return incomeReport.sumInCents() - expenseReport.sumInCents();
+    }
+
+    // EFFECTS: returns the difference in the total dollar amount between incomeReport and expenseReport
+    //          from the day of startDate to the day of endDate, inclusive
+    public double getDifferenceInRange(Calendar startDate, Calendar endDate) {
+        return Money.toDollars(incomeReport.sumInRangeInCents(startDate, endDate)
+                - expenseReport.sumInRangeInCents(startDate, endDate));
+    }
+
+    // EFFECTS: returns the total dollar amount of expenses on the day of date
+    public double getExpensesOnDay(Calendar date) {
+        return Money.toDollars(expenseReport.getRollup().getDayTotal(Dates.fromCalendar(date)));
+    }
+
+    // EFFECTS: returns the total dollar amount of incomes on the day of date
+    public double getIncomeOnDay(Calendar date) {
+        return Money.toDollars(incomeReport.getRollup().getDayTotal(Dates.fromCalendar(date)));
+    }
+
+    // EFFECTS: returns the total dollar amount of expenses in the given month of year; month is a Calendar
+    //          month, e.g. Calendar.JANUARY
+    public double getExpensesInMonth(int year, int month) {
+        return Money.toDollars(expenseReport.getRollup().getMonthTotal(YearMonth.of(year, month + 1)));
+    }
+
+    // EFFECTS: returns the total dollar amount of incomes in the given month of year; month is a Calendar
+    //          month, e.g. Calendar.JANUARY
+    public double getIncomeInMonth(int year, int month) {
+        return Money.toDollars(incomeReport.getRollup().getMonthTotal(YearMonth.of(year, month + 1)));
+    }
+
+    // EFFECTS: returns the difference in the total dollar amount between incomes and expenses in the given month
+    //          of year; month is a Calendar month, e.g. Calendar.JANUARY
+    public double getDifferenceInMonth(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month + 1);
+        return Money.toDollars(incomeReport.getRollup().getMonthTotal(yearMonth)
+                - expenseReport.getRollup().getMonthTotal(yearMonth));
+    }
+
+    // EFFECTS: returns the total dollar amount of expenses in the given year
+    public double getExpensesInYear(int year) {
+        return Money.toDollars(expenseReport.getRollup().getYearTotal(Year.of(year)));
+    }
+
+    // EFFECTS: returns the total dollar amount of incomes in the given year
+    public double getIncomeInYear(int year) {
+        return Money.toDollars(incomeReport.getRollup().getYearTotal(Year.of(year)));
+    }
+
+    // EFFECTS: returns the difference in the total dollar amount between incomes and expenses in the given year
+    public double getDifferenceInYear(int year) {
+        return Money.toDollars(incomeReport.getRollup().getYearTotal(Year.of(year))
+                - expenseReport.getRollup().getYearTotal(Year.of(year)));
+    }
+
+    // EFFECTS: returns the daily or monthly expense totals, from the first to the last day or month with expenses
+    public TimeSeries getExpenseSeries(TimeSeries.Interval interval) {
+        return TimeSeries.of(expenseReport.getRollup(), interval);
+    }
+
+    // EFFECTS: returns the daily or monthly income totals, from the first to the last day or month with incomes
+    public TimeSeries getIncomeSeries(TimeSeries.Interval interval) {
+        return TimeSeries.of(incomeReport.getRollup(), interval);
     }
 
     // EFFECTS: returns true if total dollar amount of budget is > 0; false otherwise
     public boolean isSurplus() {
-        return (getDifference() > 0);
+        return (getDifferenceInCents() > 0);
     }
 
     // EFFECTS: returns true if total dollar amount of budget is < 0; false otherwise
     public boolean isDeficit() {
-        return (getDifference() < 0);
+        return (getDifferenceInCents() < 0);
     }
 
     // Getters
@@ -0,0 +1,624 @@
+package model;
+
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Represents a report that stores its entries column by column in primitive arrays: the id of each entry, the epoch
+// day of each date, the amount in cents and the id of each description in a string table. Entries are handed out as
+// views bound to their row; a view is only kept alive by the code using it, and changes made through a view are
+// written back to the columns. The map from entry ids to rows is only built once an entry is looked up or added by
+// id; appending rows does not build it. Once built it is kept when rows are deleted: the rows it gives for later
+// ids are fixed up the next time they are looked up, and all of them at once after a number of deletions. A report with a DescriptionSource can be
+// appended rows whose description has not been read yet; the description is read from the source the first time
+// the row is accessed. Rows appended in bulk are only written to the columns, and are added to the totals, daily
+// sums and rollup of the report together once the bulk append is finished. Once the report is first searched by
+// description, an index of the ids of its rows by description is kept up to date as rows are appended, changed and
+// deleted.
+public class ColumnarReport extends Report {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int UNREAD = -1;             // description id of a row whose description is not read yet
+    private static final int NOT_DEFERRED = -1;
+    private static final int MAX_STALE_ROWS = 64;     // deletions after which every row in rowsById is fixed up
+
+    private final EntryType type;
+    private final StringTable descriptions;
+    private final DescriptionSource source;            // null if every description is read when appended
+    private final List<WeakReference<Entry>> views;    // the view handed out for each row, if any
+    private Map<Long, Integer> rowsById;              // entry id -> row; null if it has to be rebuilt
+    private int staleRows;                             // rows deleted since every row in rowsById was right; a
+                                                       // row from firstStale on may be up to this many too large
+    private int firstStale;                            // first row deleted since every row in rowsById was right
+    private RowIndex rowIndex;                         // index of the rows by description; null until first queried
+    private int firstDeferred;                         // first row not added to the totals yet; NOT_DEFERRED if
+                                                       // rows are not being appended in bulk
+    private int size;
+    private long[] ids;
+    private int[] days;
+    private long[] cents;
+    private int[] descriptionIds;
+    private long[] descriptionKeys;                    // key in source of each unread description; null if no source
+
+    // EFFECTS: constructs an empty columnar report holding entries of the given type
+    public ColumnarReport(EntryType type) {
+        this(type, null);
+    }
+
+    // EFFECTS: constructs an empty columnar report holding entries of the given type, whose rows may be appended
+    //          with the key of their description in source instead of the description itself
+    public ColumnarReport(EntryType type, DescriptionSource source) {
+        super();
+        this.type = type;
+        this.source = source;
+        descriptions = new StringTable();
+        views = new ArrayList<>();
+        ids = new long[INITIAL_CAPACITY];
+        days = new int[INITIAL_CAPACITY];
+        cents = new long[INITIAL_CAPACITY];
+        descriptionIds = new int[INITIAL_CAPACITY];
+        descriptionKeys = source == null ? null : new long[INITIAL_CAPACITY];
+        firstDeferred = NOT_DEFERRED;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts appending rows in bulk: until finishBulkAppend is called, rows added to the report are only
+    //          written to its columns, and its sum, min, max, mean, sums in range and rollup leave them out
+    public void startBulkAppend() {
+        if (firstDeferred == NOT_DEFERRED) {
+            firstDeferred = size;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the rows appended since startBulkAppend was called to the totals, daily sums and rollup of the
+    //          report in one pass, summing the amounts of each day first, and stops appending rows in bulk
+    public void finishBulkAppend() {
+        addDeferredValues();
+        firstDeferred = NOT_DEFERRED;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the rows appended in bulk so far, if any, to the totals, daily sums and rollup of the report
+    private void addDeferredValues() {
+        if (firstDeferred != NOT_DEFERRED) {
+            addAllValues(days, cents, firstDeferred, size);
+            firstDeferred = size;
+        }
+    }
+
+    // REQUIRES: description is not empty and amount >= 0
+    // MODIFIES: this
+    // EFFECTS: adds an entry with the given description, amount in cents and date to the report
+    //          without creating an Entry for it; the entry is given a new id
+    public void append(String description, long amount, LocalDate date) {
+        appendRow(Entry.nextId(), description, amount, date);
+        fireAppended();
+    }
+
+    // REQUIRES: description is not empty, amount >= 0 and no entry in the report has the given id
+    // MODIFIES: this
+    // EFFECTS: adds an entry with the given id, description, amount in cents and date to the report
+    //          without creating an Entry for it, e.g. when it is read from file; entries created afterwards get
+    //          larger ids
+    public void append(long id, String description, long amount, LocalDate date) {
+        Entry.reserveId(id);
+        appendRow(id, description, amount, date);
+        fireAppended();
+    }
+
+    // REQUIRES: the report has a DescriptionSource, whose description with the given key is not empty, and
+    //          amount >= 0
+    // MODIFIES: this
+    // EFFECTS: adds an entry with the description with the given key in the source of the report, and the given
+    //          amount in cents and date, to the report without reading the description; the entry is given a new id
+    public void appendUnread(long descriptionKey, long amount, LocalDate date) {
+        appendUnreadRow(Entry.nextId(), descriptionKey, amount, date);
+        fireAppended();
+    }
+
+    // REQUIRES: the report has a DescriptionSource, whose description with the given key is not empty,
+    //           amount >= 0 and no entry in the report has the given id
+    // MODIFIES: this
+    // EFFECTS: adds an entry with the given id, the description with the given key in the source of the report,
+    //          and the given amount in cents and date, to the report without reading the description; entries
+    //          created afterwards get larger ids
+    public void appendUnread(long id, long descriptionKey, long amount, LocalDate date) {
+        Entry.reserveId(id);
+        appendUnreadRow(id, descriptionKey, amount, date);
+        fireAppended();
+    }
+
+    // REQUIRES: count >= 0; ids, days, amounts and descriptionIndexes each have at least count elements; each of
+    //           descriptionIndexes[0] to descriptionIndexes[count - 1] is an index of a non-empty string in
+    //           descriptions; amounts are >= 0; no two of the ids, and no id and entry in the report, are the same
+    // MODIFIES: this
+    // EFFECTS: adds count rows with the given ids, epoch days, amounts in cents and descriptions, given by their
+    //          index in descriptions, to the report, as append(id, ...) would one at a time; the columns are copied
+    //          in at once, each description is looked up once, and the rows are added to the totals, daily sums
+    //          and rollup in one pass
+    public void appendAll(long[] ids, int[] days, long[] amounts, String[] descriptions, int[] descriptionIndexes,
+                          int count) {
+        int first = size;
+        ensureCapacity(size + count);
+        System.arraycopy(ids, 0, this.ids, first, count);
+        System.arraycopy(days, 0, this.days, first, count);
+        System.arraycopy(amounts, 0, cents, first, count);
+        int[] tableIds = new int[descriptions.length];
+        Arrays.fill(tableIds, UNREAD);
+        long maxId = 0;
+        for (int i = 0; i < count; i++) {
+            int index = descriptionIndexes[i];
+            if (tableIds[index] == UNREAD) {
+                tableIds[index] = this.descriptions.idOf(descriptions[index]);
+            }
+            descriptionIds[first + i] = tableIds[index];
+            maxId = Math.max(maxId, ids[i]);
+        }
+        Entry.reserveId(maxId);
+        addAppendedRows(first, count);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes in the count rows written to the columns from row first on: adds them to the map from ids to
+    //          rows if it is built, and to the totals unless rows are being appended in bulk, and tells the
+    //          listeners of the report about each of them
+    private void addAppendedRows(int first, int count) {
+        size = first + count;
+        views.addAll(Collections.nCopies(count, null));
+        for (int row = first; row < size; row++) {
+            if (rowsById != null) {
+                rowsById.put(ids[row], row);
+            }
+            indexRow(row);
+        }
+        if (firstDeferred == NOT_DEFERRED) {
+            addAllValues(days, cents, first, size);
+        }
+        for (int row = first; !listeners.isEmpty() && row < size; row++) {
+            fireAdded(getEntry(row));
+        }
+    }
+
+    // EFFECTS: tells the listeners of the report that the last row has been added, creating a view of the row
+    //          only if there are listeners
+    private void fireAppended() {
+        if (!listeners.isEmpty()) {
+            fireAdded(getEntry(size - 1));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a row with the given values to the report
+    private void appendRow(long id, String description, long amount, LocalDate date) {
+        addRow(id);
+        writeRow(size - 1, description, amount, date);
+        addRowValues(size - 1);
+        indexRow(size - 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a row with the given values and unread description to the report
+    private void appendUnreadRow(long id, long descriptionKey, long amount, LocalDate date) {
+        addRow(id);
+        days[size - 1] = (int) date.toEpochDay();
+        cents[size - 1] = amount;
+        descriptionIds[size - 1] = UNREAD;
+        descriptionKeys[size - 1] = descriptionKey;
+        addRowValues(size - 1);
+        indexRow(size - 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the given row to the index of the rows by description, if it has been built, reading the
+    //          description of the row if needed
+    private void indexRow(int row) {
+        if (rowIndex != null) {
+            rowIndex.add(ids[row], getDescription(row));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the values of the given row to the totals, daily sums and rollup of the report, unless the row
+    //          was appended in bulk and is added with the rest of them
+    private void addRowValues(int row) {
+        if (firstDeferred == NOT_DEFERRED || row < firstDeferred) {
+            addValues(days[row], cents[row]);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a row with the given id to the end of the columns, growing them if they are full
+    private void addRow(long id) {
+        ensureCapacity(size + 1);
+        views.add(null);
+        size++;
+        ids[size - 1] = id;
+        if (rowsById != null) {
+            rowsById.put(id, size - 1);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows the columns, at least doubling them, if they cannot hold the given number of rows
+    private void ensureCapacity(int rows) {
+        if (rows > days.length) {
+            int capacity = Math.max(rows, days.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            days = Arrays.copyOf(days, capacity);
+            cents = Arrays.copyOf(cents, capacity);
+            descriptionIds = Arrays.copyOf(descriptionIds, capacity);
+            if (descriptionKeys != null) {
+                descriptionKeys = Arrays.copyOf(descriptionKeys, capacity);
+            }
+        }
+    }
+
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: adds the values of entry e to the report and binds e as the view of its row; if another entry in the
+    //          report has the same id, e is given a new id first
+    @Override
+    public void addEntry(Entry e) {
+        if (containsId(e.id)) {
+            e.id = Entry.nextId();
+        }
+        appendRow(e.id, e.description, e.cents, e.date);
+        bind(e, size - 1);
+        fireAdded(e);
+    }
+
+    // REQUIRES: no entry of added is already in a Report
+    // MODIFIES: this, added
+    // EFFECTS: adds the entries of added to the report in order, as addEntry would one at a time, appending their
+    //          rows in bulk so that their amounts are added to the totals in one pass once they are all in
+    @Override
+    public void addAllEntries(List<Entry> added) {
+        boolean bulk = firstDeferred == NOT_DEFERRED;
+        startBulkAppend();
+        try {
+            for (Entry e : added) {
+                addEntry(e);
+            }
+        } finally {
+            if (bulk) {
+                finishBulkAppend();
+            }
+        }
+    }
+
+    // MODIFIES: this, e
+    // EFFECTS: removes entry e from the report if it is a view of this report
+    @Override
+    public void deleteEntry(Entry e) {
+        if (contains(e)) {
+            preserve(e);
+            addDeferredValues();
+            int row = e.row;
+            removeValues(days[row], cents[row]);
+            if (rowIndex != null) {
+                rowIndex.remove(ids[row], getDescription(row));
+            }
+            removeRow(row);
+            e.report = null;
+            fireDeleted(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the given row, shifting the rows after it up by one
+    private void removeRow(int row) {
+        long id = ids[row];
+        int moved = size - row - 1;
+        System.arraycopy(ids, row + 1, ids, row, moved);
+        System.arraycopy(days, row + 1, days, row, moved);
+        System.arraycopy(cents, row + 1, cents, row, moved);
+        System.arraycopy(descriptionIds, row + 1, descriptionIds, row, moved);
+        if (descriptionKeys != null) {
+            System.arraycopy(descriptionKeys, row + 1, descriptionKeys, row, moved);
+        }
+        views.remove(row);
+        size--;
+        for (int i = row; i < size; i++) {
+            Entry view = viewAt(i);
+            if (view != null) {
+                view.row = i;
+            }
+        }
+        if (rowsById != null) {
+            rowsById.remove(id);
+            markStale(row);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: notes that the given row was deleted, so the rows in rowsById from it on may be one too large;
+    //          fixes up all of them once too many rows were deleted
+    private void markStale(int row) {
+        firstStale = (staleRows == 0) ? row : Math.min(firstStale, row);
+        if (++staleRows > MAX_STALE_ROWS) {
+            for (int i = firstStale; i < size; i++) {
+                rowsById.put(ids[i], i);
+            }
+            staleRows = 0;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the current values of view e back to its row and adds them to the totals of the report; moves
+    //          the row to its new description in the index of the rows by description if the description changed
+    @Override
+    void index(Entry e) {
+        if (rowIndex != null && !e.description.equals(getDescription(e.row))) {
+            rowIndex.remove(e.id, getDescription(e.row));
+            rowIndex.add(e.id, e.description);
+        }
+        writeRow(e.row, e.description, e.cents, e.date);
+        addRowValues(e.row);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the values stored in the row of view e from the totals of the report
+    @Override
+    void unindex(Entry e) {
+        addDeferredValues();
+        removeValues(days[e.row], cents[e.row]);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores the given values in row
+    private void writeRow(int row, String description, long amount, LocalDate date) {
+        days[row] = (int) date.toEpochDay();
+        cents[row] = amount;
+        descriptionIds[row] = descriptions.idOf(description);
+    }
+
+    // EFFECTS: returns the total amount of all entries in cents, summed from the amount column rather than read
+    //          from the running totals
+    public long sumColumnInCents() {
+        return Money.sum(cents, 0, size);
+    }
+
+    // REQUIRES: 0 <= row < size()
+    // MODIFIES: this
+    // EFFECTS: returns the view of the given row, creating it if no view of the row is in use
+    public Entry getEntry(int row) {
+        Entry view = viewAt(row);
+        if (view == null) {
+            view = type.entryWithId(ids[row], getDescription(row), cents[row], LocalDate.ofEpochDay(days[row]));
+            bind(view, row);
+        }
+        return view;
+    }
+
+    // REQUIRES: 0 <= row < size()
+    // MODIFIES: this
+    // EFFECTS: returns the description of the given row without creating a view of it, reading it from the source
+    //          of the report if it has not been read yet
+    public String getDescription(int row) {
+        if (descriptionIds[row] == UNREAD) {
+            descriptionIds[row] = descriptions.idOf(source.getDescription(descriptionKeys[row]));
+        }
+        return descriptions.get(descriptionIds[row]);
+    }
+
+    // REQUIRES: 0 <= row < size()
+    // EFFECTS: returns true if the description of the given row has been read; false if it is still only in the
+    //          source of the report
+    public boolean isDescriptionRead(int row) {
+        return descriptionIds[row] != UNREAD;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the view of the entry with the given id; null if there is no such entry in the report
+    @Override
+    public Entry getEntryById(long id) {
+        int row = rowOf(id);
+        return row < 0 ? null : getEntry(row);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if the report has an entry with the given id; false otherwise
+    @Override
+    public boolean containsId(long id) {
+        return rowsById().containsKey(id);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the row of the entry with the given id, fixing it up in the map from ids to rows if rows were
+    //          deleted before it; -1 if there is no such entry in the report
+    private int rowOf(long id) {
+        Integer known = rowsById().get(id);
+        if (known == null) {
+            return -1;
+        } else if (staleRows == 0 || known < firstStale) {
+            return known;
+        }
+        for (int row = Math.min(known, size - 1); row >= known - staleRows; row--) {
+            if (ids[row] == id) {
+                if (row != known) {
+                    rowsById.put(id, row);
+                }
+                return row;
+            }
+        }
+        throw new IllegalStateException("Row of entry " + id + " was lost");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the map from entry ids to rows, building it if needed
+    private Map<Long, Integer> rowsById() {
+        if (rowsById == null) {
+            rowsById = new HashMap<>();
+            for (int row = 0; row < size; row++) {
+                rowsById.put(ids[row], row);
+            }
+            staleRows = 0;
+        }
+        return rowsById;
+    }
+
+    // EFFECTS: returns the view in use for the given row; null if there is none
+    private Entry viewAt(int row) {
+        WeakReference<Entry> reference = views.get(row);
+        return reference == null ? null : reference.get();
+    }
+
+    // MODIFIES: this, e
+    // EFFECTS: makes e the view of the given row
+    private void bind(Entry e, int row) {
+        e.id = ids[row];
+        e.report = this;
+        e.row = row;
+        views.set(row, new WeakReference<>(e));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Entry entry) {
+        return entry.report == this;
+    }
+
+    // EFFECTS: returns all entries in the report from the day of startDate to the day of endDate, inclusive,
+    //          ordered by date; entries on the same day are in row order
+    @Override
+    public List<Entry> getEntriesInRange(Calendar startDate, Calendar endDate) {
+        long startDay = Dates.toEpochDay(startDate);
+        long endDay = Dates.toEpochDay(endDate);
+        long[] keys = new long[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (days[row] >= startDay && days[row] <= endDay) {
+                keys[count++] = ((long) days[row] << 32) | row;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        List<Entry> entriesInRange = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entriesInRange.add(getEntry((int) keys[i]));
+        }
+        return entriesInRange;
+    }
+
+    // EFFECTS: returns a read-only list of all entries in the report, creating views as they are accessed
+    @Override
+    public List<Entry> getAllEntries() {
+        return new AbstractList<Entry>() {
+            @Override
+            public Entry get(int index) {
+                return getEntry(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    // REQUIRES: entries are views of rows of the report
+    // MODIFIES: entries
+    // EFFECTS: sorts entries into row order
+    @Override
+    void sortInListOrder(List<Entry> entries) {
+        entries.sort(Comparator.comparingInt(e -> e.row));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a copy of the list of views of all rows, for a snapshot to keep; takes time linear in the
+    //          number of rows, since the columns are changed in place
+    @Override
+    List<Entry> shareEntries() {
+        return new ArrayList<>(getAllEntries());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the index of the rows of the report by description, which answers substring, word prefix and
+    //          similar word queries without scanning every row, and only creates views of the rows found; the index
+    //          is built on the first call, reading every description, and kept up to date as rows are appended,
+    //          changed and deleted from then on
+    @Override
+    public DescriptionIndex getDescriptionIndex() {
+        if (rowIndex == null) {
+            rowIndex = new RowIndex();
+            for (int row = 0; row < size; row++) {
+                indexRow(row);
+            }
+        }
+        return rowIndex;
+    }
+
+    @Override
+    public EntryType getType() {
+        return type;
+    }
+
+    // Represents an index of the rows of the report by description, which keeps the id of each row rather than a
+    // view of it, so that a view is only created for the rows a query finds
+    private class RowIndex extends DescriptionIndex {
+        private final Map<String, Set<Long>> idsByDescription;     // description -> ids of the rows with it
+
+        // EFFECTS: constructs an empty index of rows
+        RowIndex() {
+            idsByDescription = new HashMap<>();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: adds the row with the given id to the index under description
+        synchronized void add(long id, String description) {
+            Set<Long> rowIds = idsByDescription.get(description);
+            if (rowIds == null) {
+                rowIds = new LinkedHashSet<>();
+                idsByDescription.put(description, rowIds);
+                indexDescription(description);
+            }
+            rowIds.add(id);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: removes the row with the given id from under description
+        synchronized void remove(long id, String description) {
+            Set<Long> rowIds = idsByDescription.get(description);
+            if (rowIds != null && rowIds.remove(id) && rowIds.isEmpty()) {
+                idsByDescription.remove(description);
+                unindexDescription(description);
+            }
+        }
+
+        @Override
+        Collection<String> descriptions() {
+            return idsByDescription.keySet();
+        }
+
+        // MODIFIES: ColumnarReport.this
+        // EFFECTS: returns the views of the rows with the given descriptions from epoch day startDay to epoch day
+        //          endDay, inclusive
+        @Override
+        List<Entry> entriesOf(Collection<String> descriptions, long startDay, long endDay) {
+            List<Entry> entries = new ArrayList<>();
+            for (String description : descriptions) {
+                for (long id : idsByDescription.get(description)) {
+                    int row = rowOf(id);
+                    if (days[row] >= startDay && days[row] <= endDay) {
+                        entries.add(getEntry(row));
+                    }
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents a report that several threads can add entries to, delete entries from and read at the same time
+// without locking. Entries are kept by id in a concurrent skip list, so they are listed in the order they were
+// created. The total is kept in a striped counter, the counts of amounts and totals of days in concurrent maps, and
+// the entries are also kept by day and sequence number in one skip list; a day whose total drops to 0 and a day with
+// no entries left are removed from the maps, so deleted entries leave nothing behind.
+// Each value read is exact for the entries added so far, but reads made while other threads are writing are not a
+// consistent snapshot of each other; a snapshot, which is, is refused while another thread is writing. Changes to
+// one entry must not be made by several threads at once.
+public class ConcurrentReport extends Report {
+    private final EntryType type;
+    private final AtomicInteger count;
+    private final LongAdder sum;
+    private final ConcurrentSkipListMap<Long, Long> amounts;       // amount in cents -> number of entries
+    private final ConcurrentSkipListMap<Long, DayTotal> days;      // epoch day -> nonzero total in cents
+    // (epoch day, sequence number) -> entry, so that the entries on a day stay in the order they were added
+    private final ConcurrentSkipListMap<DaySequence, Entry> entriesByDay;
+    private final AtomicLong sequences;                            // sequence number of the next entry added
+    private final List<Entry> entryList;                           // view of the entries in the order created
+    private final AtomicLong writesStarted;                        // number of adds, changes and deletes started
+    private final AtomicLong writesFinished;                       // number of adds, changes and deletes finished
+    private volatile DescriptionIndex index;                       // null until the first text query
+
+    // EFFECTS: constructs an empty concurrent report holding entries of the given type
+    public ConcurrentReport(EntryType type) {
+        super();
+        this.type = type;
+        entries = new ConcurrentSkipListMap<>();
+        count = new AtomicInteger();
+        sum = new LongAdder();
+        amounts = new ConcurrentSkipListMap<>();
+        days = new ConcurrentSkipListMap<>();
+        entriesByDay = new ConcurrentSkipListMap<>();
+        sequences = new AtomicLong();
+        entryList = new EntryList();
+        writesStarted = new AtomicLong();
+        writesFinished = new AtomicLong();
+    }
+
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: adds an entry to the report; if another entry in the report has the same id,
+    //          e is given a new id first
+    @Override
+    public void addEntry(Entry e) {
+        writesStarted.incrementAndGet();
+        try {
+            e.report = this;
+            while (entries.putIfAbsent(e.id, e) != null) {
+                e.id = Entry.nextId();
+            }
+            count.incrementAndGet();
+            e.sequence = sequences.getAndIncrement();
+            addToIndexes(e);
+        } finally {
+            writesFinished.incrementAndGet();
+        }
+        fireAdded(e);
+    }
+
+    // REQUIRES: no entry of added is already in a Report
+    // MODIFIES: this, added
+    // EFFECTS: adds the entries of added to the report in order, one at a time, since other threads may be adding
+    //          entries at the same time
+    @Override
+    public void addAllEntries(List<Entry> added) {
+        for (Entry e : added) {
+            addEntry(e);
+        }
+    }
+
+    // MODIFIES: this, e
+    // EFFECTS: removes entry e from the report if it is in the report
+    @Override
+    public void deleteEntry(Entry e) {
+        if (!contains(e)) {
+            return;
+        }
+        boolean deleted;
+        writesStarted.incrementAndGet();
+        try {
+            deleted = entries.remove(e.id, e);
+            if (deleted) {
+                preserve(e);
+                count.decrementAndGet();
+                removeFromIndexes(e);
+                e.report = null;
+            }
+        } finally {
+            writesFinished.incrementAndGet();
+        }
+        if (deleted) {
+            fireDeleted(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the current values of entry e, which has just changed, back to the totals and indexes of the
+    //          report, finishing the change that unindex started
+    @Override
+    void index(Entry e) {
+        try {
+            addToIndexes(e);
+        } finally {
+            writesFinished.incrementAndGet();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a change to entry e, which is about to change, and removes its current values from the totals
+    //          and indexes of the report
+    @Override
+    void unindex(Entry e) {
+        writesStarted.incrementAndGet();
+        removeFromIndexes(e);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the current values of entry e to the totals and indexes of the report
+    private void addToIndexes(Entry e) {
+        long day = e.date.toEpochDay();
+        sum.add(e.cents);
+        amounts.merge(e.cents, 1L, Long::sum);
+        addToDay(day, e.cents);
+        entriesByDay.put(new DaySequence(day, e.sequence), e);
+        DescriptionIndex descriptions = index;
+        if (descriptions != null) {
+            descriptions.add(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the current values of entry e from the totals and indexes of the report
+    private void removeFromIndexes(Entry e) {
+        long day = e.date.toEpochDay();
+        sum.add(-e.cents);
+        amounts.merge(e.cents, -1L, ConcurrentReport::sumOrNull);
+        addToDay(day, -e.cents);
+        entriesByDay.remove(new DaySequence(day, e.sequence), e);
+        DescriptionIndex descriptions = index;
+        if (descriptions != null) {
+            descriptions.remove(e);
+        }
+    }
+
+    // EFFECTS: returns a + b, or null if that is 0, so that merging it into a map removes the key
+    private static Long sumOrNull(Long a, Long b) {
+        long sum = a + b;
+        return sum == 0 ? null : sum;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds cents to the total of the given epoch day, dropping the total of the day once it is 0
+    private void addToDay(long day, long cents) {
+        if (cents == 0) {
+            return;
+        }
+        while (true) {
+            DayTotal total = days.computeIfAbsent(day, d -> new DayTotal());
+            long current = total.get();
+            if (current == DayTotal.DROPPED) {
+                days.remove(day, total);
+            } else if (total.compareAndSet(current, current + cents)) {
+                if (current + cents == 0 && total.compareAndSet(0, DayTotal.DROPPED)) {
+                    days.remove(day, total);
+                }
+                return;
+            }
+        }
+    }
+
+    // EFFECTS: returns the number of days the report keeps a total for
+    int daysKept() {
+        return days.size();
+    }
+
+    @Override
+    public EntryType getType() {
+        return type;
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    // EFFECTS: returns all entries in the report from the day of startDate to the day of endDate, inclusive,
+    //          ordered by date; entries on the same day are in the order they were added
+    @Override
+    public List<Entry> getEntriesInRange(Calendar startDate, Calendar endDate) {
+        long startDay = Dates.toEpochDay(startDate);
+        long endDay = Dates.toEpochDay(endDate);
+        if (startDay > endDay) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(entriesByDay.subMap(new DaySequence(startDay, Long.MIN_VALUE), true,
+                new DaySequence(endDay, Long.MAX_VALUE), true).values());
+    }
+
+    // EFFECTS: returns the index of the entries in the report by description, which answers substring, word prefix
+    //          and similar word queries without scanning every entry; the index is built on the first call and kept
+    //          up to date as entries are added, changed and deleted from then on. It is published before it is
+    //          filled, and filled while holding its lock, so an entry added or deleted by another thread meanwhile
+    //          is either seen by the scan or waits to add or remove itself until the scan is done
+    @Override
+    public synchronized DescriptionIndex getDescriptionIndex() {
+        if (index == null) {
+            DescriptionIndex descriptions = new DescriptionIndex();
+            synchronized (descriptions) {
+                index = descriptions;
+                for (Entry e : entries.values()) {
+                    descriptions.add(e);
+                }
+            }
+        }
+        return index;
+    }
+
+    // EFFECTS: returns a read-only list of all entries in the report, in the order they were created; the list reads
+    //          straight from the report without copying it, so it shows later changes to the report. Iterating it
+    //          is weakly consistent, as iterating the entries of a concurrent map is: it never fails, and shows some
+    //          of the changes other threads make meanwhile; getting an entry by position walks the entries before it
+    @Override
+    public List<Entry> getAllEntries() {
+        return entryList;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a read-only, point-in-time view of the report, as Report.snapshot does, except that it can be
+    //          called from any thread; throws IllegalStateException if another thread is adding, changing or
+    //          deleting an entry while the view is taken, since the view would then not be consistent
+    @Override
+    public Report snapshot() {
+        long started = writesStarted.get();
+        if (writesFinished.get() == started) {
+            Report snapshot = super.snapshot();
+            if (writesStarted.get() == started) {
+                return snapshot;
+            }
+        }
+        throw new IllegalStateException("Cannot take a snapshot while entries are being changed");
+    }
+
+    // REQUIRES: entries are in the report
+    // MODIFIES: entries
+    // EFFECTS: sorts entries into the order they were created, which is the order getAllEntries lists them in
+    @Override
+    void sortInListOrder(List<Entry> entries) {
+        entries.sort(Comparator.comparingLong(e -> e.id));
+    }
+
+    // EFFECTS: returns a copy of the list of all entries, for a snapshot to keep; takes time linear in the number of
+    //          entries, since they are kept in a skip list that other threads may be changing
+    @Override
+    List<Entry> shareEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    @Override
+    public long sumInCents() {
+        return sum.sum();
+    }
+
+    @Override
+    public long sumInRangeInCents(Calendar startDate, Calendar endDate) {
+        long startDay = Dates.toEpochDay(startDate);
+        long endDay = Dates.toEpochDay(endDate);
+        long total = 0;
+        if (startDay <= endDay) {
+            for (DayTotal dayTotal : days.subMap(startDay, true, endDay, true).values()) {
+                total += dayTotal.cents();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public double min() {
+        Map.Entry<Long, Long> smallest = amounts.firstEntry();
+        return smallest == null ? 0 : Money.toDollars(smallest.getKey());
+    }
+
+    @Override
+    public double max() {
+        Map.Entry<Long, Long> largest = amounts.lastEntry();
+        return largest == null ? 0 : Money.toDollars(largest.getKey());
+    }
+
+    @Override
+    public double mean() {
+        int n = size();
+        return n == 0 ? 0 : sum() / n;
+    }
+
+    // EFFECTS: returns the daily, monthly and yearly totals of the report, built from its current daily totals
+    @Override
+    public Rollup getRollup() {
+        Rollup rollup = new Rollup();
+        for (Map.Entry<Long, DayTotal> day : days.entrySet()) {
+            long total = day.getValue().cents();
+            if (total != 0) {
+                rollup.add(day.getKey(), total);
+            }
+        }
+        return rollup;
+    }
+
+    // Represents the total in cents of the entries on one day. Totals are changed by compare-and-set; a total that
+    // reaches 0 is marked as dropped before it is removed from the report, so that no thread adds to it after that
+    private static final class DayTotal extends AtomicLong {
+        static final long DROPPED = Long.MIN_VALUE;
+
+        // EFFECTS: returns the total in cents; 0 if it has been dropped
+        long cents() {
+            long total = get();
+            return total == DROPPED ? 0 : total;
+        }
+    }
+
+    // Represents the position of an entry among the entries of the report by date: its epoch day, then its
+    // sequence number
+    private static final class DaySequence implements Comparable<DaySequence> {
+        private final long day;
+        private final long sequence;
+
+        // EFFECTS: constructs the position of the entry with the given sequence number on the given epoch day
+        DaySequence(long day, long sequence) {
+            this.day = day;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(DaySequence other) {
+            int byDay = Long.compare(day, other.day);
+            return byDay != 0 ? byDay : Long.compare(sequence, other.sequence);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof DaySequence && compareTo((DaySequence) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(day) * 31 + Long.hashCode(sequence);
+        }
+    }
+
+    // Represents a read-only view of the entries of the report in the order they were created, iterated straight
+    // from the skip list that holds them
+    private class EntryList extends AbstractList<Entry> {
+
+        // EFFECTS: returns the entry at the given position, walking the entries before it
+        @Override
+        public Entry get(int index) {
+            if (index >= 0) {
+                int i = 0;
+                for (Entry e : entries.values()) {
+                    if (i++ == index) {
+                        return e;
+                    }
+                }
+            }
+            throw new IndexOutOfBoundsException("Entry " + index + " of " + size());
+        }
+
+        @Override
+        public int size() {
+            return count.get();
+        }
+
+        @Override
+        public Iterator<Entry> iterator() {
+            return Collections.unmodifiableCollection(entries.values()).iterator();
+        }
+
+        @Override
+        public Spliterator<Entry> spliterator() {
+            return entries.values().spliterator();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Entry && ConcurrentReport.this.contains((Entry) o);
+        }
+
+        // EFFECTS: returns the position of o among the entries; -1 if it is not one of them
+        @Override
+        public int indexOf(Object o) {
+            if (contains(o)) {
+                int i = 0;
+                for (Entry e : entries.values()) {
+                    if (e == o) {
+                        return i;
+                    }
+                    i++;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
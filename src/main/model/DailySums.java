@@ -0,0 +1,143 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Represents the total amount in cents per day over a growing range of days, stored in a Fenwick (binary indexed) tree
+// so that a single day can be updated and the total over any range of days can be read in O(log d),
+// where d is the number of days covered. The tree covers at most MAX_CAPACITY days; the totals of days outside of
+// it, e.g. a single entry dated centuries away from the rest, are kept by day in a sorted map instead, and once
+// there are many of those the tree is moved to where most of the days are.
+public class DailySums {
+    static final int MAX_CAPACITY = 1 << 16;       // most days the tree covers, about 179 years
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_OUTLIERS_TO_MOVE = 64;
+
+    private long firstDay;      // epoch day stored at position 0
+    private long[] amounts;     // total amount in cents per day, by position
+    private long[] tree;        // Fenwick tree over amounts; tree[i] covers positions (i - (i & -i), i - 1]
+    private TreeMap<Long, Long> outliers;   // epoch day -> total amount in cents, for days the tree does not cover
+    private int outliersToMove;             // number of outlying days at which the tree is moved
+
+    // EFFECTS: constructs daily sums covering no days
+    public DailySums() {
+        amounts = new long[0];
+        tree = new long[1];
+        outliers = new TreeMap<>();
+        outliersToMove = MIN_OUTLIERS_TO_MOVE;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an amount in cents to the total of the given epoch day
+    public void add(long day, long cents) {
+        if (!ensureCovers(day)) {
+            outliers.merge(day, cents, Long::sum);
+            if (outliers.size() >= outliersToMove) {
+                moveToMostDays();
+            }
+            return;
+        }
+        int position = (int) (day - firstDay);
+        amounts[position] += cents;
+        for (int i = position + 1; i < tree.length; i += i & -i) {
+            tree[i] += cents;
+        }
+    }
+
+    // EFFECTS: returns the total amount in cents from startDay to endDay, inclusive; 0 if endDay is before startDay
+    public long sumInRange(long startDay, long endDay) {
+        if (startDay > endDay) {
+            return 0;
+        }
+        long sum = 0;
+        for (long cents : outliers.subMap(startDay, true, endDay, true).values()) {
+            sum += cents;
+        }
+        long lastDay = firstDay + amounts.length - 1;
+        long from = Math.max(startDay, firstDay);
+        long to = Math.min(endDay, lastDay);
+        if (from > to) {
+            return sum;
+        }
+        return sum + prefixSum((int) (to - firstDay)) - prefixSum((int) (from - firstDay) - 1);
+    }
+
+    // EFFECTS: returns the total amount of positions 0 to position, inclusive
+    private long prefixSum(int position) {
+        long sum = 0;
+        for (int i = position + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows the covered range of days, at least doubling it, until it includes day and returns true;
+    //          returns false without growing it if it would have to cover more than MAX_CAPACITY days
+    private boolean ensureCovers(long day) {
+        if (amounts.length == 0) {
+            firstDay = day;
+            rebuild(new long[INITIAL_CAPACITY]);
+        } else if (day < firstDay || day >= firstDay + amounts.length) {
+            long lastDay = firstDay + amounts.length - 1;
+            long span = Math.max(lastDay, day) - Math.min(firstDay, day) + 1;
+            if (span > MAX_CAPACITY) {
+                return false;
+            }
+            int capacity = amounts.length;
+            while (capacity < span) {
+                capacity *= 2;
+            }
+            long newFirstDay = day < firstDay ? lastDay - capacity + 1 : firstDay;
+            long[] newAmounts = new long[capacity];
+            System.arraycopy(amounts, 0, newAmounts, (int) (firstDay - newFirstDay), amounts.length);
+            firstDay = newFirstDay;
+            rebuild(newAmounts);
+        }
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves the tree so that it is centred on the median of the days with a total, putting the days it no
+    //          longer covers in the outliers, and raises the number of outliers at which it is moved next
+    private void moveToMostDays() {
+        TreeMap<Long, Long> days = new TreeMap<>(outliers);
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] != 0) {
+                days.merge(firstDay + i, amounts[i], Long::sum);
+            }
+        }
+        List<Long> sorted = new ArrayList<>(days.keySet());
+        long median = sorted.get(sorted.size() / 2);
+        long start = Math.max(sorted.get(0), median - MAX_CAPACITY / 2);
+        amounts = new long[0];
+        outliers = new TreeMap<>();
+        firstDay = start;
+        rebuild(new long[INITIAL_CAPACITY]);
+        for (Map.Entry<Long, Long> e : days.entrySet()) {
+            if (e.getKey() >= start && ensureCovers(e.getKey())) {
+                amounts[(int) (e.getKey() - firstDay)] = e.getValue();
+            } else {
+                outliers.put(e.getKey(), e.getValue());
+            }
+        }
+        rebuild(amounts);
+        outliersToMove = Math.max(MIN_OUTLIERS_TO_MOVE, 2 * outliers.size());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the daily amounts and rebuilds the Fenwick tree over them in linear time
+    private void rebuild(long[] newAmounts) {
+        amounts = newAmounts;
+        tree = new long[amounts.length + 1];
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += amounts[i - 1];
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
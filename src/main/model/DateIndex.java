@@ -0,0 +1,78 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+// Represents an index of entries ordered by their date; entries on the same day are kept in the
+// order of their sequence numbers, i.e. the order they were added to their report, however often they are
+// removed and indexed again while they change; entries with the same sequence number are kept in the order they
+// were indexed
+public class DateIndex {
+    private final TreeMap<Long, List<Entry>> entriesByDay;  // epoch day -> entries on that day
+
+    // EFFECTS: constructs an empty index
+    public DateIndex() {
+        entriesByDay = new TreeMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds entry e to the index under the day of its date, after the entries on that day whose sequence
+    //          number is not larger than that of e
+    public void add(Entry e) {
+        List<Entry> entries = entriesByDay.computeIfAbsent(e.date.toEpochDay(), day -> new ArrayList<>());
+        if (entries.isEmpty() || entries.get(entries.size() - 1).sequence <= e.sequence) {
+            entries.add(e);
+        } else {
+            entries.add(firstAfter(entries, e.sequence), e);
+        }
+    }
+
+    // REQUIRES: entry e was added to the index and its date has not changed since
+    // MODIFIES: this
+    // EFFECTS: removes entry e from the index
+    public void remove(Entry e) {
+        long day = e.date.toEpochDay();
+        List<Entry> entries = entriesByDay.get(day);
+        if (entries == null) {
+            return;
+        }
+        for (int i = firstAfter(entries, e.sequence - 1); i < entries.size()
+                && entries.get(i).sequence == e.sequence; i++) {
+            if (entries.get(i) == e) {
+                entries.remove(i);
+                break;
+            }
+        }
+        if (entries.isEmpty()) {
+            entriesByDay.remove(day);
+        }
+    }
+
+    // EFFECTS: returns the index of the first of entries, which are ordered by sequence number, whose sequence
+    //          number is larger than the given one; entries.size() if there is none
+    private static int firstAfter(List<Entry> entries, long sequence) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries.get(middle).sequence <= sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // EFFECTS: returns all indexed entries from epoch day startDay to epoch day endDay, inclusive, ordered by day
+    public List<Entry> getEntriesInRange(long startDay, long endDay) {
+        List<Entry> entriesInRange = new ArrayList<>();
+        if (startDay <= endDay) {
+            for (List<Entry> entries : entriesByDay.subMap(startDay, true, endDay, true).values()) {
+                entriesInRange.addAll(entries);
+            }
+        }
+        return entriesInRange;
+    }
+}
@@ -0,0 +1,31 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+// Represents conversions between the Calendar dates used by callers and the LocalDate values stored in entries
+public class Dates {
+
+    // EFFECTS: returns the date (year, month and day) of the given calendar
+    public static LocalDate fromCalendar(Calendar calendar) {
+        return LocalDate.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH));
+    }
+
+    // EFFECTS: returns the date with the given year, month (0-based, as in Calendar) and day; months and days
+    //          outside their usual range roll over into the neighbouring months and years, as in a lenient Calendar
+    public static LocalDate of(int year, int month, int day) {
+        return LocalDate.of(year, 1, 1).plusMonths(month).plusDays(day - 1L);
+    }
+
+    // EFFECTS: returns a new calendar set to the start of the given date
+    public static Calendar toCalendar(LocalDate date) {
+        return new GregorianCalendar(date.getYear(), date.getMonthValue() - 1, date.getDayOfMonth());
+    }
+
+    // EFFECTS: returns the number of days since 1970-01-01 of the given calendar's date
+    public static long toEpochDay(Calendar calendar) {
+        return fromCalendar(calendar).toEpochDay();
+    }
+}
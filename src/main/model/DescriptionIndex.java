@@ -0,0 +1,304 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Represents an inverted index of entries by their description, answering text queries without scanning every
+// entry. Entries are grouped by their exact description, and each distinct description is indexed under the words
+// and the trigrams (runs of three characters) of its case-folded form, so the index grows with the number of
+// distinct descriptions rather than with the number of entries. Queries ignore case; their results are grouped by
+// description, and the entries with the same description are in the order they were added or last changed. An
+// index may be changed and queried by several threads at once; each change and query holds the lock of the index.
+public class DescriptionIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Entry>> entriesByDescription;
+    private final TreeMap<String, Set<String>> descriptionsByWord;      // folded word -> descriptions with it
+    private final Map<String, Set<String>> descriptionsByGram;          // folded trigram -> descriptions with it
+
+    // EFFECTS: constructs an empty index
+    public DescriptionIndex() {
+        entriesByDescription = new HashMap<>();
+        descriptionsByWord = new TreeMap<>();
+        descriptionsByGram = new HashMap<>();
+    }
+
+    // EFFECTS: returns an index of the given entries
+    public static DescriptionIndex of(Collection<Entry> entries) {
+        DescriptionIndex index = new DescriptionIndex();
+        for (Entry e : entries) {
+            index.add(e);
+        }
+        return index;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds entry e to the index under its description
+    public synchronized void add(Entry e) {
+        Set<Entry> entries = entriesByDescription.get(e.description);
+        if (entries == null) {
+            entries = new LinkedHashSet<>();
+            entriesByDescription.put(e.description, entries);
+            indexDescription(e.description);
+        }
+        entries.add(e);
+    }
+
+    // REQUIRES: entry e was added to the index and its description has not changed since
+    // MODIFIES: this
+    // EFFECTS: removes entry e from the index
+    public synchronized void remove(Entry e) {
+        Set<Entry> entries = entriesByDescription.get(e.description);
+        if (entries != null && entries.remove(e) && entries.isEmpty()) {
+            entriesByDescription.remove(e.description);
+            unindexDescription(e.description);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: indexes description under each of its words and trigrams
+    void indexDescription(String description) {
+        String folded = fold(description);
+        for (String word : words(folded)) {
+            descriptionsByWord.computeIfAbsent(word, w -> new HashSet<>()).add(description);
+        }
+        for (String gram : grams(folded)) {
+            descriptionsByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(description);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes description from under each of its words and trigrams
+    void unindexDescription(String description) {
+        String folded = fold(description);
+        for (String word : words(folded)) {
+            removeFrom(descriptionsByWord, word, description);
+        }
+        for (String gram : grams(folded)) {
+            removeFrom(descriptionsByGram, gram, description);
+        }
+    }
+
+    // MODIFIES: postings
+    // EFFECTS: removes description from the descriptions under key, dropping the key if none are left
+    private static void removeFrom(Map<String, Set<String>> postings, String key, String description) {
+        Set<String> descriptions = postings.get(key);
+        if (descriptions != null && descriptions.remove(description) && descriptions.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    // EFFECTS: returns the indexed entries whose description contains text, ignoring case
+    public List<Entry> getEntriesContaining(String text) {
+        return getEntriesContaining(text, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // EFFECTS: returns the indexed entries from epoch day startDay to epoch day endDay, inclusive, whose description
+    //          contains text, ignoring case
+    public synchronized List<Entry> getEntriesContaining(String text, long startDay, long endDay) {
+        String folded = fold(text);
+        Collection<String> candidates = folded.length() < GRAM_LENGTH
+                ? descriptions() : smallestPosting(grams(folded));
+        List<String> matches = new ArrayList<>();
+        for (String description : candidates) {
+            if (fold(description).contains(folded)) {
+                matches.add(description);
+            }
+        }
+        return entriesOf(matches, startDay, endDay);
+    }
+
+    // EFFECTS: returns the descriptions under the trigram with the fewest descriptions; every description containing
+    //          all of the trigrams is among them
+    private Collection<String> smallestPosting(Set<String> grams) {
+        Collection<String> smallest = null;
+        for (String gram : grams) {
+            Set<String> descriptions = descriptionsByGram.get(gram);
+            if (descriptions == null) {
+                return new ArrayList<>();
+            }
+            if (smallest == null || descriptions.size() < smallest.size()) {
+                smallest = descriptions;
+            }
+        }
+        return smallest;
+    }
+
+    // EFFECTS: returns the indexed entries whose description has a word that starts with prefix, ignoring case
+    public List<Entry> getEntriesWithWordPrefix(String prefix) {
+        return getEntriesWithWordPrefix(prefix, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // EFFECTS: returns the indexed entries from epoch day startDay to epoch day endDay, inclusive, whose description
+    //          has a word that starts with prefix, ignoring case
+    public synchronized List<Entry> getEntriesWithWordPrefix(String prefix, long startDay, long endDay) {
+        String folded = fold(prefix);
+        Set<String> matches = new LinkedHashSet<>();
+        for (Set<String> descriptions : descriptionsByWord.subMap(folded, folded + Character.MAX_VALUE).values()) {
+            matches.addAll(descriptions);
+        }
+        return entriesOf(matches, startDay, endDay);
+    }
+
+    // REQUIRES: maxDistance >= 0
+    // EFFECTS: returns the indexed entries whose description has a word that can be turned into word, ignoring
+    //          case, by at most maxDistance insertions, deletions and substitutions of single characters
+    public List<Entry> getEntriesWithSimilarWord(String word, int maxDistance) {
+        return getEntriesWithSimilarWord(word, maxDistance, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    // REQUIRES: maxDistance >= 0
+    // EFFECTS: returns the indexed entries from epoch day startDay to epoch day endDay, inclusive, whose description
+    //          has a word that can be turned into word, ignoring case, by at most maxDistance insertions, deletions
+    //          and substitutions of single characters
+    public synchronized List<Entry> getEntriesWithSimilarWord(String word, int maxDistance, long startDay,
+                                                             long endDay) {
+        DistanceTable table = new DistanceTable(fold(word), maxDistance);
+        Set<String> matches = new LinkedHashSet<>();
+        String candidate = descriptionsByWord.isEmpty() ? null : descriptionsByWord.firstKey();
+        while (candidate != null) {
+            int depth = table.prune(candidate);
+            if (depth < 0) {
+                matches.addAll(descriptionsByWord.get(candidate));
+            }
+            String next = depth < 0 || depth > candidate.length() ? null
+                    : descriptionsByWord.higherKey(candidate.substring(0, depth) + Character.MAX_VALUE);
+            candidate = next == null || next.compareTo(candidate) <= 0 ? descriptionsByWord.higherKey(candidate) : next;
+        }
+        return entriesOf(matches, startDay, endDay);
+    }
+
+    // EFFECTS: returns true if the edit distance between a and b is at most maxDistance
+    static boolean isWithinDistance(String a, String b, int maxDistance) {
+        return new DistanceTable(b, maxDistance).prune(a) < 0;
+    }
+
+    // EFFECTS: returns the distinct descriptions of the indexed entries
+    Collection<String> descriptions() {
+        return entriesByDescription.keySet();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the entries with the given descriptions from epoch day startDay to epoch day endDay, inclusive
+    List<Entry> entriesOf(Collection<String> descriptions, long startDay, long endDay) {
+        List<Entry> entries = new ArrayList<>();
+        for (String description : descriptions) {
+            for (Entry e : entriesByDescription.get(description)) {
+                long day = e.date.toEpochDay();
+                if (day >= startDay && day <= endDay) {
+                    entries.add(e);
+                }
+            }
+        }
+        return entries;
+    }
+
+    // EFFECTS: returns text with each character folded to a single case, the way String.equalsIgnoreCase compares
+    //          characters, so that the folded text has the same length as text
+    static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    // EFFECTS: returns the words of folded text, which are its runs of letters and digits
+    private static Set<String> words(String folded) {
+        Set<String> words = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean inWord = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (inWord && start < 0) {
+                start = i;
+            } else if (!inWord && start >= 0) {
+                words.add(folded.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    // EFFECTS: returns the trigrams of folded text
+    private static Set<String> grams(String folded) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    // Represents the edit distances between the prefixes of a target word and those of the words of a vocabulary
+    // read in sorted order. Each row holds the distances from one more character of the current word, so the rows of
+    // the prefix a word shares with the word before it are reused, and no row is computed twice for a prefix.
+    private static class DistanceTable {
+        private final String target;
+        private final int maxDistance;
+        private int[][] rows;           // rows[i][j] is the distance between i chars of word and j chars of target
+        private String word;            // the word the rows were last computed for
+        private int computed;           // the number of rows of word computed, after the first
+
+        // REQUIRES: maxDistance >= 0
+        // EFFECTS: constructs a table of the distances to target, for words up to maxDistance edits away
+        DistanceTable(String target, int maxDistance) {
+            this.target = target;
+            this.maxDistance = maxDistance;
+            rows = new int[1][target.length() + 1];
+            for (int j = 0; j <= target.length(); j++) {
+                rows[0][j] = j;
+            }
+            word = "";
+        }
+
+        // MODIFIES: this
+        // EFFECTS: returns -1 if next is at most maxDistance edits away from target; otherwise the length of the
+        //          shortest prefix of next that every word starting with it is too far away, or next.length() + 1
+        //          if only next itself is known to be too far away
+        int prune(String next) {
+            int shared = 0;
+            int limit = Math.min(computed, Math.min(word.length(), next.length()));
+            while (shared < limit && word.charAt(shared) == next.charAt(shared)) {
+                shared++;
+            }
+            word = next;
+            if (rows.length <= next.length()) {
+                rows = Arrays.copyOf(rows, next.length() + 1);
+            }
+            for (int i = shared + 1; i <= next.length(); i++) {
+                computed = i;
+                if (computeRow(i) > maxDistance) {
+                    return i;
+                }
+            }
+            computed = next.length();
+            return rows[next.length()][target.length()] <= maxDistance ? -1 : next.length() + 1;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: computes the row of the first i characters of word from the row before it, and returns the
+        //          smallest distance in the row
+        private int computeRow(int i) {
+            if (rows[i] == null) {
+                rows[i] = new int[target.length() + 1];
+            }
+            int[] previous = rows[i - 1];
+            int[] current = rows[i];
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= target.length(); j++) {
+                int substitution = previous[j - 1] + (word.charAt(i - 1) == target.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            return rowMin;
+        }
+    }
+}
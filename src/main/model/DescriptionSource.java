@@ -0,0 +1,9 @@
+package model;
+
+// Represents a store of descriptions that a ColumnarReport only reads once they are needed, e.g. the text of the
+// file a budget was read from; each description is found by the key it was appended to the report with
+public interface DescriptionSource {
+
+    // EFFECTS: returns the description with the given key
+    String getDescription(long key);
+}
@@ -5,30 +5,80 @@ import exception.NegativeInputException;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import java.text.DecimalFormat;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
+import java.util.concurrent.atomic.AtomicLong;
 
-// Represents an entry for a report having a description, amount (in dollars), and date of entry
+// Represents an entry for a report having a unique id, a description, amount (in dollars, stored exactly in cents),
+// and date of entry
 public abstract class Entry implements Writable {
+    private static final AtomicLong NEXT_ID = new AtomicLong(1);
+
+    long id;
     protected String description;
-    protected double amount;
-    protected Calendar date;
+    protected long cents;
+    protected LocalDate date;
+    Report report;      // the report this entry belongs to; null if it is not in a report
+    int row;            // the row of this entry in its report; may be out of date until the report looks it up
+    long sequence;      // the order in which this entry was added to its report, which keeps its place among the
+                        // entries on the same day while it changes
+    private String display;     // the display string of the entry; null if it has to be formatted again
 
     // EFFECTS: constructs an entry with given description, amount (in dollars) and date of entry;
     //          throws NegativeInputException if amount is negative;
     //          throws EmptyStringException if description is an empty string or only contains whitespace
     public Entry(String description, double amount, Calendar date) throws EmptyStringException, NegativeInputException {
+        this(description, amount, Dates.fromCalendar(date));
+    }
+
+    // EFFECTS: constructs an entry with given description, amount (in dollars) and date of entry;
+    //          the amount is rounded half up to the nearest cent;
+    //          throws NegativeInputException if amount is negative;
+    //          throws EmptyStringException if description is an empty string or only contains whitespace
+    public Entry(String description, double amount, LocalDate date) throws EmptyStringException,
+            NegativeInputException {
         if (description.trim().isEmpty()) {
             throw  new EmptyStringException();
         } else if (amount < 0) {
             throw  new NegativeInputException();
         }
+        this.id = nextId();
         this.description = description;
-        this.amount = amount;
+        this.cents = Money.toCents(amount);
+        this.date = date;
+    }
+
+    // REQUIRES: description is not empty and cents >= 0
+    // EFFECTS: constructs an entry with the given id, description, amount in cents and date of entry,
+    //          without giving out a new id
+    Entry(long id, String description, long cents, LocalDate date) {
+        this.id = id;
+        this.description = description;
+        this.cents = cents;
         this.date = date;
     }
 
+    // MODIFIES: this
+    // EFFECTS: returns a new id that has not been given to any entry
+    static long nextId() {
+        return NEXT_ID.getAndIncrement();
+    }
+
+    // REQUIRES: this entry is not in a Report
+    // MODIFIES: this
+    // EFFECTS: sets the id of this entry to an id it was given before, e.g. when it is read from file;
+    //          entries created afterwards get larger ids
+    public void setId(long id) {
+        this.id = id;
+        reserveId(id);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes sure that ids given to new entries are larger than id
+    static void reserveId(long id) {
+        NEXT_ID.accumulateAndGet(id + 1, Math::max);
+    }
+
     // MODIFIES: this
     // EFFECTS: sets the description field;
     //          throws EmptyStringException if description is an empty string or only contains whitespace
@@ -36,25 +86,74 @@ public abstract class Entry implements Writable {
         if (description.trim().isEmpty()) {
             throw new EmptyStringException();
         }
+        beforeChange();
         this.description = description;
+        afterChange();
     }
 
     // MODIFIES: this
-    // EFFECTS: sets the amount field;
+    // EFFECTS: sets the amount (in dollars), rounded half up to the nearest cent;
     //          throws NegativeInputException if the given amount is negative
     public void setAmount(double amount) throws NegativeInputException {
         if (amount < 0) {
             throw new NegativeInputException();
         }
-        this.amount = amount;
+        setAmountInCents(Money.toCents(amount));
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the amount in cents;
+    //          throws NegativeInputException if the given amount is negative
+    public void setAmountInCents(long cents) throws NegativeInputException {
+        if (cents < 0) {
+            throw new NegativeInputException();
+        }
+        beforeChange();
+        this.cents = cents;
+        afterChange();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the date field to the date of the given calendar; later changes to the calendar do not
+    //          affect this entry
     public void setDate(Calendar date) {
-        this.date = date;
+        setDate(Dates.fromCalendar(date));
     }
 
+    // MODIFIES: this
+    // EFFECTS: sets the date field to the given year, month (0-based) and day
     public void setDate(int year, int month, int day) {
-        this.date.set(year, month, day);
+        setDate(Dates.of(year, month, day));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the date field
+    public void setDate(LocalDate date) {
+        beforeChange();
+        this.date = date;
+        afterChange();
+    }
+
+    // MODIFIES: report
+    // EFFECTS: removes the current values of this entry from the report it belongs to, if any, and gives them to
+    //          the snapshots of the report; the values are removed first, so that a report that refuses snapshots
+    //          while it is being changed already counts the change when a snapshot misses the values
+    private void beforeChange() {
+        if (report != null) {
+            report.unindex(this);
+            report.preserve(this);
+        }
+    }
+
+    // MODIFIES: this, report
+    // EFFECTS: forgets the display string of this entry, adds the current values of this entry to the report it
+    //          belongs to, if any, and tells the listeners of the report about the change
+    private void afterChange() {
+        display = null;
+        if (report != null) {
+            report.index(this);
+            report.fireChanged(this);
+        }
     }
 
     public Entry getEntry() {
@@ -65,32 +164,46 @@ public abstract class Entry implements Writable {
         return this.description;
     }
 
+    public long getId() {
+        return this.id;
+    }
+
     public double getAmount() {
-        return this.amount;
+        return Money.toDollars(this.cents);
     }
 
+    public long getAmountInCents() {
+        return this.cents;
+    }
+
+    // EFFECTS: returns a new calendar set to the date of this entry; changing it does not affect this entry
     public Calendar getDate() {
+        return Dates.toCalendar(this.date);
+    }
+
+    public LocalDate getLocalDate() {
         return this.date;
     }
 
-    // EFFECTS: Returns a string representation of entry
+    // EFFECTS: Returns a string representation of entry, formatted by EntryFormatter; the string is kept until the
+    //          entry is changed, so calling this again, e.g. each time a list is repainted, allocates nothing
     @Override
     public String toString() {
-        DecimalFormat decimalFormat = new DecimalFormat("###,##0.00");
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("MMM dd yyyy");
-        String amountStr = decimalFormat.format(this.amount);
-        amountStr = String.format("%-30s", amountStr);
-        String dateStr = simpleDateFormat.format(this.date.getTime());
-        dateStr = String.format("%-30s", dateStr);
-        return  dateStr + "$" + amountStr + this.description;
+        String text = display;
+        if (text == null) {
+            text = EntryFormatter.format(this);
+            display = text;
+        }
+        return text;
     }
 
     // EFFECTS: Returns entry as a JSON object
     @Override
     public JSONObject toJson() {
         JSONObject jsonObject = new JSONObject();
+        jsonObject.put("id", this.id);
         jsonObject.put("description", this.description);
-        jsonObject.put("amount", this.amount);
+        jsonObject.put("amount", getAmount());
         jsonObject.put("date", dateToJson());
         return jsonObject;
     }
@@ -98,9 +211,9 @@ public abstract class Entry implements Writable {
     // EFFECTS: Returns date as a JSON object
     private JSONObject dateToJson() {
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("year", this.date.get(Calendar.YEAR));
-        jsonObject.put("month", this.date.get(Calendar.MONTH));
-        jsonObject.put("day", this.date.get(Calendar.DAY_OF_MONTH));
+        jsonObject.put("year", this.date.getYear());
+        jsonObject.put("month", this.date.getMonthValue() - 1);
+        jsonObject.put("day", this.date.getDayOfMonth());
         return jsonObject;
     }
 }
@@ -0,0 +1,109 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+// Represents a filter that keeps the entries whose description contains some text, ignoring case, whose amount is
+// in a range and whose date is in a range. Applied to a report, the filter finds the entries with the text through
+// the description index of the report rather than by reading every description. A filter never changes once
+// constructed, so it can be applied on another thread than the one that built it.
+public class EntryFilter {
+    public static final EntryFilter ALL = new EntryFilter("", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX);
+
+    private static final int CHECK_INTERVAL = 1024;    // number of entries matched between checks for interruption
+
+    private final String text;
+    private final long minCents;
+    private final long maxCents;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    // EFFECTS: constructs a filter keeping the entries whose description contains text, ignoring case, whose amount
+    //          in cents is from minCents to maxCents and whose date is from startDate to endDate, all inclusive;
+    //          e.g. "" keeps any description, and LocalDate.MIN and LocalDate.MAX keep any date
+    public EntryFilter(String text, long minCents, long maxCents, LocalDate startDate, LocalDate endDate) {
+        this.text = text;
+        this.minCents = minCents;
+        this.maxCents = maxCents;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    // EFFECTS: returns true if the filter keeps every entry; false otherwise
+    public boolean matchesAll() {
+        return text.isEmpty() && minCents <= 0 && maxCents == Long.MAX_VALUE
+                && startDate.equals(LocalDate.MIN) && endDate.equals(LocalDate.MAX);
+    }
+
+    // EFFECTS: returns true if the filter keeps only entries whose description contains some text; false otherwise
+    public boolean hasText() {
+        return !text.isEmpty();
+    }
+
+    // EFFECTS: returns true if the filter keeps entry e; false otherwise
+    public boolean matches(Entry e) {
+        return isInRanges(e) && contains(e.description);
+    }
+
+    // EFFECTS: returns true if the amount and date of entry e are in the ranges of the filter; false otherwise
+    private boolean isInRanges(Entry e) {
+        return e.cents >= minCents && e.cents <= maxCents && !e.date.isBefore(startDate) && !e.date.isAfter(endDate);
+    }
+
+    // EFFECTS: returns true if description contains the text of the filter, ignoring case; false otherwise
+    private boolean contains(String description) {
+        int last = description.length() - text.length();
+        for (int i = 0; i <= last; i++) {
+            if (description.regionMatches(true, i, text, 0, text.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // MODIFIES: report
+    // EFFECTS: returns the entries of report the filter keeps, in the order report lists its entries in; if the
+    //          filter has text, the entries whose description contains it are looked up in the description index of
+    //          report, so only those are checked against the ranges of the filter; otherwise every entry is checked
+    public List<Entry> apply(Report report) {
+        if (!hasText()) {
+            return apply(report.getAllEntries());
+        }
+        List<Entry> matches = new ArrayList<>();
+        for (Entry e : report.getDescriptionIndex().getEntriesContaining(text, startDay(), endDay())) {
+            if (isInRanges(e)) {
+                matches.add(e);
+            }
+        }
+        report.sortInListOrder(matches);
+        return matches;
+    }
+
+    // EFFECTS: returns the epoch day of the start of the date range, or Long.MIN_VALUE if the range has no start
+    private long startDay() {
+        return startDate.equals(LocalDate.MIN) ? Long.MIN_VALUE : startDate.toEpochDay();
+    }
+
+    // EFFECTS: returns the epoch day of the end of the date range, or Long.MAX_VALUE if the range has no end
+    private long endDay() {
+        return endDate.equals(LocalDate.MAX) ? Long.MAX_VALUE : endDate.toEpochDay();
+    }
+
+    // EFFECTS: returns the entries the filter keeps, in the order of entries; throws CancellationException if the
+    //          current thread is interrupted, e.g. because a newer filter has made the result useless
+    public List<Entry> apply(List<Entry> entries) {
+        List<Entry> matches = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (i % CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Filtering was cancelled");
+            }
+            Entry e = entries.get(i);
+            if (matches(e)) {
+                matches.add(e);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+// Represents the formatting of entries for display, as in "Feb 15 2020", padded to COLUMN_WIDTH, then "$",
+// "1,234.50" padded to COLUMN_WIDTH, then the description. The month names and separators of the default locale are
+// looked up once, and amounts are formatted from their exact cents with no DecimalFormat or String.format, so
+// formatting an entry only allocates the string it returns.
+public final class EntryFormatter {
+    public static final int COLUMN_WIDTH = 30;
+
+    private static final String[] MONTHS = monthNames();
+    private static final char GROUPING_SEPARATOR = DecimalFormatSymbols.getInstance().getGroupingSeparator();
+    private static final char DECIMAL_SEPARATOR = DecimalFormatSymbols.getInstance().getDecimalSeparator();
+    private static final int GROUP_SIZE = 3;
+
+    private EntryFormatter() {
+    }
+
+    // EFFECTS: returns the abbreviated names of the months in the default locale, January first
+    private static String[] monthNames() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM");
+        String[] names = new String[12];
+        for (int month = 1; month <= 12; month++) {
+            names[month - 1] = formatter.format(LocalDate.of(2000, month, 1));
+        }
+        return names;
+    }
+
+    // EFFECTS: returns the display string of entry e
+    public static String format(Entry e) {
+        StringBuilder text = new StringBuilder(2 * COLUMN_WIDTH + 1 + e.description.length());
+        appendDate(text, e.date);
+        pad(text, COLUMN_WIDTH);
+        text.append('$');
+        int amountStart = text.length();
+        appendAmount(text, e.cents);
+        pad(text, amountStart + COLUMN_WIDTH);
+        return text.append(e.description).toString();
+    }
+
+    // MODIFIES: text
+    // EFFECTS: appends date to text as in "Feb 05 2020", with the year padded to four digits, and returns text
+    public static StringBuilder appendDate(StringBuilder text, LocalDate date) {
+        text.append(MONTHS[date.getMonthValue() - 1]).append(' ');
+        if (date.getDayOfMonth() < 10) {
+            text.append('0');
+        }
+        text.append(date.getDayOfMonth()).append(' ');
+        for (int year = Math.max(date.getYear(), 1); year < 1000; year *= 10) {
+            text.append('0');
+        }
+        return text.append(date.getYear());
+    }
+
+    // REQUIRES: cents >= 0
+    // MODIFIES: text
+    // EFFECTS: appends the amount in cents to text in dollars with grouped thousands and two decimals, as in
+    //          "1,234.50", and returns text
+    public static StringBuilder appendAmount(StringBuilder text, long cents) {
+        long dollars = cents / 100;
+        int start = text.length();
+        text.append(dollars);
+        for (int i = text.length() - GROUP_SIZE; i > start; i -= GROUP_SIZE) {
+            text.insert(i, GROUPING_SEPARATOR);
+        }
+        text.append(DECIMAL_SEPARATOR);
+        long fraction = cents % 100;
+        if (fraction < 10) {
+            text.append('0');
+        }
+        return text.append(fraction);
+    }
+
+    // MODIFIES: text
+    // EFFECTS: appends spaces to text until it is length characters long
+    public static void pad(StringBuilder text, int length) {
+        while (text.length() < length) {
+            text.append(' ');
+        }
+    }
+}
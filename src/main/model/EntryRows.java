@@ -0,0 +1,108 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Represents the entries of a report in the order they were added, as a read-only list that reads straight from the
+// array holding them, without copying it. Each entry keeps its row, so the row of an entry is found without
+// searching; when an entry is removed, the rows after it shift up by one and their entries are renumbered the next
+// time a row is looked up. The array can be shared with snapshots in constant time: rows are only ever appended past
+// the rows a snapshot reads, and the array is copied before the first removal after it was shared.
+class EntryRows extends AbstractList<Entry> implements RandomAccess {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NONE_STALE = Integer.MAX_VALUE;
+
+    private Entry[] rows;
+    private int size;
+    private int firstStale;     // first row whose entry may have an out-of-date row number; NONE_STALE if none
+    private boolean shared;     // true if snapshots may read the array, so its rows must not be changed
+
+    // EFFECTS: constructs an empty list of rows
+    EntryRows() {
+        rows = new Entry[INITIAL_CAPACITY];
+        firstStale = NONE_STALE;
+    }
+
+    // MODIFIES: this, e
+    // EFFECTS: adds e in a new last row
+    void append(Entry e) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+            shared = false;
+        }
+        e.row = size;
+        rows[size++] = e;
+        modCount++;
+    }
+
+    // REQUIRES: e is in one of the rows
+    // MODIFIES: this
+    // EFFECTS: removes the row of e, shifting the rows after it up by one
+    void remove(Entry e) {
+        int row = rowOf(e);
+        if (shared) {
+            rows = rows.clone();
+            shared = false;
+        }
+        System.arraycopy(rows, row + 1, rows, row, size - row - 1);
+        rows[--size] = null;
+        firstStale = Math.min(firstStale, row);
+        modCount++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a read-only list of the entries in the rows now, which later changes to the rows do not
+    //          affect, without copying them; the list can be read from any thread once it has been handed over
+    List<Entry> share() {
+        shared = true;
+        return Collections.unmodifiableList(Arrays.asList(rows).subList(0, size));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the row that e would be in, renumbering the entries of the rows that have shifted if needed
+    private int rowOf(Entry e) {
+        if (e.row >= firstStale) {
+            for (int i = firstStale; i < size; i++) {
+                rows[i].row = i;
+            }
+            firstStale = NONE_STALE;
+        }
+        return e.row;
+    }
+
+    @Override
+    public Entry get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Row " + index + " of " + size);
+        }
+        return rows[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: returns the row of o; -1 if it is not in the rows
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Entry)) {
+            return -1;
+        }
+        int row = rowOf((Entry) o);
+        return row >= 0 && row < size && rows[row] == o ? row : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+}
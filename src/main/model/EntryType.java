@@ -0,0 +1,31 @@
+package model;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+
+import java.time.LocalDate;
+
+// Represents the kind of an entry: an expense or an income
+public enum EntryType {
+    EXPENSE,
+    INCOME;
+
+    // REQUIRES: description is not empty and cents >= 0
+    // EFFECTS: returns a new entry of this type with the given description, amount in cents and date
+    public Entry newEntry(String description, long cents, LocalDate date) {
+        try {
+            Entry entry = (this == EXPENSE) ? new Expense(description, 0, date) : new Income(description, 0, date);
+            entry.cents = cents;
+            return entry;
+        } catch (EmptyStringException | NegativeInputException e) {
+            throw new IllegalArgumentException("Invalid " + this + " entry: " + description);
+        }
+    }
+
+    // REQUIRES: description is not empty and cents >= 0
+    // EFFECTS: returns an entry of this type with the given id, description, amount in cents and date,
+    //          without giving out a new id
+    Entry entryWithId(long id, String description, long cents, LocalDate date) {
+        return (this == EXPENSE) ? new Expense(id, description, cents, date) : new Income(id, description, cents, date);
+    }
+}
@@ -3,6 +3,7 @@ package model;
 import exception.EmptyStringException;
 import exception.NegativeInputException;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 
 // Represents an expense having a description, amount (in dollars), date of entry
@@ -15,4 +16,18 @@ public class Expense extends Entry {
             EmptyStringException {
         super(description, amount, date);
     }
+
+    // EFFECTS: constructs an entry with given description, amount (in dollars) and date of entry;
+    //          throws NegativeInputException if amount is negative;
+    //          throws EmptyStringException if description is an empty string or only contains whitespace
+    public Expense(String description, double amount, LocalDate date) throws NegativeInputException,
+            EmptyStringException {
+        super(description, amount, date);
+    }
+
+    // REQUIRES: description is not empty and cents >= 0
+    // EFFECTS: constructs an entry with the given id, description, amount in cents and date of entry
+    Expense(long id, String description, long cents, LocalDate date) {
+        super(id, description, cents, date);
+    }
 }
@@ -7,4 +7,9 @@ public class ExpenseReport extends Report {
     public ExpenseReport() {
         super();
     }
+
+    @Override
+    public EntryType getType() {
+        return EntryType.EXPENSE;
+    }
 }
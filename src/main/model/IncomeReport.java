@@ -7,4 +7,9 @@ public class IncomeReport extends Report {
     public IncomeReport() {
         super();
     }
+
+    @Override
+    public EntryType getType() {
+        return EntryType.INCOME;
+    }
 }
@@ -0,0 +1,71 @@
+package model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Represents conversions between dollar amounts and the exact amounts in cents that entries and reports store,
+// and a summation kernel over amounts in cents that uses the JDK Vector API when it is available. The Vector API
+// kernel is only used when its classes are on the class path and the program is run with
+// --add-modules jdk.incubator.vector; otherwise the scalar loop is used
+public class Money {
+    private static final String VECTOR_SUMS = "model.VectorSums";
+    private static final SumKernel VECTOR_KERNEL = loadVectorKernel();
+
+    // EFFECTS: returns the given dollar amount in cents, rounding half up to the nearest cent;
+    //          throws NumberFormatException if dollars is not a finite number
+    //          throws ArithmeticException if the amount in cents does not fit in a long
+    public static long toCents(double dollars) {
+        return BigDecimal.valueOf(dollars).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // EFFECTS: returns the given amount in cents in dollars
+    public static double toDollars(long cents) {
+        return cents / 100.0;
+    }
+
+    // REQUIRES: 0 <= from <= to <= cents.length
+    // EFFECTS: returns the sum of cents[from] to cents[to - 1]
+    public static long sum(long[] cents, int from, int to) {
+        if (VECTOR_KERNEL != null) {
+            return VECTOR_KERNEL.sum(cents, from, to);
+        }
+        return scalarSum(cents, from, to);
+    }
+
+    // REQUIRES: 0 <= from <= to <= cents.length
+    // EFFECTS: returns the sum of cents[from] to cents[to - 1] without using the Vector API
+    public static long scalarSum(long[] cents, int from, int to) {
+        long sum0 = 0;
+        long sum1 = 0;
+        long sum2 = 0;
+        long sum3 = 0;
+        int i = from;
+        for (; i + 3 < to; i += 4) {
+            sum0 += cents[i];
+            sum1 += cents[i + 1];
+            sum2 += cents[i + 2];
+            sum3 += cents[i + 3];
+        }
+        for (; i < to; i++) {
+            sum0 += cents[i];
+        }
+        return sum0 + sum1 + sum2 + sum3;
+    }
+
+    // EFFECTS: returns true if sum uses the Vector API
+    public static boolean isVectorized() {
+        return VECTOR_KERNEL != null;
+    }
+
+    // EFFECTS: returns the Vector API kernel if its classes and the jdk.incubator.vector module are available to
+    //          this program; null otherwise
+    private static SumKernel loadVectorKernel() {
+        try {
+            SumKernel kernel = Class.forName(VECTOR_SUMS).asSubclass(SumKernel.class)
+                    .getDeclaredConstructor().newInstance();
+            return kernel.sum(new long[] {1, 2}, 0, 2) == 3 ? kernel : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
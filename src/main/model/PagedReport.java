@@ -0,0 +1,195 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Calendar;
+import java.util.List;
+import java.util.SortedMap;
+
+// Represents a report of a PartitionedBudget, holding the entries of the partitions read so far. Each query reads
+// the partitions it needs first: a range query reads the months in the range, adding or moving an entry reads the
+// month of its date, and queries over all entries read every partition. The number and total amount of the entries
+// are taken from the summaries of the partitions not read yet, so they read nothing. Reading a partition is not a
+// change to the report, so its listeners are not told about the entries read.
+public class PagedReport extends Report {
+    private final EntryType type;
+    PartitionedBudget budget;
+
+    // EFFECTS: constructs an empty paged report holding entries of the given type; budget is set by the
+    //          PartitionedBudget that owns the report
+    PagedReport(EntryType type) {
+        super();
+        this.type = type;
+        rollup = new PagedRollup();
+    }
+
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: reads the partition of the month of e, then adds e to the report
+    @Override
+    public void addEntry(Entry e) {
+        budget.read(YearMonth.from(e.date));
+        super.addEntry(e);
+    }
+
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: adds e, just read from its partition, to the report without telling the listeners of the report,
+    //          since e was in the budget all along and only its partition had not been read
+    void page(Entry e) {
+        insert(e);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partition of the month of e, then adds the current values of e to the totals and indexes
+    //          of the report and marks the month as changed
+    @Override
+    void index(Entry e) {
+        YearMonth month = YearMonth.from(e.date);
+        budget.read(month);
+        super.index(e);
+        budget.markChanged(month);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the current values of e from the totals and indexes of the report and marks its month as
+    //          changed
+    @Override
+    void unindex(Entry e) {
+        super.unindex(e);
+        budget.markChanged(YearMonth.from(e.date));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the entry with the given id; reads every partition first if it is not among the entries read
+    //          so far and may be stored in a partition not read yet; null if there is no such entry
+    @Override
+    public Entry getEntryById(long id) {
+        Entry e = super.getEntryById(id);
+        if (e == null && budget.mayBeUnread(id)) {
+            budget.readAll();
+            e = super.getEntryById(id);
+        }
+        return e;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if the report has an entry with the given id, reading every partition first if needed
+    @Override
+    public boolean containsId(long id) {
+        return getEntryById(id) != null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads every partition, then returns the index of the entries in the report by description
+    @Override
+    public DescriptionIndex getDescriptionIndex() {
+        budget.readAll();
+        return super.getDescriptionIndex();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads every partition, then returns a read-only, point-in-time view of the report
+    @Override
+    public Report snapshot() {
+        budget.readAll();
+        return super.snapshot();
+    }
+
+    @Override
+    public EntryType getType() {
+        return type;
+    }
+
+    @Override
+    public int size() {
+        return super.size() + budget.unreadCount(type);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partitions of the months from startDate to endDate, then returns the entries in the range
+    @Override
+    public List<Entry> getEntriesInRange(Calendar startDate, Calendar endDate) {
+        budget.read(Dates.fromCalendar(startDate), Dates.fromCalendar(endDate));
+        return super.getEntriesInRange(startDate, endDate);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads every partition, then returns all entries in the report, in the order they were read or added
+    @Override
+    public List<Entry> getAllEntries() {
+        budget.readAll();
+        return super.getAllEntries();
+    }
+
+    @Override
+    public long sumInCents() {
+        return super.sumInCents() + budget.unreadCents(type);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partitions of the months from startDate to endDate, then returns the total in the range
+    @Override
+    public long sumInRangeInCents(Calendar startDate, Calendar endDate) {
+        budget.read(Dates.fromCalendar(startDate), Dates.fromCalendar(endDate));
+        return super.sumInRangeInCents(startDate, endDate);
+    }
+
+    @Override
+    public double min() {
+        budget.readAll();
+        return super.min();
+    }
+
+    @Override
+    public double max() {
+        budget.readAll();
+        return super.max();
+    }
+
+    @Override
+    public double mean() {
+        int n = size();
+        return n == 0 ? 0 : sum() / n;
+    }
+
+    // Represents the rollup of a paged report, which reads the partitions a total needs before returning it
+    private class PagedRollup extends Rollup {
+        @Override
+        public long getDayTotal(LocalDate date) {
+            budget.read(YearMonth.from(date));
+            return super.getDayTotal(date);
+        }
+
+        @Override
+        public long getMonthTotal(YearMonth month) {
+            budget.read(month);
+            return super.getMonthTotal(month);
+        }
+
+        @Override
+        public long getYearTotal(Year year) {
+            budget.read(year.atDay(1), year.atMonth(12).atEndOfMonth());
+            return super.getYearTotal(year);
+        }
+
+        @Override
+        public SortedMap<LocalDate, Long> getDayTotals() {
+            budget.readAll();
+            return super.getDayTotals();
+        }
+
+        @Override
+        public SortedMap<YearMonth, Long> getMonthTotals() {
+            budget.readAll();
+            return super.getMonthTotals();
+        }
+
+        @Override
+        public SortedMap<Year, Long> getYearTotals() {
+            budget.readAll();
+            return super.getYearTotals();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package model;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// Represents the place a PartitionedBudget reads its partitions from
+public interface PartitionLoader {
+    // EFFECTS: returns new expenses and incomes, not in any report, holding the entries stored for the given month;
+    //          throws UncheckedIOException if the partition cannot be read
+    List<Entry> load(YearMonth month);
+}
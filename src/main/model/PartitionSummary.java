@@ -0,0 +1,29 @@
+package model;
+
+// Represents the number and total amount of the expenses and incomes in one partition of a budget, kept in the
+// manifest so that totals can be read without reading the partition
+public class PartitionSummary {
+    private final int expenseCount;
+    private final long expenseCents;
+    private final int incomeCount;
+    private final long incomeCents;
+
+    // EFFECTS: constructs a summary of a partition with the given number and total amount in cents of expenses
+    //          and incomes
+    public PartitionSummary(int expenseCount, long expenseCents, int incomeCount, long incomeCents) {
+        this.expenseCount = expenseCount;
+        this.expenseCents = expenseCents;
+        this.incomeCount = incomeCount;
+        this.incomeCents = incomeCents;
+    }
+
+    // EFFECTS: returns the number of entries of the given type in the partition
+    public int getCount(EntryType type) {
+        return type == EntryType.EXPENSE ? expenseCount : incomeCount;
+    }
+
+    // EFFECTS: returns the total amount in cents of the entries of the given type in the partition
+    public long getCents(EntryType type) {
+        return type == EntryType.EXPENSE ? expenseCents : incomeCents;
+    }
+}
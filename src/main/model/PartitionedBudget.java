@@ -0,0 +1,128 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+// Represents a budget whose entries are stored in partitions, one for each month, that are read from a
+// PartitionLoader only when a query first needs them; a partition that no query touches is never read. Until a
+// partition is read, its entries count towards the size and total of the reports through its summary. The months
+// whose entries have been added, changed or deleted are kept so that only their partitions have to be written back.
+public class PartitionedBudget extends Budget {
+    private final PartitionLoader loader;
+    private final SortedMap<YearMonth, PartitionSummary> unread;    // month -> summary of a partition not read yet
+    private final SortedSet<YearMonth> changed;
+    private final long maxStoredId;
+    private boolean reading;                                        // true while a partition is being read
+
+    // REQUIRES: every entry stored in the partitions has an id <= maxStoredId
+    // EFFECTS: constructs a budget stored in the partitions with the given summaries, which are read from loader;
+    //          entries created from now on get ids larger than maxStoredId
+    public PartitionedBudget(SortedMap<YearMonth, PartitionSummary> partitions, long maxStoredId,
+                             PartitionLoader loader) {
+        super(new PagedReport(EntryType.EXPENSE), new PagedReport(EntryType.INCOME));
+        ((PagedReport) expenseReport).budget = this;
+        ((PagedReport) incomeReport).budget = this;
+        this.loader = loader;
+        this.unread = new TreeMap<>(partitions);
+        this.changed = new TreeSet<>();
+        this.maxStoredId = maxStoredId;
+        Entry.reserveId(maxStoredId);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partition of the given month, unless it has been read already or there is none
+    void read(YearMonth month) {
+        if (reading || !unread.containsKey(month)) {
+            return;
+        }
+        List<Entry> entries = loader.load(month);
+        unread.remove(month);
+        reading = true;
+        try {
+            for (Entry e : entries) {
+                ((PagedReport) (e instanceof Expense ? expenseReport : incomeReport)).page(e);
+            }
+        } finally {
+            reading = false;
+        }
+        changed.remove(month);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partitions of the months from the month of start to the month of end, inclusive
+    void read(LocalDate start, LocalDate end) {
+        if (!start.isAfter(end)) {
+            readAll(unread.subMap(YearMonth.from(start), YearMonth.from(end).plusMonths(1)).keySet());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads every partition not read yet
+    void readAll() {
+        readAll(unread.keySet());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the partitions of the given months
+    private void readAll(Collection<YearMonth> months) {
+        for (YearMonth month : new ArrayList<>(months)) {
+            read(month);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the given month as changed, unless its partition is being read
+    void markChanged(YearMonth month) {
+        if (!reading) {
+            changed.add(month);
+        }
+    }
+
+    // EFFECTS: returns true if an entry with the given id may be stored in a partition not read yet
+    boolean mayBeUnread(long id) {
+        return !reading && id <= maxStoredId && !unread.isEmpty();
+    }
+
+    // EFFECTS: returns the number of entries of the given type in the partitions not read yet
+    int unreadCount(EntryType type) {
+        int count = 0;
+        for (PartitionSummary summary : unread.values()) {
+            count += summary.getCount(type);
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the total amount in cents of the entries of the given type in the partitions not read yet
+    long unreadCents(EntryType type) {
+        long cents = 0;
+        for (PartitionSummary summary : unread.values()) {
+            cents += summary.getCents(type);
+        }
+        return cents;
+    }
+
+    // EFFECTS: returns the months whose partitions have not been read yet
+    public SortedSet<YearMonth> getUnreadMonths() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(unread.keySet()));
+    }
+
+    // EFFECTS: returns the months in which entries have been added, changed or deleted since the budget was
+    //          opened or last marked as saved
+    public SortedSet<YearMonth> getChangedMonths() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(changed));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets the changed months, once their partitions have been written
+    public void markSaved() {
+        changed.clear();
+    }
+}
@@ -4,32 +4,298 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import java.util.ArrayList;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-// Represents a report which is a list of entries
+// Represents a report which is a list of entries, each of which can be looked up by its id
 public abstract class Report implements Writable {
-    List<Entry> entries;
+    Map<Long, Entry> entries;       // id -> entry
+    EntryRows rows;                 // the entries in the order they were added
+    Totals totals;
+    DateIndex dateIndex;
+    DescriptionIndex descriptionIndex;  // null until the first text query
+    DailySums dailySums;
+    Rollup rollup;
+    List<WeakReference<SnapshotReport>> snapshots;  // snapshots that may still need pre-images
+    List<ReportListener> listeners;
+    long nextSequence;              // sequence number of the next entry added
+    private int[] batchDays;        // epoch days of the amounts held back by addAllEntries; null unless adding
+    private long[] batchCents;      // the amounts held back by addAllEntries
+    private int batchSize;          // number of amounts held back by addAllEntries
 
     // EFFECTS: constructs an empty Report
     public Report() {
-        entries = new ArrayList<>();
+        entries = new HashMap<>();
+        rows = new EntryRows();
+        totals = new Totals();
+        dateIndex = new DateIndex();
+        dailySums = new DailySums();
+        rollup = new Rollup();
+        snapshots = new CopyOnWriteArrayList<>();
+        listeners = new CopyOnWriteArrayList<>();
     }
 
-    // MODIFIES: this
-    // EFFECTS: adds an entry to the Report
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: adds an entry to the Report; if another entry in the Report has the same id,
+    //          e is given a new id first
     public void addEntry(Entry e) {
-        entries.add(e);
+        insert(e);
+        fireAdded(e);
+    }
+
+    // REQUIRES: no entry of added is already in a Report
+    // MODIFIES: this, added
+    // EFFECTS: adds the entries of added to the Report in order, as addEntry would one at a time, but adds their
+    //          amounts to the totals, daily sums and rollup in one pass once they are all in, summing the amounts of
+    //          each day first, and only then tells the listeners of the Report about them
+    public void addAllEntries(List<Entry> added) {
+        batchDays = new int[Math.max(added.size(), 1)];
+        batchCents = new long[batchDays.length];
+        batchSize = 0;
+        try {
+            for (Entry e : added) {
+                insert(e);
+            }
+        } finally {
+            addBatchedValues();
+        }
+        for (int i = 0; !listeners.isEmpty() && i < added.size(); i++) {
+            fireAdded(added.get(i));
+        }
     }
 
-    // REQUIRES: entry exists in the Report
     // MODIFIES: this
+    // EFFECTS: adds the amounts held back by addAllEntries to the totals, daily sums and rollup of the Report and
+    //          stops holding amounts back
+    private void addBatchedValues() {
+        int[] days = batchDays;
+        long[] cents = batchCents;
+        batchDays = null;
+        batchCents = null;
+        addAllValues(days, cents, 0, batchSize);
+    }
+
+    // REQUIRES: entry is not already in a Report
+    // MODIFIES: this, e
+    // EFFECTS: adds an entry to the Report as addEntry does, without telling the listeners of the Report
+    void insert(Entry e) {
+        if (containsId(e.id)) {
+            e.id = Entry.nextId();
+        }
+        entries.put(e.id, e);
+        rows.append(e);
+        e.report = this;
+        e.sequence = nextSequence++;
+        index(e);
+    }
+
+    // REQUIRES: entry exists in the Report
+    // MODIFIES: this, e
     // EFFECTS: removes entry from the Report
     public void deleteEntry(Entry e) {
-        entries.remove(e);
+        if (contains(e)) {
+            preserve(e);
+            entries.remove(e.id);
+            rows.remove(e);
+            unindex(e);
+            e.report = null;
+            fireDeleted(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the entry with the given id from the Report; returns true if there was one
+    public boolean deleteEntryById(long id) {
+        Entry e = getEntryById(id);
+        if (e == null) {
+            return false;
+        }
+        deleteEntry(e);
+        return true;
+    }
+
+    // EFFECTS: returns the entry with the given id; null if there is no such entry in the Report
+    public Entry getEntryById(long id) {
+        return entries.get(id);
+    }
+
+    // EFFECTS: returns true if the Report has an entry with the given id; false otherwise
+    public boolean containsId(long id) {
+        return entries.containsKey(id);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes listener be told about each entry added to, changed in or deleted from the Report
+    public void addListener(ReportListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops telling listener about changes to the Report
+    public void removeListener(ReportListener listener) {
+        listeners.remove(listener);
+    }
+
+    // EFFECTS: tells the listeners of the Report that entry e has been added
+    void fireAdded(Entry e) {
+        for (ReportListener listener : listeners) {
+            listener.entryAdded(this, e);
+        }
+    }
+
+    // EFFECTS: tells the listeners of the Report that entry e has changed
+    void fireChanged(Entry e) {
+        for (ReportListener listener : listeners) {
+            listener.entryChanged(this, e);
+        }
+    }
+
+    // EFFECTS: tells the listeners of the Report that entry e has been deleted
+    void fireDeleted(Entry e) {
+        for (ReportListener listener : listeners) {
+            listener.entryDeleted(this, e);
+        }
+    }
+
+    // EFFECTS: returns a read-only, point-in-time view of the Report that later changes to the Report do not affect;
+    //          must be called by the thread that changes the Report, but the view can be read from any thread.
+    //          Taking the view takes constant time; the entries are copied when it is first read
+    public Report snapshot() {
+        SnapshotReport snapshot = new SnapshotReport(this);
+        snapshots.add(new WeakReference<>(snapshot));
+        return snapshot;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns a read-only list of the entries in the Report now, in the order getAllEntries lists them in,
+    //          which entries later added to or deleted from the Report do not change; the entries themselves are
+    //          those of the Report, so they show later changes to their values. Must be called by the thread that
+    //          changes the Report; takes constant time for a Report, whose rows are shared rather than copied
+    public List<Entry> snapshotEntries() {
+        return shareEntries();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the entries of the Report in order, as a list that later changes to the Report do not change,
+    //          for a snapshot to keep; takes constant time, since the Report only copies its rows once it removes
+    //          one of them afterwards
+    List<Entry> shareEntries() {
+        return rows.share();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives the snapshots of the Report the current values of entry e, which is about to change or be
+    //          deleted; forgets snapshots that are no longer in use or no longer need them
+    void preserve(Entry e) {
+        if (!snapshots.isEmpty()) {
+            snapshots.removeIf(reference -> {
+                SnapshotReport snapshot = reference.get();
+                return snapshot == null || !snapshot.keepPreImage(e);
+            });
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the current values of entry e to the totals and indexes of the Report
+    void index(Entry e) {
+        addValues(e.date.toEpochDay(), e.cents);
+        dateIndex.add(e);
+        if (descriptionIndex != null) {
+            descriptionIndex.add(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the current values of entry e from the totals and indexes of the Report
+    void unindex(Entry e) {
+        removeValues(e.date.toEpochDay(), e.cents);
+        dateIndex.remove(e);
+        if (descriptionIndex != null) {
+            descriptionIndex.remove(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an amount in cents on the given epoch day to the totals, daily sums and rollup of the Report;
+    //          while addAllEntries is adding entries, holds the amount back to be added with the others instead
+    void addValues(long day, long cents) {
+        if (batchDays != null && day == (int) day) {
+            if (batchSize == batchDays.length) {
+                batchDays = Arrays.copyOf(batchDays, batchSize * 2);
+                batchCents = Arrays.copyOf(batchCents, batchSize * 2);
+            }
+            batchDays[batchSize] = (int) day;
+            batchCents[batchSize++] = cents;
+            return;
+        }
+        totals.add(cents);
+        dailySums.add(day, cents);
+        rollup.add(day, cents);
+    }
+
+    // REQUIRES: 0 <= from <= to <= days.length and to <= cents.length
+    // MODIFIES: this
+    // EFFECTS: adds the amounts cents[from] to cents[to - 1], on the epoch days days[from] to days[to - 1], to the
+    //          totals, daily sums and rollup of the Report, as addValues would one at a time
+    void addAllValues(int[] days, long[] cents, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        totals.addAll(cents, from, to);
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            first = Math.min(first, days[i]);
+            last = Math.max(last, days[i]);
+        }
+        if ((long) last - first >= DailySums.MAX_CAPACITY) {
+            for (int i = from; i < to; i++) {
+                dailySums.add(days[i], cents[i]);
+                rollup.add(days[i], cents[i]);
+            }
+        } else {
+            addDayTotals(days, cents, from, to, first, last);
+        }
+    }
+
+    // REQUIRES: 0 <= from < to <= days.length, to <= cents.length, and days[from] to days[to - 1] are all from
+    //           first to last
+    // MODIFIES: this
+    // EFFECTS: sums the amounts cents[from] to cents[to - 1] by epoch day, and adds the total of each day that has
+    //          an amount to the daily sums and rollup of the Report once
+    private void addDayTotals(int[] days, long[] cents, int from, int to, int first, int last) {
+        long[] dayTotals = new long[last - first + 1];
+        boolean[] hasAmount = new boolean[dayTotals.length];
+        for (int i = from; i < to; i++) {
+            dayTotals[days[i] - first] += cents[i];
+            hasAmount[days[i] - first] = true;
+        }
+        for (int d = 0; d < dayTotals.length; d++) {
+            if (hasAmount[d]) {
+                dailySums.add(first + d, dayTotals[d]);
+                rollup.add(first + d, dayTotals[d]);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes an amount in cents on the given epoch day from the totals, daily sums and rollup of the Report
+    void removeValues(long day, long cents) {
+        totals.remove(cents);
+        dailySums.add(day, -cents);
+        rollup.remove(day, cents);
     }
 
+    // EFFECTS: returns the type of the entries in the Report
+    public abstract EntryType getType();
+
     // EFFECTS: returns the number of entries in the Report
     public int size() {
         return entries.size();
@@ -37,37 +303,96 @@ public abstract class Report implements Writable {
 
     // EFFECTS: returns true if entry exists in the Report; false otherwise
     public boolean contains(Entry entry) {
-        return entries.contains(entry);
+        return entry.report == this;
     }
 
-    // EFFECTS: returns all entries in the report from startDate to endDate, inclusive
+    // EFFECTS: returns all entries in the report from the day of startDate to the day of endDate, inclusive,
+    //          ordered by date; entries on the same day are in the order they were added
     public List<Entry> getEntriesInRange(Calendar startDate, Calendar endDate) {
-        List<Entry> entriesInRange = new ArrayList<>();
-        for (Entry e : entries) {
-            if (!(e.date.before(startDate) || e.date.after(endDate))) {
-                entriesInRange.add(e);
-            }
+        return dateIndex.getEntriesInRange(Dates.toEpochDay(startDate), Dates.toEpochDay(endDate));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the index of the entries in the Report by description, which answers substring, word prefix
+    //          and similar word queries without scanning every entry; the index is built on the first call and kept
+    //          up to date as entries are added, changed and deleted from then on
+    public DescriptionIndex getDescriptionIndex() {
+        if (descriptionIndex == null) {
+            descriptionIndex = DescriptionIndex.of(getAllEntries());
         }
-        return entriesInRange;
+        return descriptionIndex;
+    }
+
+    // REQUIRES: entries are in the Report
+    // MODIFIES: entries
+    // EFFECTS: sorts entries into the order getAllEntries lists them in, which is the order they were added
+    void sortInListOrder(List<Entry> entries) {
+        entries.sort(Comparator.comparingLong(e -> e.sequence));
     }
 
-    // EFFECTS: returns all entries in the Report
+    // EFFECTS: returns the entries in the Report whose description contains text, ignoring case
+    public List<Entry> search(String text) {
+        return getDescriptionIndex().getEntriesContaining(text);
+    }
+
+    // EFFECTS: returns the entries in the Report from the day of startDate to the day of endDate, inclusive, whose
+    //          description contains text, ignoring case
+    public List<Entry> search(String text, Calendar startDate, Calendar endDate) {
+        return getDescriptionIndex().getEntriesContaining(text, Dates.toEpochDay(startDate),
+                Dates.toEpochDay(endDate));
+    }
+
+    // EFFECTS: returns a read-only list of all entries in the Report, in the order they were added; the list reads
+    //          straight from the Report without copying it, so it shows later changes to the Report, and finds the
+    //          index of an entry without searching
     public List<Entry> getAllEntries() {
-        return entries;
+        return rows;
     }
 
     // EFFECTS: returns the total amount of all entries
     public double sum() {
-        double result = 0;
-        for (Entry e: entries) {
-            result += e.getAmount();
-        }
-        return result;
+        return Money.toDollars(sumInCents());
+    }
+
+    // EFFECTS: returns the exact total amount of all entries, in cents
+    public long sumInCents() {
+        return totals.getSum();
+    }
+
+    // EFFECTS: returns the total amount of all entries from the day of startDate to the day of endDate, inclusive
+    public double sumInRange(Calendar startDate, Calendar endDate) {
+        return Money.toDollars(sumInRangeInCents(startDate, endDate));
+    }
+
+    // EFFECTS: returns the exact total amount, in cents, of all entries from the day of startDate to the day of
+    //          endDate, inclusive
+    public long sumInRangeInCents(Calendar startDate, Calendar endDate) {
+        return dailySums.sumInRange(Dates.toEpochDay(startDate), Dates.toEpochDay(endDate));
+    }
+
+    // EFFECTS: returns the daily, monthly and yearly totals of the Report
+    public Rollup getRollup() {
+        return rollup;
+    }
+
+    // EFFECTS: returns the smallest amount of all entries; 0 if the Report is empty
+    public double min() {
+        return Money.toDollars(totals.getMin());
+    }
+
+    // EFFECTS: returns the largest amount of all entries; 0 if the Report is empty
+    public double max() {
+        return Money.toDollars(totals.getMax());
+    }
+
+    // EFFECTS: returns the mean amount of all entries; 0 if the Report is empty
+    public double mean() {
+        return totals.getCount() == 0 ? 0 : sum() / totals.getCount();
     }
 
     // EFFECTS: returns true if the Report has no entries
     public boolean isEmpty() {
-        return (entries.size() == 0);
+        return (size() == 0);
     }
 
     // EFFECTS: returns incomeReport as a JSON object
@@ -81,7 +406,7 @@ public abstract class Report implements Writable {
     // EFFECTS: returns entries in the Report as a JSON array
     protected JSONArray entriesToJSon() {
         JSONArray jsonArray = new JSONArray();
-        for (Entry e: this.entries) {
+        for (Entry e: getAllEntries()) {
             jsonArray.put(e.toJson());
         }
         return  jsonArray;
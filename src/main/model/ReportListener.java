@@ -0,0 +1,14 @@
+package model;
+
+// Represents a listener that is told about each entry added to, changed in or deleted from a report
+public interface ReportListener {
+
+    // EFFECTS: called after entry e has been added to report
+    void entryAdded(Report report, Entry e);
+
+    // EFFECTS: called after the description, amount or date of entry e in report has changed
+    void entryChanged(Report report, Entry e);
+
+    // EFFECTS: called after entry e has been deleted from report
+    void entryDeleted(Report report, Entry e);
+}
@@ -0,0 +1,82 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+// Represents the total amount in cents of a report for each day, month and year that has entries; totals are
+// updated as amounts are added and removed so that reading them never touches the entries
+public class Rollup {
+    private final TreeMap<LocalDate, Long> days;
+    private final TreeMap<YearMonth, Long> months;
+    private final TreeMap<Year, Long> years;
+
+    // EFFECTS: constructs an empty rollup
+    public Rollup() {
+        days = new TreeMap<>();
+        months = new TreeMap<>();
+        years = new TreeMap<>();
+    }
+
+    // EFFECTS: constructs a copy of the given rollup
+    public Rollup(Rollup rollup) {
+        days = new TreeMap<>(rollup.days);
+        months = new TreeMap<>(rollup.months);
+        years = new TreeMap<>(rollup.years);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an amount in cents to the day, month and year buckets of the given epoch day
+    public void add(long day, long cents) {
+        LocalDate date = LocalDate.ofEpochDay(day);
+        addTo(days, date, cents);
+        addTo(months, YearMonth.from(date), cents);
+        addTo(years, Year.from(date), cents);
+    }
+
+    // REQUIRES: the amount was previously added on the given epoch day
+    // MODIFIES: this
+    // EFFECTS: removes an amount in cents from the day, month and year buckets of the given epoch day
+    public void remove(long day, long cents) {
+        add(day, -cents);
+    }
+
+    // MODIFIES: buckets
+    // EFFECTS: adds cents to the bucket with the given key; drops the bucket if its total becomes 0
+    private static <K> void addTo(TreeMap<K, Long> buckets, K key, long cents) {
+        buckets.merge(key, cents, (total, c) -> total + c == 0 ? null : total + c);
+    }
+
+    // EFFECTS: returns the total in cents on the given date
+    public long getDayTotal(LocalDate date) {
+        return days.getOrDefault(date, 0L);
+    }
+
+    // EFFECTS: returns the total in cents in the given month
+    public long getMonthTotal(YearMonth month) {
+        return months.getOrDefault(month, 0L);
+    }
+
+    // EFFECTS: returns the total in cents in the given year
+    public long getYearTotal(Year year) {
+        return years.getOrDefault(year, 0L);
+    }
+
+    // EFFECTS: returns a read-only view of the non-zero daily totals in cents, ordered by date
+    public SortedMap<LocalDate, Long> getDayTotals() {
+        return Collections.unmodifiableSortedMap(days);
+    }
+
+    // EFFECTS: returns a read-only view of the non-zero monthly totals in cents, ordered by month
+    public SortedMap<YearMonth, Long> getMonthTotals() {
+        return Collections.unmodifiableSortedMap(months);
+    }
+
+    // EFFECTS: returns a read-only view of the non-zero yearly totals in cents, ordered by year
+    public SortedMap<Year, Long> getYearTotals() {
+        return Collections.unmodifiableSortedMap(years);
+    }
+}
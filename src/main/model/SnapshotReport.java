@@ -0,0 +1,226 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Represents a read-only, point-in-time view of another report. Taking a snapshot of a report takes constant time:
+// it shares the array of entries of the report, which the report copies before it next removes an entry, and keeps
+// its count, sum, min and max. The entries themselves are copied, and their daily totals rolled up, the first time
+// the snapshot is read, on the thread reading it. Until then, the report hands the snapshot a copy (pre-image) of
+// each entry just before the entry changes or is deleted, so the snapshot never sees a change made after it was
+// taken. ColumnarReport and ConcurrentReport have no array to share, so their snapshots copy the list of entries.
+// Entries handed out by a snapshot are copies that are not in any report. A ConcurrentReport refuses to be
+// snapshotted while another thread is writing to it, so its snapshots are consistent too.
+public class SnapshotReport extends Report {
+    private final EntryType type;
+    private final List<Entry> references;
+    private final Map<Long, Entry> preImages;       // entry id -> copy of the entry from before it changed
+    private final int count;
+    private final long sum;
+    private final long min;
+    private final long max;
+    private Rollup frozenRollup;                    // daily totals of the copies; null until first needed
+    private Entry[] copies;                         // copies of the entries, in order; null until frozen
+    private List<Entry> allEntries;                 // the copies as a read-only list; null until first listed
+    private volatile boolean frozen;                // true once all entries have been copied
+    private boolean indexed;                        // true once the copies have been indexed by id and date
+
+    // EFFECTS: constructs a snapshot of the current entries and totals of report
+    SnapshotReport(Report report) {
+        super();
+        type = report.getType();
+        references = report.shareEntries();
+        preImages = new ConcurrentHashMap<>();
+        count = references.size();
+        sum = report.sumInCents();
+        min = Money.toCents(report.min());
+        max = Money.toCents(report.max());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps a copy of entry e, which is about to change, unless a copy of it is kept already;
+    //          returns false if the snapshot no longer needs copies
+    boolean keepPreImage(Entry e) {
+        if (frozen) {
+            return false;
+        }
+        preImages.putIfAbsent(e.id, copyOf(e));
+        return true;
+    }
+
+    // EFFECTS: returns a copy of entry e that is not in any report
+    private Entry copyOf(Entry e) {
+        return type.entryWithId(e.id, e.description, e.cents, e.date);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies all entries of the snapshot as they were when it was taken, if not done already
+    private synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        copies = new Entry[count];
+        for (int i = 0; i < count; i++) {
+            Entry e = references.get(i);
+            Entry copy = preImages.get(e.id);
+            if (copy == null) {
+                Entry current = copyOf(e);
+                copy = preImages.putIfAbsent(e.id, current);
+                copy = (copy == null) ? current : copy;
+            }
+            copy.sequence = i;
+            copies[i] = copy;
+        }
+        frozen = true;
+        preImages.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: copies all entries of the snapshot and indexes the copies by id and date, if not done already;
+    //          listing the entries only needs the copies, so they are not indexed until looked up
+    private synchronized void index() {
+        freeze();
+        if (indexed) {
+            return;
+        }
+        Map<Long, Entry> copiesById = new LinkedHashMap<>();
+        for (Entry copy : copies) {
+            copiesById.put(copy.id, copy);
+            dateIndex.add(copy);
+        }
+        entries = copiesById;
+        indexed = true;
+    }
+
+    // EFFECTS: throws UnsupportedOperationException, since a snapshot cannot be changed
+    @Override
+    public void addEntry(Entry e) {
+        throw new UnsupportedOperationException("A snapshot cannot be changed");
+    }
+
+    // EFFECTS: throws UnsupportedOperationException, since a snapshot cannot be changed
+    @Override
+    public void addAllEntries(List<Entry> added) {
+        throw new UnsupportedOperationException("A snapshot cannot be changed");
+    }
+
+    // EFFECTS: throws UnsupportedOperationException, since a snapshot cannot be changed
+    @Override
+    public void deleteEntry(Entry e) {
+        throw new UnsupportedOperationException("A snapshot cannot be changed");
+    }
+
+    // EFFECTS: throws UnsupportedOperationException, since a snapshot cannot be changed
+    @Override
+    public boolean deleteEntryById(long id) {
+        throw new UnsupportedOperationException("A snapshot cannot be changed");
+    }
+
+    // EFFECTS: returns a snapshot of this snapshot, which is this snapshot itself
+    @Override
+    public Report snapshot() {
+        return this;
+    }
+
+    @Override
+    public EntryType getType() {
+        return type;
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    // EFFECTS: returns true if the snapshot has an entry with the id of the given entry; false otherwise
+    @Override
+    public boolean contains(Entry entry) {
+        return containsId(entry.id);
+    }
+
+    @Override
+    public synchronized Entry getEntryById(long id) {
+        index();
+        return super.getEntryById(id);
+    }
+
+    @Override
+    public synchronized boolean containsId(long id) {
+        index();
+        return super.containsId(id);
+    }
+
+    @Override
+    public synchronized List<Entry> getEntriesInRange(Calendar startDate, Calendar endDate) {
+        index();
+        return super.getEntriesInRange(startDate, endDate);
+    }
+
+    @Override
+    public synchronized DescriptionIndex getDescriptionIndex() {
+        return super.getDescriptionIndex();
+    }
+
+    @Override
+    public synchronized List<Entry> getAllEntries() {
+        freeze();
+        if (allEntries == null) {
+            allEntries = Collections.unmodifiableList(Arrays.asList(copies));
+        }
+        return allEntries;
+    }
+
+    @Override
+    public long sumInCents() {
+        return sum;
+    }
+
+    @Override
+    public synchronized long sumInRangeInCents(Calendar startDate, Calendar endDate) {
+        LocalDate start = Dates.fromCalendar(startDate);
+        LocalDate end = Dates.fromCalendar(endDate);
+        long total = 0;
+        if (!start.isAfter(end)) {
+            for (long dayTotal : getRollup().getDayTotals().subMap(start, end.plusDays(1)).values()) {
+                total += dayTotal;
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public double min() {
+        return Money.toDollars(min);
+    }
+
+    @Override
+    public double max() {
+        return Money.toDollars(max);
+    }
+
+    @Override
+    public double mean() {
+        return count == 0 ? 0 : sum() / count;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the daily, monthly and yearly totals of the snapshot, rolling them up from its entries the
+    //          first time they are needed
+    @Override
+    public synchronized Rollup getRollup() {
+        if (frozenRollup == null) {
+            freeze();
+            frozenRollup = new Rollup();
+            for (Entry copy : copies) {
+                frozenRollup.add(copy.date.toEpochDay(), copy.cents);
+            }
+        }
+        return frozenRollup;
+    }
+}
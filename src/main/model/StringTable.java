@@ -0,0 +1,41 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents a table of distinct strings, each identified by a small integer id in the order it was first added
+public class StringTable {
+    private final List<String> strings;
+    private final Map<String, Integer> ids;
+
+    // EFFECTS: constructs an empty string table
+    public StringTable() {
+        strings = new ArrayList<>();
+        ids = new HashMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the id of s, adding s to the table if it is not already in it
+    public int idOf(String s) {
+        Integer id = ids.get(s);
+        if (id == null) {
+            id = strings.size();
+            strings.add(s);
+            ids.put(s, id);
+        }
+        return id;
+    }
+
+    // REQUIRES: 0 <= id < size()
+    // EFFECTS: returns the string with the given id
+    public String get(int id) {
+        return strings.get(id);
+    }
+
+    // EFFECTS: returns the number of strings in the table
+    public int size() {
+        return strings.size();
+    }
+}
@@ -0,0 +1,10 @@
+package model;
+
+// Represents a way of summing a range of amounts in cents, which Money.sum uses when a faster one than its own
+// scalar loop is available
+interface SumKernel {
+
+    // REQUIRES: 0 <= from <= to <= values.length
+    // EFFECTS: returns the sum of values[from] to values[to - 1]
+    long sum(long[] values, int from, int to);
+}
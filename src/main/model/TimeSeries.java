@@ -0,0 +1,187 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.LongUnaryOperator;
+
+// Represents the totals in cents of a report over time, one bucket per day or per month, ordered by time. Each
+// bucket is placed at the epoch day it starts on. A series built from a rollup covers every bucket from the first to
+// the last one with entries, so buckets without entries are kept as zero totals rather than left out, unless they
+// span more than MAX_DENSE_BUCKETS buckets, e.g. because of one entry with a mistyped year. Such a series only keeps
+// the zero bucket at each end of a gap, so it stays as small as the rollup and is drawn with the same shape; the
+// buckets are then unevenly spaced, which downsampling allows for.
+public class TimeSeries {
+    // Represents the length of time covered by each bucket of a series
+    public enum Interval {
+        DAY, MONTH
+    }
+
+    static final int MAX_DENSE_BUCKETS = DailySums.MAX_CAPACITY;   // most buckets a series covers with every
+                                                                   // bucket in between
+
+    private final long[] days;
+    private final long[] totals;
+
+    // REQUIRES: days and totals have the same length, and days are in ascending order
+    // EFFECTS: constructs a series with a bucket starting on each of the given epoch days, holding the total in
+    //          cents at the same position in totals
+    public TimeSeries(long[] days, long[] totals) {
+        this.days = days;
+        this.totals = totals;
+    }
+
+    // EFFECTS: returns the series of the daily or monthly totals of rollup, from the first to the last bucket
+    //          with entries; empty if rollup has no entries
+    public static TimeSeries of(Rollup rollup, Interval interval) {
+        if (interval == Interval.DAY) {
+            return ofDays(rollup.getDayTotals());
+        }
+        return ofMonths(rollup.getMonthTotals());
+    }
+
+    // EFFECTS: returns the series of the given daily totals
+    private static TimeSeries ofDays(SortedMap<LocalDate, Long> dayTotals) {
+        long[] days = new long[dayTotals.size()];
+        long[] totals = new long[dayTotals.size()];
+        int i = 0;
+        for (Map.Entry<LocalDate, Long> day : dayTotals.entrySet()) {
+            days[i] = day.getKey().toEpochDay();
+            totals[i++] = day.getValue();
+        }
+        return ofBuckets(days, totals, day -> day);
+    }
+
+    // EFFECTS: returns the series of the given monthly totals
+    private static TimeSeries ofMonths(SortedMap<YearMonth, Long> monthTotals) {
+        long[] months = new long[monthTotals.size()];
+        long[] totals = new long[monthTotals.size()];
+        int i = 0;
+        for (Map.Entry<YearMonth, Long> month : monthTotals.entrySet()) {
+            months[i] = month.getKey().getYear() * 12L + month.getKey().getMonthValue() - 1;
+            totals[i++] = month.getValue();
+        }
+        return ofBuckets(months, totals, month -> YearMonth.of((int) Math.floorDiv(month, 12),
+                (int) Math.floorMod(month, 12) + 1).atDay(1).toEpochDay());
+    }
+
+    // REQUIRES: buckets, numbered so that consecutive buckets have consecutive numbers, are in ascending order and
+    //           totals has the same length
+    // EFFECTS: returns the series of the buckets with the given numbers and totals, placing each bucket at the epoch
+    //          day startDay gives for its number; each bucket in between is added as a zero bucket if the buckets
+    //          span at most MAX_DENSE_BUCKETS, and otherwise only the bucket just after and just before each gap is
+    //          added as a zero bucket
+    private static TimeSeries ofBuckets(long[] buckets, long[] totals, LongUnaryOperator startDay) {
+        int count = buckets.length;
+        boolean dense = count == 0 || buckets[count - 1] - buckets[0] < MAX_DENSE_BUCKETS;
+        int capacity = dense ? (int) (count == 0 ? 0 : buckets[count - 1] - buckets[0] + 1) : 3 * count;
+        long[] days = new long[capacity];
+        long[] seriesTotals = new long[capacity];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long gapStart = i == 0 ? buckets[0] : buckets[i - 1] + 1;
+            size = addZeros(days, size, gapStart, buckets[i], dense, startDay);
+            days[size] = startDay.applyAsLong(buckets[i]);
+            seriesTotals[size++] = totals[i];
+        }
+        return new TimeSeries(Arrays.copyOf(days, size), Arrays.copyOf(seriesTotals, size));
+    }
+
+    // MODIFIES: days
+    // EFFECTS: places zero buckets for the buckets numbered from gapStart to gapEnd (exclusive) in days from size
+    //          on, all of them if dense and only the first and last otherwise, and returns the new size
+    private static int addZeros(long[] days, int size, long gapStart, long gapEnd, boolean dense,
+                                LongUnaryOperator startDay) {
+        if (dense) {
+            for (long zero = gapStart; zero < gapEnd; zero++) {
+                days[size++] = startDay.applyAsLong(zero);
+            }
+        } else if (gapStart < gapEnd) {
+            days[size++] = startDay.applyAsLong(gapStart);
+            if (gapEnd - 1 > gapStart) {
+                days[size++] = startDay.applyAsLong(gapEnd - 1);
+            }
+        }
+        return size;
+    }
+
+    // REQUIRES: threshold >= 3
+    // EFFECTS: returns a series of at most threshold buckets that keeps the shape of this series when drawn, e.g.
+    //          one bucket per pixel of a chart; this series if it has no more than threshold buckets. The buckets are
+    //          picked by largest-triangle-three-buckets: the first and last buckets are kept, the others are split
+    //          into threshold - 2 groups, and from each group the bucket that forms the largest triangle with the
+    //          bucket picked from the group before and the average of the group after is kept
+    public TimeSeries downsample(int threshold) {
+        int size = size();
+        if (size <= threshold) {
+            return this;
+        }
+        long[] sampledDays = new long[threshold];
+        long[] sampledTotals = new long[threshold];
+        double groupSize = (double) (size - 2) / (threshold - 2);
+        int picked = 0;
+        for (int group = 0; group < threshold - 2; group++) {
+            sampledDays[group] = days[picked];
+            sampledTotals[group] = totals[picked];
+            int start = (int) (group * groupSize) + 1;
+            int end = (int) ((group + 1) * groupSize) + 1;
+            picked = pick(picked, start, end, Math.min((int) ((group + 2) * groupSize) + 1, size));
+        }
+        sampledDays[threshold - 2] = days[picked];
+        sampledTotals[threshold - 2] = totals[picked];
+        sampledDays[threshold - 1] = days[size - 1];
+        sampledTotals[threshold - 1] = totals[size - 1];
+        return new TimeSeries(sampledDays, sampledTotals);
+    }
+
+    // REQUIRES: 0 <= previous < start < end < nextEnd <= size()
+    // EFFECTS: returns the position from start (inclusive) to end (exclusive) of the bucket that forms the largest
+    //          triangle with the bucket at previous and the average of the buckets from end to nextEnd (exclusive)
+    private int pick(int previous, int start, int end, int nextEnd) {
+        double averageDay = 0;
+        double averageTotal = 0;
+        for (int i = end; i < nextEnd; i++) {
+            averageDay += days[i];
+            averageTotal += totals[i];
+        }
+        averageDay /= nextEnd - end;
+        averageTotal /= nextEnd - end;
+        double largestArea = -1;
+        int largest = start;
+        for (int i = start; i < end; i++) {
+            double area = Math.abs((days[previous] - averageDay) * (totals[i] - totals[previous])
+                    - (days[previous] - days[i]) * (averageTotal - totals[previous]));
+            if (area > largestArea) {
+                largestArea = area;
+                largest = i;
+            }
+        }
+        return largest;
+    }
+
+    // EFFECTS: returns the largest total in the series; 0 if the series is empty
+    public long maxTotal() {
+        long max = 0;
+        for (long total : totals) {
+            max = Math.max(max, total);
+        }
+        return max;
+    }
+
+    // Getters
+    public int size() {
+        return days.length;
+    }
+
+    // REQUIRES: 0 <= i < size()
+    public long getDay(int i) {
+        return days[i];
+    }
+
+    // REQUIRES: 0 <= i < size()
+    public long getTotal(int i) {
+        return totals[i];
+    }
+}
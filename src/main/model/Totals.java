@@ -0,0 +1,95 @@
+package model;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+
+// Represents the running totals (count, sum, min, max and mean) of the amounts in a report, in cents;
+// totals are updated as amounts are added and removed so that reading them never scans the report
+public class Totals {
+    private int count;
+    private long sum;
+    private final TreeMap<Long, Integer> amounts;  // amount -> number of entries with that amount
+    private long min;
+    private long max;
+
+    // EFFECTS: constructs empty totals
+    public Totals() {
+        amounts = new TreeMap<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds an amount in cents to the totals
+    public void add(long cents) {
+        count++;
+        sum += cents;
+        amounts.merge(cents, 1, Integer::sum);
+        min = amounts.firstKey();
+        max = amounts.lastKey();
+    }
+
+    // REQUIRES: 0 <= from <= to <= cents.length
+    // MODIFIES: this
+    // EFFECTS: adds the amounts cents[from] to cents[to - 1] to the totals; the amounts are sorted first, so each
+    //          distinct amount is counted once
+    public void addAll(long[] cents, int from, int to) {
+        if (from == to) {
+            return;
+        }
+        long[] sorted = Arrays.copyOfRange(cents, from, to);
+        Arrays.sort(sorted);
+        int i = 0;
+        while (i < sorted.length) {
+            int next = i + 1;
+            while (next < sorted.length && sorted[next] == sorted[i]) {
+                next++;
+            }
+            amounts.merge(sorted[i], next - i, Integer::sum);
+            i = next;
+        }
+        count += sorted.length;
+        sum += Money.sum(sorted, 0, sorted.length);
+        min = amounts.firstKey();
+        max = amounts.lastKey();
+    }
+
+    // REQUIRES: the amount was previously added to the totals
+    // MODIFIES: this
+    // EFFECTS: removes an amount in cents from the totals
+    public void remove(long cents) {
+        count--;
+        sum -= cents;
+        amounts.computeIfPresent(cents, (a, n) -> n == 1 ? null : n - 1);
+        if (amounts.isEmpty()) {
+            min = 0;
+            max = 0;
+        } else {
+            min = amounts.firstKey();
+            max = amounts.lastKey();
+        }
+    }
+
+    // Getters
+    public int getCount() {
+        return count;
+    }
+
+    // EFFECTS: returns the sum of the amounts, in cents
+    public long getSum() {
+        return sum;
+    }
+
+    // EFFECTS: returns the smallest amount, in cents; 0 if there are no amounts
+    public long getMin() {
+        return min;
+    }
+
+    // EFFECTS: returns the largest amount, in cents; 0 if there are no amounts
+    public long getMax() {
+        return max;
+    }
+
+    // EFFECTS: returns the mean amount, in cents; 0 if there are no amounts
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+}
@@ -0,0 +1,16 @@
+package persistence;
+
+// Represents the layout of a binary budget file. All numbers are big-endian.
+//   header:  int MAGIC, int VERSION, int number of strings, int number of expenses, int number of incomes
+//   strings: for each description, int number of bytes followed by its UTF-8 bytes
+//   records: RECORD_SIZE bytes for each expense, then for each income:
+//            long id, int epoch day of the date, long amount in cents, int index of the description in strings
+final class BinaryFormat {
+    static final int MAGIC = 0x42444754;    // "BDGT"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 5 * Integer.BYTES;
+    static final int RECORD_SIZE = 2 * Long.BYTES + 2 * Integer.BYTES;
+
+    private BinaryFormat() {
+    }
+}
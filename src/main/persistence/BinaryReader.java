@@ -0,0 +1,173 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.EntryType;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+// Represents a reader that reads budget from a file in the binary format described by BinaryFormat. The file is
+// memory-mapped a window at a time, so files larger than one MappedByteBuffer can be read, and the records of each
+// report are copied from the window straight into primitive columns that are appended to a ColumnarReport at once
+public class BinaryReader {
+    static final long WINDOW_SIZE = 1L << 30;        // most bytes of the file mapped at once
+
+    private final String source;
+    private final long windowSize;
+
+    // EFFECTS: constructs reader to read from source file
+    public BinaryReader(String source) {
+        this(source, WINDOW_SIZE);
+    }
+
+    // REQUIRES: windowSize >= 8
+    // EFFECTS: constructs reader to read from source file, mapping at most windowSize bytes of it at once
+    BinaryReader(String source, long windowSize) {
+        this.source = source;
+        this.windowSize = windowSize;
+    }
+
+    // EFFECTS: reads budget from file and returns it; its reports are ColumnarReports;
+    //          throws IOException if the file cannot be read or is not a budget file of a supported version
+    public Budget read() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(source), StandardOpenOption.READ)) {
+            return readBudget(new MappedInput(channel, windowSize));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Truncated or corrupt budget file: " + source, e);
+        }
+    }
+
+    // MODIFIES: input
+    // EFFECTS: reads budget from input and returns it;
+    //          throws IOException if input does not hold a budget file of a supported version
+    private Budget readBudget(MappedInput input) throws IOException {
+        if (input.remaining() < BinaryFormat.HEADER_SIZE || input.getInt() != BinaryFormat.MAGIC) {
+            throw new IOException("Not a budget file: " + source);
+        }
+        int version = input.getInt();
+        if (version != BinaryFormat.VERSION) {
+            throw new IOException("Unsupported budget file version " + version + ": " + source);
+        }
+        String[] descriptions = new String[checkCount(input, input.getInt(), Integer.BYTES)];
+        int expenseCount = input.getInt();
+        int incomeCount = input.getInt();
+        for (int i = 0; i < descriptions.length; i++) {
+            byte[] bytes = new byte[checkCount(input, input.getInt(), 1)];
+            input.get(bytes);
+            descriptions[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        ColumnarReport expenseReport = readRecords(input, EntryType.EXPENSE, expenseCount, descriptions);
+        ColumnarReport incomeReport = readRecords(input, EntryType.INCOME, incomeCount, descriptions);
+        return new Budget(expenseReport, incomeReport);
+    }
+
+    // EFFECTS: returns count, the number of items of at least the given size left to read from input;
+    //          throws BufferUnderflowException if fewer bytes than that are left, so that a corrupt count is caught
+    //          before anything is allocated for it
+    private static int checkCount(MappedInput input, int count, int size) {
+        if ((long) count * size > input.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+
+    // MODIFIES: input
+    // EFFECTS: reads count records from input into a new report holding entries of the given type; the records are
+    //          read into one array per column, which is appended to the report with its totals built in one pass
+    private ColumnarReport readRecords(MappedInput input, EntryType type, int count, String[] descriptions)
+            throws IOException {
+        checkCount(input, count, BinaryFormat.RECORD_SIZE);
+        long[] ids = new long[count];
+        int[] days = new int[count];
+        long[] cents = new long[count];
+        int[] descriptionIndexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = input.getLong();
+            days[i] = input.getInt();
+            cents[i] = input.getLong();
+            descriptionIndexes[i] = input.getInt();
+            if (descriptionIndexes[i] < 0 || descriptionIndexes[i] >= descriptions.length) {
+                throw new IndexOutOfBoundsException("Description " + descriptionIndexes[i] + " does not exist");
+            }
+        }
+        ColumnarReport report = new ColumnarReport(type);
+        report.appendAll(ids, days, cents, descriptions, descriptionIndexes, count);
+        return report;
+    }
+
+    // Represents the bytes of a file read in order through a memory-mapped window of it, which is moved along the
+    // file as it is read; only the window has to fit in one MappedByteBuffer, not the file
+    private static class MappedInput {
+        private final FileChannel channel;
+        private final long size;
+        private final long windowSize;
+        private long windowStart;                  // offset in the file of the first byte of the window
+        private MappedByteBuffer window;
+
+        // REQUIRES: windowSize >= 8
+        // EFFECTS: constructs an input reading channel from its start, mapping at most windowSize bytes at once
+        MappedInput(FileChannel channel, long windowSize) throws IOException {
+            this.channel = channel;
+            this.windowSize = windowSize;
+            size = channel.size();
+            map(0);
+        }
+
+        // MODIFIES: this
+        // EFFECTS: maps the window of the file starting at the given offset
+        private void map(long position) throws IOException {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+        }
+
+        // MODIFIES: this
+        // EFFECTS: makes sure the next n bytes of the file are in the window, moving the window to start at the
+        //          next unread byte if they are not; throws BufferUnderflowException if fewer than n bytes are left
+        private void require(int n) throws IOException {
+            if (window.remaining() >= n) {
+                return;
+            }
+            if (remaining() < n) {
+                throw new BufferUnderflowException();
+            }
+            map(windowStart + window.position());
+        }
+
+        // EFFECTS: returns the number of bytes of the file left to read
+        long remaining() {
+            return size - windowStart - window.position();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads the next int of the file
+        int getInt() throws IOException {
+            require(Integer.BYTES);
+            return window.getInt();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads the next long of the file
+        long getLong() throws IOException {
+            require(Long.BYTES);
+            return window.getLong();
+        }
+
+        // MODIFIES: this, bytes
+        // EFFECTS: reads the next bytes.length bytes of the file into bytes, which may span several windows
+        void get(byte[] bytes) throws IOException {
+            int done = 0;
+            while (done < bytes.length) {
+                require(1);
+                int n = Math.min(window.remaining(), bytes.length - done);
+                window.get(bytes, done, n);
+                done += n;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package persistence;
+
+import model.Budget;
+import model.Entry;
+import model.Report;
+import model.StringTable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Represents a writer that writes budget to a file in the binary format described by BinaryFormat
+public class BinaryWriter {
+    private DataOutputStream output;
+    private final String destination;
+
+    // EFFECTS: constructs writer to write to destination file
+    public BinaryWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer; throws FileNotFoundException if destination file cannot be opened for writing
+    public void open() throws FileNotFoundException {
+        output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(destination)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes budget to destination file; throws IOException if the file cannot be written
+    public void write(Budget budget) throws IOException {
+        List<Entry> expenses = budget.getExpenseReport().getAllEntries();
+        List<Entry> incomes = budget.getIncomeReport().getAllEntries();
+        StringTable descriptions = new StringTable();
+        int[] expenseDescriptions = describe(expenses, descriptions);
+        int[] incomeDescriptions = describe(incomes, descriptions);
+        output.writeInt(BinaryFormat.MAGIC);
+        output.writeInt(BinaryFormat.VERSION);
+        output.writeInt(descriptions.size());
+        output.writeInt(expenses.size());
+        output.writeInt(incomes.size());
+        for (int i = 0; i < descriptions.size(); i++) {
+            byte[] bytes = descriptions.get(i).getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+        writeRecords(expenses, expenseDescriptions);
+        writeRecords(incomes, incomeDescriptions);
+    }
+
+    // MODIFIES: descriptions
+    // EFFECTS: adds the descriptions of entries to descriptions and returns the index of the description of each
+    //          entry
+    private int[] describe(List<Entry> entries, StringTable descriptions) {
+        int[] indexes = new int[entries.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = descriptions.idOf(entries.get(i).getDescription());
+        }
+        return indexes;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a record for each of entries, whose descriptions have the given indexes
+    private void writeRecords(List<Entry> entries, int[] descriptionIndexes) throws IOException {
+        for (int i = 0; i < descriptionIndexes.length; i++) {
+            Entry entry = entries.get(i);
+            output.writeLong(entry.getId());
+            output.writeInt((int) entry.getLocalDate().toEpochDay());
+            output.writeLong(entry.getAmountInCents());
+            output.writeInt(descriptionIndexes[i]);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes writer; throws IOException if the buffered data cannot be written
+    public void close() throws IOException {
+        output.close();
+    }
+}
@@ -0,0 +1,55 @@
+package persistence;
+
+import model.Budget;
+
+import java.io.IOException;
+
+// Represents a tool that converts budget files between JSON and the binary format described by BinaryFormat
+public class BudgetFileConverter {
+
+    // EFFECTS: converts the file named by the first argument to the file named by the second; a .json source is
+    //          converted to binary and any other source is converted from binary to JSON
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: BudgetFileConverter <source> <destination>");
+            System.exit(2);
+        }
+        try {
+            if (args[0].endsWith(".json")) {
+                jsonToBinary(args[0], args[1]);
+            } else {
+                binaryToJson(args[0], args[1]);
+            }
+        } catch (IOException e) {
+            System.err.println("Unable to convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // EFFECTS: writes the budget in the JSON file source to the binary file destination;
+    //          throws IOException if either file cannot be read or written
+    public static void jsonToBinary(String source, String destination) throws IOException {
+        Budget budget = new JsonReader(source).read();
+        BinaryWriter writer = new BinaryWriter(destination);
+        writer.open();
+        try {
+            writer.write(budget);
+        } finally {
+            writer.close();
+        }
+    }
+
+    // EFFECTS: writes the budget in the binary file source to the JSON file destination and forces it onto the
+    //          storage device; throws IOException if either file cannot be read or written
+    public static void binaryToJson(String source, String destination) throws IOException {
+        Budget budget = new BinaryReader(source).read();
+        JsonWriter writer = new JsonWriter(destination);
+        writer.open();
+        try {
+            writer.write(budget);
+            writer.sync();
+        } finally {
+            writer.close();
+        }
+    }
+}
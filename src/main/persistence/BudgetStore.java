@@ -0,0 +1,217 @@
+package persistence;
+
+import model.Budget;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Represents the files a budget is saved in: a base JSON file and a journal of the operations made since the base
+// file was written. Saving a budget that was loaded from or saved to the store only appends the operations made
+// since the last save to the journal. Once the journal grows past half the size of the base file (and at least
+// MIN_COMPACT_SIZE), it is folded back into the base file on a background thread: the journal is set aside, a
+// snapshot of the budget is written to a new base file, and the set-aside journal is deleted. A base file is written
+// to a temporary file that is forced onto the storage device before it replaces the old base file, and a journal is
+// only deleted once the base file replacing it is durable, so a failed write or a crash never loses operations. A
+// journal set aside by a compaction that failed stays set aside, and the next compaction appends to it.
+public class BudgetStore {
+    static final long MIN_COMPACT_SIZE = 1 << 20;
+
+    private final Path base;
+    private final Path journalFile;
+    private final Path compactingJournalFile;     // the journal set aside while it is being compacted
+    private final ExecutorService compactor;
+    private Budget budget;                          // the budget whose operations are journaled; null if none
+    private Journal journal;
+    private Future<?> compaction;
+
+    // EFFECTS: constructs a store with the given base file; the journal is kept next to it
+    public BudgetStore(String base) {
+        this.base = Paths.get(base);
+        journalFile = Paths.get(base + ".journal");
+        compactingJournalFile = Paths.get(base + ".journal.compacting");
+        compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "budget-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        compaction = CompletableFuture.completedFuture(null);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the budget in the base file, replays the journals on it, starts journaling it and returns it;
+    //          throws IOException if the files cannot be read
+    public Budget load() throws IOException {
+        return load(ProgressListener.NONE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the budget in the base file, replays the journals on it, starts journaling it and returns it,
+    //          telling listener how many bytes of the base file have been read; throws IOException if the files
+    //          cannot be read; throws CancellationException if the loading thread is interrupted before the
+    //          budget is journaled, in which case the store is left as it was
+    public synchronized Budget load(ProgressListener listener) throws IOException {
+        awaitCompaction();
+        Budget loaded = new JsonReader(base.toString()).read(listener);
+        Journal.replay(compactingJournalFile.toString(), loaded);
+        Journal.replay(journalFile.toString(), loaded);
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Loading was cancelled");
+        }
+        attach(loaded);
+        return loaded;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves budget; only appends the operations made since the last save to the journal if budget was
+    //          loaded from or saved to this store, and writes it to the base file in full otherwise; starts a
+    //          compaction if the journal has grown large; throws IOException if the files cannot be written
+    public void save(Budget budget) throws IOException {
+        save(budget, ProgressListener.NONE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves budget as save(budget) does, telling listener how many entries have been written when the
+    //          base file is written in full; throws CancellationException if the saving thread is interrupted
+    //          while the base file is written, in which case the base file and the store are left as they were
+    public synchronized void save(Budget budget, ProgressListener listener) throws IOException {
+        if (budget != this.budget) {
+            awaitCompaction();
+            writeBase(budget, listener);
+            Files.deleteIfExists(journalFile);
+            Files.deleteIfExists(compactingJournalFile);
+            syncDirectory();
+            attach(budget);
+        } else {
+            journal.flush();
+            if (Files.exists(journalFile) && Files.size(journalFile) > compactThreshold()) {
+                compact();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts folding the journal into the base file on a background thread and returns the compaction;
+    //          returns the running compaction if there is one; must be called by the thread that changes the
+    //          budget; throws IOException if the journal cannot be flushed or set aside
+    public synchronized Future<?> compact() throws IOException {
+        if (budget == null || !compaction.isDone()) {
+            return compaction;
+        }
+        journal.flush();
+        setJournalAside();
+        Budget snapshot = budget.snapshot();
+        compaction = compactor.submit(() -> {
+            writeBase(snapshot, ProgressListener.NONE);
+            Files.deleteIfExists(compactingJournalFile);
+            syncDirectory();
+            return null;
+        });
+        return compaction;
+    }
+
+    // EFFECTS: sets the journal aside to be compacted, if it exists; if a journal set aside earlier was never
+    //          folded into the base file, e.g. because its compaction failed, the journal is appended to it instead
+    //          of replacing it, so that the operations in both are replayed until the base file holds them;
+    //          throws IOException if the journal cannot be set aside
+    private void setJournalAside() throws IOException {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        if (Files.exists(compactingJournalFile)) {
+            Journal.append(compactingJournalFile, Files.readAllBytes(journalFile));
+            Files.delete(journalFile);
+        } else {
+            Files.move(journalFile, compactingJournalFile, StandardCopyOption.ATOMIC_MOVE);
+        }
+        syncDirectory();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts journaling the operations made on budget, and stops journaling the previous budget
+    private void attach(Budget budget) {
+        if (this.budget != null) {
+            journal.detach(this.budget);
+        }
+        this.budget = budget;
+        journal = new Journal(journalFile.toString());
+        journal.attach(budget);
+    }
+
+    // EFFECTS: writes budget to a temporary file, forces it onto the storage device and then moves it over the base
+    //          file in one step, telling listener how many entries have been written; throws IOException if the
+    //          temporary file cannot be written in full, and CancellationException if the write is cancelled, in
+    //          which case the temporary file is deleted and the base file is left as it was
+    private void writeBase(Budget budget, ProgressListener listener) throws IOException {
+        Path temporary = Paths.get(base + ".tmp");
+        JsonWriter writer = newWriter(temporary.toString());
+        writer.open();
+        boolean written = false;
+        try {
+            writer.write(budget, listener);
+            writer.sync();
+            written = true;
+        } finally {
+            writer.close();
+            if (!written) {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        Files.move(temporary, base, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+    }
+
+    // EFFECTS: returns a writer of the base file to the given destination
+    JsonWriter newWriter(String destination) {
+        return new JsonWriter(destination);
+    }
+
+    // EFFECTS: forces the directory of the base file onto the storage device, so that the files moved into it or
+    //          deleted from it stay so after a crash
+    private void syncDirectory() throws IOException {
+        syncDirectory(base.toAbsolutePath().getParent());
+    }
+
+    // EFFECTS: forces directory onto the storage device, so that the files moved into it or deleted from it stay so
+    //          after a crash; does nothing where a directory cannot be opened, e.g. Windows
+    static void syncDirectory(Path directory) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException e) {
+            // the platform cannot sync directories
+        }
+    }
+
+    // EFFECTS: returns the size in bytes the journal may grow to before it is compacted
+    private long compactThreshold() throws IOException {
+        long baseSize = Files.exists(base) ? Files.size(base) : 0;
+        return Math.max(MIN_COMPACT_SIZE, baseSize / 2);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: waits for the running compaction, if any, to finish; throws IOException if the wait was interrupted,
+    //          or if the compaction failed, which is only reported once: the journal it set aside is left in place
+    //          to be replayed and folded in by a later compaction
+    private void awaitCompaction() throws IOException {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting " + base, e);
+        } catch (ExecutionException e) {
+            compaction = CompletableFuture.completedFuture(null);
+            throw new IOException("Unable to compact " + base, e.getCause());
+        }
+    }
+}
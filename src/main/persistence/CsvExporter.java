@@ -0,0 +1,165 @@
+package persistence;
+
+import model.Budget;
+import model.Entry;
+import model.EntryType;
+import model.Report;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+// Represents an exporter of a budget to a bank statement in CSV format, laid out by a CsvMapping, that CsvImporter
+// can read back with the same mapping. Expenses are written first, then incomes, each in the order of their report.
+// Columns of the mapping that hold none of the values of an entry are left empty.
+public class CsvExporter {
+    private final CsvMapping mapping;
+    private final StringBuilder row;
+
+    // EFFECTS: constructs an exporter of files laid out by mapping
+    public CsvExporter(CsvMapping mapping) {
+        this.mapping = mapping;
+        row = new StringBuilder();
+    }
+
+    // EFFECTS: writes the entries of budget to destination; throws IOException if destination cannot be written
+    public void exportFile(Budget budget, String destination) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(destination), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try (Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8))) {
+            if (mapping.hasHeader()) {
+                writeHeader(writer);
+            }
+            writeReport(writer, budget.getExpenseReport());
+            writeReport(writer, budget.getIncomeReport());
+        }
+    }
+
+    // EFFECTS: writes the names of the columns of the mapping
+    private void writeHeader(Writer writer) throws IOException {
+        row.setLength(0);
+        for (int column = 0; column < mapping.getColumnCount(); column++) {
+            if (column > 0) {
+                row.append(mapping.getDelimiter());
+            }
+            row.append(columnName(column));
+        }
+        writer.append(row).append('\n');
+    }
+
+    // EFFECTS: returns the name of the given column of the mapping
+    private String columnName(int column) {
+        if (column == mapping.getDateColumn()) {
+            return "date";
+        } else if (column == mapping.getDescriptionColumn()) {
+            return "description";
+        } else if (column == mapping.getAmountColumn()) {
+            return "amount";
+        } else if (column == mapping.getDebitColumn()) {
+            return "debit";
+        } else if (column == mapping.getCreditColumn()) {
+            return "credit";
+        }
+        return "";
+    }
+
+    // EFFECTS: writes a row for each entry of report
+    private void writeReport(Writer writer, Report report) throws IOException {
+        for (Entry e : report.getAllEntries()) {
+            row.setLength(0);
+            for (int column = 0; column < mapping.getColumnCount(); column++) {
+                if (column > 0) {
+                    row.append(mapping.getDelimiter());
+                }
+                appendCell(column, report.getType(), e);
+            }
+            writer.append(row).append('\n');
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the value of entry e of the given type in the given column to the row
+    private void appendCell(int column, EntryType type, Entry e) {
+        if (column == mapping.getDateColumn()) {
+            appendDate(e.getLocalDate());
+        } else if (column == mapping.getDescriptionColumn()) {
+            appendText(e.getDescription());
+        } else if (column == mapping.getAmountColumn()) {
+            boolean expense = type == EntryType.EXPENSE;
+            boolean negative = mapping.getSign() == CsvMapping.Sign.NEGATIVE_IS_EXPENSE ? expense : !expense;
+            appendAmount(e.getAmountInCents(), negative);
+        } else if (column == mapping.getDebitColumn() && type == EntryType.EXPENSE
+                || column == mapping.getCreditColumn() && type == EntryType.INCOME) {
+            appendAmount(e.getAmountInCents(), false);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends date to the row with its parts in the order of the mapping
+    private void appendDate(LocalDate date) {
+        char separator = mapping.getDateOrder() == CsvMapping.DateOrder.YEAR_MONTH_DAY ? '-' : '/';
+        int first = date.getYear();
+        int second = date.getMonthValue();
+        int third = date.getDayOfMonth();
+        if (mapping.getDateOrder() == CsvMapping.DateOrder.DAY_MONTH_YEAR) {
+            first = third;
+            third = date.getYear();
+        } else if (mapping.getDateOrder() == CsvMapping.DateOrder.MONTH_DAY_YEAR) {
+            first = second;
+            second = third;
+            third = date.getYear();
+        }
+        appendTwoDigits(first).append(separator);
+        appendTwoDigits(second).append(separator);
+        appendTwoDigits(third);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends n to the row, with a leading zero if it has a single digit
+    private StringBuilder appendTwoDigits(int n) {
+        return n < 10 ? row.append('0').append(n) : row.append(n);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the amount in cents to the row in dollars with two decimals, with a leading '-' if negative
+    private void appendAmount(long cents, boolean negative) {
+        boolean quoted = mapping.getDecimalSeparator() == mapping.getDelimiter();
+        if (quoted) {
+            row.append('"');
+        }
+        if (negative) {
+            row.append('-');
+        }
+        row.append(cents / 100).append(mapping.getDecimalSeparator());
+        appendTwoDigits((int) (cents % 100));
+        if (quoted) {
+            row.append('"');
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends text to the row, quoted if it holds a delimiter, a quote or a line break
+    private void appendText(String text) {
+        boolean quoted = text.indexOf(mapping.getDelimiter()) >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quoted) {
+            row.append(text);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        row.append('"');
+    }
+}
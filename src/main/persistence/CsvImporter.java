@@ -0,0 +1,197 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.EntryType;
+import model.Report;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+// Represents an importer of bank statements in CSV format that adds an expense or income to a budget for each row
+// of the file, as laid out by a CsvMapping. The file is streamed through a CsvRecordReader, so only one buffer of
+// it is held in memory. Rows that cannot be imported are copied, as they are, to a rejects file with the reason
+// in an extra last column, so they can be fixed and imported again with the same mapping. Rows are appended to
+// columnar reports in bulk, without creating an Entry for them, and the totals of the reports are built once all
+// rows have been read.
+public class CsvImporter {
+    private final CsvMapping mapping;
+    private int importedCount;
+    private int rejectedCount;
+
+    // EFFECTS: constructs an importer of files laid out by mapping
+    public CsvImporter(CsvMapping mapping) {
+        this.mapping = mapping;
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: adds the rows of source to budget and copies the rows that cannot be imported to rejects, which is
+    //          only created if there are such rows; throws IOException if source cannot be read or rejects
+    //          cannot be written
+    public void importFile(String source, Budget budget, String rejects) throws IOException {
+        importedCount = 0;
+        rejectedCount = 0;
+        Files.deleteIfExists(Paths.get(rejects));
+        try (CsvRecordReader reader = new CsvRecordReader(FileChannel.open(Paths.get(source)), mapping.getDelimiter());
+             RejectsWriter rejectsWriter = new RejectsWriter(rejects)) {
+            if (mapping.hasHeader() && reader.next()) {
+                rejectsWriter.setHeader(reader);
+            }
+            startBulkAppend(budget);
+            try {
+                importRows(reader, budget, rejectsWriter);
+            } finally {
+                finishBulkAppend(budget);
+            }
+        }
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: adds the remaining rows of reader to budget and copies the rows that cannot be imported to
+    //          rejectsWriter
+    private void importRows(CsvRecordReader reader, Budget budget, RejectsWriter rejectsWriter) throws IOException {
+        while (reader.next()) {
+            try {
+                importRow(reader, budget);
+                importedCount++;
+            } catch (IllegalArgumentException e) {
+                rejectsWriter.write(reader, e.getMessage());
+                rejectedCount++;
+            }
+        }
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: starts appending rows in bulk to the reports of budget that are columnar
+    private static void startBulkAppend(Budget budget) {
+        for (Report report : new Report[] {budget.getExpenseReport(), budget.getIncomeReport()}) {
+            if (report instanceof ColumnarReport) {
+                ((ColumnarReport) report).startBulkAppend();
+            }
+        }
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: adds the rows appended in bulk to the totals of the reports of budget that are columnar
+    private static void finishBulkAppend(Budget budget) {
+        for (Report report : new Report[] {budget.getExpenseReport(), budget.getIncomeReport()}) {
+            if (report instanceof ColumnarReport) {
+                ((ColumnarReport) report).finishBulkAppend();
+            }
+        }
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: adds the current row of reader to budget;
+    //          throws IllegalArgumentException if the row cannot be imported
+    private void importRow(CsvRecordReader reader, Budget budget) {
+        if (reader.isMalformed()) {
+            throw new IllegalArgumentException("Unbalanced quotes");
+        } else if (reader.hasTooManyFields()) {
+            throw new IllegalArgumentException("Too many columns");
+        } else if (reader.fieldCount() < mapping.getColumnCount()) {
+            throw new IllegalArgumentException("Missing columns");
+        }
+        LocalDate date = reader.date(mapping.getDateColumn(), mapping.getDateOrder());
+        String description = reader.text(mapping.getDescriptionColumn());
+        if (description.isEmpty()) {
+            throw new IllegalArgumentException("Empty description");
+        }
+        EntryType type = typeOf(reader);
+        int column = !mapping.hasDebitCreditColumns() ? mapping.getAmountColumn()
+                : type == EntryType.EXPENSE ? mapping.getDebitColumn() : mapping.getCreditColumn();
+        long cents = reader.cents(column, mapping.getDecimalSeparator());
+        Report report = type == EntryType.EXPENSE ? budget.getExpenseReport() : budget.getIncomeReport();
+        if (report instanceof ColumnarReport) {
+            ((ColumnarReport) report).append(description, cents, date);
+        } else {
+            report.addEntry(type.newEntry(description, cents, date));
+        }
+    }
+
+    // EFFECTS: returns whether the current row of reader is an expense or an income, following the convention of
+    //          the mapping; throws IllegalArgumentException if the row has no amount
+    private EntryType typeOf(CsvRecordReader reader) {
+        if (mapping.hasDebitCreditColumns()) {
+            if (!reader.isBlank(mapping.getDebitColumn())) {
+                return EntryType.EXPENSE;
+            } else if (!reader.isBlank(mapping.getCreditColumn())) {
+                return EntryType.INCOME;
+            }
+            throw new IllegalArgumentException("No amount");
+        }
+        boolean negative = reader.isNegative(mapping.getAmountColumn());
+        boolean expense = mapping.getSign() == CsvMapping.Sign.NEGATIVE_IS_EXPENSE ? negative : !negative;
+        return expense ? EntryType.EXPENSE : EntryType.INCOME;
+    }
+
+    // Getters
+    public int getImportedCount() {
+        return importedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    // Represents the file that rows that cannot be imported are copied to; the file is created when the first row
+    // is written to it
+    private class RejectsWriter implements AutoCloseable {
+        private final String destination;
+        private byte[] header;
+        private OutputStream out;
+
+        // EFFECTS: constructs a writer of rejected rows to destination
+        RejectsWriter(String destination) {
+            this.destination = destination;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: keeps the current row of reader as the header of the file
+        void setHeader(CsvRecordReader reader) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            reader.writeRecord(bytes);
+            writeField(bytes, "reason");
+            header = bytes.toByteArray();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: writes the current row of reader, followed by the reason it was rejected, to the file
+        void write(CsvRecordReader reader, String reason) throws IOException {
+            if (out == null) {
+                out = new BufferedOutputStream(Files.newOutputStream(Paths.get(destination),
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+                if (header != null) {
+                    out.write(header);
+                    out.write('\n');
+                }
+            }
+            reader.writeRecord(out);
+            writeField(out, reason);
+            out.write('\n');
+        }
+
+        // EFFECTS: writes a delimiter and then text as a quoted field to out
+        private void writeField(OutputStream out, String text) throws IOException {
+            out.write(mapping.getDelimiter());
+            out.write('"');
+            out.write(text.replace("\"", "\"\"").getBytes(StandardCharsets.UTF_8));
+            out.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package persistence;
+
+// Represents the layout of a bank statement in CSV format: the columns holding the date, description and amount of
+// each row, the order of the parts of the date, the separators used, and the convention that tells expenses from
+// incomes. Amounts are either in one signed column, or in a debit column for expenses and a credit column for
+// incomes. Columns are numbered from 0.
+public class CsvMapping {
+    // Represents the order of the year, month and day in a date, e.g. 2021-03-25, 25/03/2021 or 03/25/2021
+    public enum DateOrder {
+        YEAR_MONTH_DAY,
+        DAY_MONTH_YEAR,
+        MONTH_DAY_YEAR
+    }
+
+    // Represents the convention that tells expenses from incomes in a signed amount column
+    public enum Sign {
+        NEGATIVE_IS_EXPENSE,    // e.g. a bank account: money out is negative
+        POSITIVE_IS_EXPENSE     // e.g. a credit card: purchases are positive
+    }
+
+    private final int dateColumn;
+    private final int descriptionColumn;
+    private int amountColumn;
+    private int debitColumn;
+    private int creditColumn;
+    private Sign sign;
+    private DateOrder dateOrder;
+    private char delimiter;
+    private char decimalSeparator;
+    private boolean header;
+
+    // REQUIRES: all columns >= 0 and different from each other
+    // EFFECTS: constructs a mapping of a file with the date, description and signed amount in the given columns,
+    //          in which negative amounts are expenses, dates are year-month-day, fields are separated by commas,
+    //          the decimal separator is a point and the first row is a header
+    public CsvMapping(int dateColumn, int descriptionColumn, int amountColumn) {
+        this.dateColumn = dateColumn;
+        this.descriptionColumn = descriptionColumn;
+        this.amountColumn = amountColumn;
+        debitColumn = -1;
+        creditColumn = -1;
+        sign = Sign.NEGATIVE_IS_EXPENSE;
+        dateOrder = DateOrder.YEAR_MONTH_DAY;
+        delimiter = ',';
+        decimalSeparator = '.';
+        header = true;
+    }
+
+    // REQUIRES: both columns >= 0 and different from the other columns of the mapping
+    // MODIFIES: this
+    // EFFECTS: makes amounts be read from a debit column, whose rows are expenses, and a credit column, whose rows
+    //          are incomes, instead of a signed amount column
+    public void setDebitCreditColumns(int debitColumn, int creditColumn) {
+        this.debitColumn = debitColumn;
+        this.creditColumn = creditColumn;
+        amountColumn = -1;
+    }
+
+    public void setSign(Sign sign) {
+        this.sign = sign;
+    }
+
+    public void setDateOrder(DateOrder dateOrder) {
+        this.dateOrder = dateOrder;
+    }
+
+    // REQUIRES: delimiter is an ASCII character other than a quote, a digit or a line break
+    public void setDelimiter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    // REQUIRES: decimalSeparator is '.' or ','
+    public void setDecimalSeparator(char decimalSeparator) {
+        this.decimalSeparator = decimalSeparator;
+    }
+
+    public void setHeader(boolean header) {
+        this.header = header;
+    }
+
+    // EFFECTS: returns true if amounts are in a debit and a credit column rather than a signed amount column
+    public boolean hasDebitCreditColumns() {
+        return amountColumn < 0;
+    }
+
+    // EFFECTS: returns the number of columns a row must have
+    public int getColumnCount() {
+        int last = Math.max(dateColumn, descriptionColumn);
+        last = Math.max(last, Math.max(amountColumn, Math.max(debitColumn, creditColumn)));
+        return last + 1;
+    }
+
+    // Getters
+    public int getDateColumn() {
+        return dateColumn;
+    }
+
+    public int getDescriptionColumn() {
+        return descriptionColumn;
+    }
+
+    public int getAmountColumn() {
+        return amountColumn;
+    }
+
+    public int getDebitColumn() {
+        return debitColumn;
+    }
+
+    public int getCreditColumn() {
+        return creditColumn;
+    }
+
+    public Sign getSign() {
+        return sign;
+    }
+
+    public DateOrder getDateOrder() {
+        return dateOrder;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    public char getDecimalSeparator() {
+        return decimalSeparator;
+    }
+
+    public boolean hasHeader() {
+        return header;
+    }
+}
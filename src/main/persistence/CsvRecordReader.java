@@ -0,0 +1,377 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// Represents a reader of the records of a CSV file that reads the file from a channel into a byte buffer and splits
+// each record into fields in place, without regular expressions and without creating a string for each field.
+// Quoted fields may hold delimiters, line breaks and doubled quotes; blank lines are skipped. Numbers and dates are
+// parsed straight from the bytes of their fields; only text fields become strings.
+class CsvRecordReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte QUOTE = '"';
+    private static final int MAX_FIELDS = 64;
+
+    private final ReadableByteChannel channel;
+    private final byte delimiter;
+    private byte[] buffer;
+    private int limit;              // end of the bytes read into buffer
+    private boolean endOfFile;
+    private int recordStart;
+    private int recordEnd;          // end of the current record, before its line break
+    private int next;               // start of the next record
+    private int fieldCount;
+    private final int[] starts;
+    private final int[] ends;
+    private final boolean[] escaped;    // true if the field holds doubled quotes
+    private boolean malformed;          // true if a quoted field of the record is not closed properly
+    private boolean tooManyFields;      // true if the record has more than MAX_FIELDS fields
+
+    // EFFECTS: constructs a reader of the records in channel whose fields are separated by delimiter
+    CsvRecordReader(ReadableByteChannel channel, char delimiter) {
+        this.channel = channel;
+        this.delimiter = (byte) delimiter;
+        buffer = new byte[BUFFER_SIZE];
+        starts = new int[MAX_FIELDS];
+        ends = new int[MAX_FIELDS];
+        escaped = new boolean[MAX_FIELDS];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves to the next non-blank record and returns true; returns false if there are no more records;
+    //          throws IOException if the channel cannot be read
+    boolean next() throws IOException {
+        do {
+            recordStart = next;
+            int end = scan();
+            while (end < 0) {
+                if (endOfFile) {
+                    if (recordStart == limit) {
+                        return false;
+                    }
+                    end = scanToEnd();
+                } else {
+                    fill();
+                    end = scan();
+                }
+            }
+            next = end;
+        } while (recordEnd == recordStart);
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: splits the record starting at recordStart into fields and returns the start of the next record;
+    //          returns -1 if the record does not end before the end of the bytes read so far
+    private int scan() {
+        fieldCount = 0;
+        malformed = false;
+        tooManyFields = false;
+        int i = recordStart;
+        while (true) {
+            i = i < limit && buffer[i] == QUOTE ? scanQuoted(i) : scanUnquoted(i);
+            if (i < 0 || i >= limit) {
+                return -1;
+            }
+            byte b = buffer[i];
+            if (b != delimiter) {
+                recordEnd = i;
+                return i + 1;
+            }
+            i++;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the record starting at recordStart end at the end of the file and returns the end of the file;
+    //          the record is malformed if it ends inside a quoted field, in which case the line breaks at the end of
+    //          the file are not part of it
+    private int scanToEnd() {
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length + 1);
+        }
+        buffer[limit] = '\n';
+        limit++;
+        int end = scan();
+        limit--;
+        if (end < 0) {
+            malformed = true;
+            recordEnd = limit;
+            while (recordEnd > recordStart && (buffer[recordEnd - 1] == '\n' || buffer[recordEnd - 1] == '\r')) {
+                recordEnd--;
+            }
+        }
+        return limit;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the unquoted field starting at i and returns the index of the delimiter or line break that
+    //          ends it; returns limit if it does not end before the end of the bytes read so far
+    private int scanUnquoted(int i) {
+        int start = i;
+        while (i < limit) {
+            byte b = buffer[i];
+            if (b == delimiter || b == '\n' || b == '\r') {
+                break;
+            }
+            i++;
+        }
+        addField(start, i, false);
+        return i;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the quoted field starting with the quote at i and returns the index of the delimiter or line
+    //          break that follows it; returns -1 if it does not end before the end of the bytes read so far
+    private int scanQuoted(int i) {
+        int start = i + 1;
+        boolean doubled = false;
+        for (int j = start; j < limit; j++) {
+            if (buffer[j] == QUOTE) {
+                if (j + 1 < limit && buffer[j + 1] == QUOTE) {
+                    doubled = true;
+                    j++;
+                } else if (j + 1 < limit) {
+                    addField(start, j, doubled);
+                    return skipToDelimiter(j + 1);
+                } else {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the index of the first delimiter or line break from i; marks the record as malformed if
+    //          there is anything else first
+    private int skipToDelimiter(int i) {
+        while (i < limit && buffer[i] != delimiter && buffer[i] != '\n' && buffer[i] != '\r') {
+            malformed = true;
+            i++;
+        }
+        return i;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a field from start to end to the current record; marks the record as having too many fields,
+    //          and drops the field, if the record already has MAX_FIELDS fields
+    private void addField(int start, int end, boolean doubled) {
+        if (fieldCount < MAX_FIELDS) {
+            starts[fieldCount] = start;
+            ends[fieldCount] = end;
+            escaped[fieldCount] = doubled;
+            fieldCount++;
+        } else {
+            tooManyFields = true;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves the current record to the start of the buffer, growing it if the record fills it, and reads
+    //          more bytes from the channel after it
+    private void fill() throws IOException {
+        if (recordStart > 0) {
+            System.arraycopy(buffer, recordStart, buffer, 0, limit - recordStart);
+            limit -= recordStart;
+            recordStart = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        int n = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+        if (n < 0) {
+            endOfFile = true;
+        } else {
+            limit += n;
+        }
+    }
+
+    // EFFECTS: returns the number of fields in the current record
+    int fieldCount() {
+        return fieldCount;
+    }
+
+    // EFFECTS: returns true if a quoted field of the current record is not closed properly
+    boolean isMalformed() {
+        return malformed;
+    }
+
+    // EFFECTS: returns true if the current record has more than MAX_FIELDS fields, in which case only the first
+    //          MAX_FIELDS of them can be read
+    boolean hasTooManyFields() {
+        return tooManyFields;
+    }
+
+    // REQUIRES: 0 <= field < fieldCount()
+    // EFFECTS: returns true if the given field holds only spaces
+    boolean isBlank(int field) {
+        return trimStart(field) == trimEnd(field);
+    }
+
+    // REQUIRES: 0 <= field < fieldCount()
+    // EFFECTS: returns the text of the given field without leading and trailing spaces
+    String text(int field) {
+        int start = trimStart(field);
+        String text = new String(buffer, start, trimEnd(field) - start, StandardCharsets.UTF_8);
+        return escaped[field] ? text.replace("\"\"", "\"") : text;
+    }
+
+    // REQUIRES: 0 <= field < fieldCount()
+    // EFFECTS: returns true if the amount in the given field is negative, i.e. has a '-' before its digits or is
+    //          in parentheses
+    boolean isNegative(int field) {
+        int end = trimEnd(field);
+        for (int i = trimStart(field); i < end && !(buffer[i] >= '0' && buffer[i] <= '9'); i++) {
+            if (buffer[i] == '-' || buffer[i] == '(') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // REQUIRES: 0 <= field < fieldCount()
+    // EFFECTS: returns the absolute value in cents of the amount in the given field, e.g. -1,234.565 or (12.50),
+    //          rounding half up to the nearest cent; a leading '$' and grouping separators are ignored;
+    //          throws IllegalArgumentException if the field is not an amount or its cents do not fit in a long
+    long cents(int field, char decimalSeparator) {
+        int i = trimStart(field);
+        int end = trimEnd(field);
+        boolean parenthesized = i < end && buffer[i] == '(';
+        if (parenthesized) {
+            if (buffer[end - 1] != ')') {
+                throw new IllegalArgumentException("Invalid amount: " + text(field));
+            }
+            i++;
+            end--;
+        }
+        i = skipSignAndCurrency(i, end);
+        long[] number = new long[2];        // the value in cents and the number of digits read
+        try {
+            i = readWhole(i, end, decimalSeparator, number);
+            i = readFraction(i, end, decimalSeparator, number);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is too large: " + text(field));
+        }
+        if (i != end || number[1] == 0) {
+            throw new IllegalArgumentException("Invalid amount: " + text(field));
+        }
+        return number[0];
+    }
+
+    // EFFECTS: returns the index of the first byte from i that is not a sign, a '$' or a space
+    private int skipSignAndCurrency(int i, int end) {
+        while (i < end && (buffer[i] == '-' || buffer[i] == '+' || buffer[i] == '$' || buffer[i] == ' ')) {
+            i++;
+        }
+        return i;
+    }
+
+    // MODIFIES: number
+    // EFFECTS: reads the whole part of an amount from i into number and returns the index after it;
+    //          throws ArithmeticException if its cents do not fit in a long
+    private int readWhole(int i, int end, char decimalSeparator, long[] number) {
+        char grouping = decimalSeparator == '.' ? ',' : '.';
+        for (; i < end && buffer[i] != decimalSeparator; i++) {
+            int digit = buffer[i] - '0';
+            if (digit >= 0 && digit <= 9) {
+                number[0] = Math.addExact(Math.multiplyExact(number[0], 10), digit);
+                number[1]++;
+            } else if (buffer[i] != grouping && buffer[i] != ' ') {
+                break;
+            }
+        }
+        number[0] = Math.multiplyExact(number[0], 100);
+        return i;
+    }
+
+    // MODIFIES: number
+    // EFFECTS: reads the fraction of an amount, if any, from i into number, rounding it half up to cents, and
+    //          returns the index after it; throws ArithmeticException if the cents do not fit in a long
+    private int readFraction(int i, int end, char decimalSeparator, long[] number) {
+        if (i == end || buffer[i] != decimalSeparator) {
+            return i;
+        }
+        i++;
+        int scale = 10;
+        for (; i < end && buffer[i] >= '0' && buffer[i] <= '9'; i++) {
+            int digit = buffer[i] - '0';
+            if (scale > 0) {
+                number[0] = Math.addExact(number[0], digit * scale);
+            } else if (scale == 0 && digit >= 5) {
+                number[0] = Math.incrementExact(number[0]);
+            }
+            scale = scale > 1 ? scale / 10 : scale - 1;
+            number[1]++;
+        }
+        return i;
+    }
+
+    // REQUIRES: 0 <= field < fieldCount()
+    // EFFECTS: returns the date in the given field, whose year, month and day are in the given order and separated
+    //          by single non-digit characters; anything after the day, e.g. a time, is ignored; two-digit years are
+    //          taken to be in 2000-2099; throws IllegalArgumentException if the field is not a valid date
+    LocalDate date(int field, CsvMapping.DateOrder order) {
+        int[] parts = new int[3];
+        int i = trimStart(field);
+        int end = trimEnd(field);
+        for (int part = 0; part < 3; part++) {
+            int start = i;
+            for (; i < end && buffer[i] >= '0' && buffer[i] <= '9' && i - start < 4; i++) {
+                parts[part] = parts[part] * 10 + buffer[i] - '0';
+            }
+            if (i == start || (part < 2 && (i == end || buffer[i] >= '0' && buffer[i] <= '9'))) {
+                throw new IllegalArgumentException("Invalid date: " + text(field));
+            }
+            i++;
+        }
+        return toDate(parts, order, field);
+    }
+
+    // EFFECTS: returns the date made of the given parts in the given order
+    private LocalDate toDate(int[] parts, CsvMapping.DateOrder order, int field) {
+        int year = order == CsvMapping.DateOrder.YEAR_MONTH_DAY ? parts[0] : parts[2];
+        int month = order == CsvMapping.DateOrder.MONTH_DAY_YEAR ? parts[0] : parts[1];
+        int day = order == CsvMapping.DateOrder.YEAR_MONTH_DAY ? parts[2]
+                : order == CsvMapping.DateOrder.DAY_MONTH_YEAR ? parts[0] : parts[1];
+        try {
+            return LocalDate.of(year < 100 ? 2000 + year : year, month, day);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + text(field));
+        }
+    }
+
+    // EFFECTS: writes the bytes of the current record, as they are in the file, to out
+    void writeRecord(OutputStream out) throws IOException {
+        out.write(buffer, recordStart, recordEnd - recordStart);
+    }
+
+    // EFFECTS: returns the index of the first byte of the given field that is not a space
+    private int trimStart(int field) {
+        int i = starts[field];
+        while (i < ends[field] && buffer[i] == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    // EFFECTS: returns the index after the last byte of the given field that is not a space
+    private int trimEnd(int field) {
+        int i = ends[field];
+        while (i > starts[field] && buffer[i - 1] == ' ') {
+            i--;
+        }
+        return i;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,197 @@
+package persistence;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import model.Budget;
+import model.Entry;
+import model.EntryType;
+import model.Report;
+import model.ReportListener;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents a write-ahead journal of the entries added to, changed in and deleted from a budget. Operations are
+// recorded as they happen and appended to the journal file, one JSON object per line, when the journal is
+// flushed; a line left torn by a crash is ended before more lines are appended. Replaying a journal is idempotent:
+// an add or modify sets the entry with the given id to the recorded values, adding it if it is missing, and a
+// delete of a missing entry does nothing.
+public class Journal implements ReportListener {
+    private final String destination;
+    private final List<String> pending;     // operations recorded since the last flush
+
+    // EFFECTS: constructs a journal that appends to destination file
+    public Journal(String destination) {
+        this.destination = destination;
+        pending = new ArrayList<>();
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: records the operations made on budget from now on
+    public void attach(Budget budget) {
+        budget.getExpenseReport().addListener(this);
+        budget.getIncomeReport().addListener(this);
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: stops recording the operations made on budget
+    public void detach(Budget budget) {
+        budget.getExpenseReport().removeListener(this);
+        budget.getIncomeReport().removeListener(this);
+    }
+
+    @Override
+    public synchronized void entryAdded(Report report, Entry e) {
+        pending.add(record("add", report, e).toString());
+    }
+
+    @Override
+    public synchronized void entryChanged(Report report, Entry e) {
+        pending.add(record("modify", report, e).toString());
+    }
+
+    @Override
+    public synchronized void entryDeleted(Report report, Entry e) {
+        JSONObject json = new JSONObject();
+        json.put("op", "delete");
+        json.put("report", report.getType().name());
+        json.put("id", e.getId());
+        pending.add(json.toString());
+    }
+
+    // EFFECTS: returns the given operation on entry e of report as a JSON object
+    private JSONObject record(String op, Report report, Entry e) {
+        JSONObject json = e.toJson();
+        json.put("op", op);
+        json.put("report", report.getType().name());
+        return json;
+    }
+
+    // EFFECTS: returns the number of operations recorded since the last flush
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the operations recorded since the last flush to the journal file and forces them to disk;
+    //          throws IOException if the journal file cannot be written, in which case the operations are kept
+    public synchronized void flush() throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (String line : pending) {
+            lines.append(line).append('\n');
+        }
+        append(Paths.get(destination), lines.toString().getBytes(StandardCharsets.UTF_8));
+        pending.clear();
+    }
+
+    // MODIFIES: file
+    // EFFECTS: appends lines, which end in a line break, to the journal file and forces them to disk, creating the
+    //          file if it does not exist; if the file ends in a line cut short, e.g. by a crash or a failed write,
+    //          a line break is written first, so that the torn line is skipped on replay on its own instead of
+    //          swallowing the first line appended; throws IOException if the file cannot be written
+    static void append(Path file, byte[] lines) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long position = channel.size();
+            if (position > 0 && !endsWithLineBreak(channel, position)) {
+                position += writeFully(channel, ByteBuffer.wrap(new byte[] {'\n'}), position);
+            }
+            writeFully(channel, ByteBuffer.wrap(lines), position);
+            channel.force(false);
+        }
+    }
+
+    // EFFECTS: returns true if the byte of channel before position, which is > 0, is a line break
+    private static boolean endsWithLineBreak(FileChannel channel, long position) throws IOException {
+        ByteBuffer last = ByteBuffer.allocate(1);
+        channel.read(last, position - 1);
+        return last.get(0) == '\n';
+    }
+
+    // MODIFIES: channel
+    // EFFECTS: writes all of bytes to channel from position on and returns the number of bytes written
+    private static long writeFully(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+        long written = 0;
+        while (bytes.hasRemaining()) {
+            written += channel.write(bytes, position + written);
+        }
+        return written;
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: replays the operations in the journal file source on budget, if the file exists; lines that cannot
+    //          be parsed, e.g. a line cut short by a crash while it was appended, are skipped;
+    //          throws IOException if the file cannot be read
+    public static void replay(String source, Budget budget) throws IOException {
+        if (!Files.exists(Paths.get(source))) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                try {
+                    apply(new JSONObject(line), budget);
+                } catch (JSONException | IllegalArgumentException e) {
+                    // skip the operation
+                }
+            }
+        }
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: applies the operation in json to budget
+    private static void apply(JSONObject json, Budget budget) {
+        EntryType type = EntryType.valueOf(json.getString("report"));
+        Report report = type == EntryType.EXPENSE ? budget.getExpenseReport() : budget.getIncomeReport();
+        long id = json.getLong("id");
+        if (json.getString("op").equals("delete")) {
+            report.deleteEntryById(id);
+        } else {
+            Entry recorded = newEntry(type, id, json);
+            Entry existing = report.getEntryById(id);
+            if (existing == null) {
+                report.addEntry(recorded);
+            } else {
+                update(existing, recorded);
+            }
+        }
+    }
+
+    // MODIFIES: entry
+    // EFFECTS: sets the description, amount and date of entry to those of recorded
+    private static void update(Entry entry, Entry recorded) {
+        try {
+            entry.setDescription(recorded.getDescription());
+            entry.setAmountInCents(recorded.getAmountInCents());
+            entry.setDate(recorded.getLocalDate());
+        } catch (EmptyStringException | NegativeInputException e) {
+            throw new IllegalArgumentException("Invalid entry in journal");
+        }
+    }
+
+    // EFFECTS: returns a new entry of the given type with the given id and the values recorded in json;
+    //          throws IllegalArgumentException if the values are not valid
+    private static Entry newEntry(EntryType type, long id, JSONObject json) {
+        try {
+            Entry entry = JsonReader.parseEntry(type, json);
+            entry.setId(id);
+            return entry;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid entry in journal: " + json);
+        }
+    }
+}
@@ -1,20 +1,34 @@
 package persistence;
 
+import exception.EmptyStringException;
+import exception.NegativeInputException;
 import model.Budget;
+import model.Dates;
+import model.Entry;
+import model.EntryType;
 import model.Expense;
 import model.Income;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.BufferedReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
-import java.util.stream.Stream;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
 
-// Represents a reader that reads budget from JSON data stored in file
+// Represents a reader that reads budget from JSON data stored in file; the file is read as a stream of tokens and
+// each entry is added to the budget as soon as it has been read, so only one entry is held in memory at a time
 public class JsonReader {
     private String source;
 
@@ -24,21 +38,168 @@ public class JsonReader {
     }
 
     // EFFECTS: reads budget from file and returns it;
-    // throws IOException if an error occurs while reading data from file
+    // throws IOException if an error occurs while reading data from file;
+    // throws JSONException if the file is not valid JSON or lacks the expense or income report or their entries
     public Budget read() throws IOException {
-        String jsonData = readFile(source);
-        JSONObject jsonObject = new JSONObject(jsonData);
-        return parseBudget(jsonObject);
+        return read(ProgressListener.NONE);
+    }
+
+    // EFFECTS: reads budget from file and returns it, telling listener how many bytes of the file have been read;
+    // throws IOException if an error occurs while reading data from file;
+    // throws JSONException if the file is not valid JSON or lacks the expense or income report or their entries;
+    // throws CancellationException if the reading thread is interrupted
+    public Budget read(ProgressListener listener) throws IOException {
+        Budget budget = new Budget();
+        Set<String> found = new HashSet<>();
+        long total = Files.size(Paths.get(source));
+        InputStream input = new ProgressInputStream(new FileInputStream(source), total, listener);
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            JSONTokener tokener = new JSONTokener(reader);
+            readMembers(tokener, key -> readReport(tokener, budget, key, found));
+        }
+        require(found, "expenseReport");
+        require(found, "incomeReport");
+        return budget;
+    }
+
+    // EFFECTS: throws JSONException, as JSONObject does for a missing member, if key is not one of the keys found
+    private static void require(Set<String> found, String key) {
+        if (!found.contains(key)) {
+            throw new JSONException("JSONObject[\"" + key + "\"] not found.");
+        }
     }
 
     // EFFECTS: reads source file as string and returns it;
     // throws IOException if an error occurs while reading data from source file
     public String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
-        try (Stream<String> stream = Files.lines(Paths.get(source),StandardCharsets.UTF_8)) {
-            stream.forEach(s -> contentBuilder.append(s));
+        return new String(Files.readAllBytes(Paths.get(source)), StandardCharsets.UTF_8);
+    }
+
+    // MODIFIES: tokener
+    // EFFECTS: reads a JSON object from tokener, passing the key of each member to memberReader, which must read
+    //          the value of the member from tokener
+    private void readMembers(JSONTokener tokener, Consumer<String> memberReader) {
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSONObject text must begin with '{'");
+        }
+        char c = tokener.nextClean();
+        while (c != '}') {
+            if (c != '"') {
+                throw tokener.syntaxError("Expected a key");
+            }
+            String key = tokener.nextString('"');
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+            memberReader.accept(key);
+            c = tokener.nextClean();
+            if (c == ',') {
+                c = tokener.nextClean();
+            } else if (c != '}') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    // MODIFIES: tokener
+    // EFFECTS: reads a JSON array from tokener, passing each of its elements to elementReader
+    private void readElements(JSONTokener tokener, Consumer<Object> elementReader) {
+        if (tokener.nextClean() != '[') {
+            throw tokener.syntaxError("A JSONArray text must begin with '['");
+        }
+        char c = tokener.nextClean();
+        while (c != ']') {
+            tokener.back();
+            elementReader.accept(tokener.nextValue());
+            c = tokener.nextClean();
+            if (c == ',') {
+                c = tokener.nextClean();
+            } else if (c != ']') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+
+    // MODIFIES: tokener, budget, found
+    // EFFECTS: reads the value of the member with the given key of a budget from tokener; adds the entries of
+    //          the expense and income reports to budget, and their keys to found once their entries have been read,
+    //          and skips other members without building their values;
+    //          throws JSONException if a report has no entries
+    private void readReport(JSONTokener tokener, Budget budget, String key, Set<String> found) {
+        Consumer<JSONObject> entryReader;
+        if (key.equals("expenseReport")) {
+            entryReader = json -> addExpense(budget, json);
+        } else if (key.equals("incomeReport")) {
+            entryReader = json -> addIncome(budget, json);
+        } else {
+            skipValue(tokener);
+            return;
+        }
+        Set<String> reportFound = new HashSet<>();
+        readMembers(tokener, reportKey -> {
+            if (reportKey.equals("entries")) {
+                readElements(tokener, json -> entryReader.accept((JSONObject) json));
+                reportFound.add(reportKey);
+            } else {
+                skipValue(tokener);
+            }
+        });
+        require(reportFound, "entries");
+        found.add(key);
+    }
+
+    // MODIFIES: tokener
+    // EFFECTS: moves tokener past the next JSON value without building it, as LazyJsonReader does;
+    //          throws JSONException if the value is not closed
+    private static void skipValue(JSONTokener tokener) {
+        char c = tokener.nextClean();
+        if (c == '"') {
+            skipString(tokener);
+        } else if (c == '{' || c == '[') {
+            skipNested(tokener);
+        } else {
+            while (c != 0 && c != ',' && c != '}' && c != ']' && c > ' ') {
+                c = tokener.next();
+            }
+            if (c != 0) {
+                tokener.back();
+            }
+        }
+    }
+
+    // MODIFIES: tokener
+    // EFFECTS: moves tokener past the rest of the object or array whose opening bracket has just been read;
+    //          throws JSONException if it is not closed
+    private static void skipNested(JSONTokener tokener) {
+        int depth = 1;
+        while (depth > 0) {
+            char c = tokener.nextClean();
+            if (c == '"') {
+                skipString(tokener);
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            } else if (c == 0) {
+                throw tokener.syntaxError("Unterminated object or array");
+            }
+        }
+    }
+
+    // MODIFIES: tokener
+    // EFFECTS: moves tokener past the rest of the string whose opening quote has just been read;
+    //          throws JSONException if it is not closed
+    private static void skipString(JSONTokener tokener) {
+        char c = tokener.next();
+        while (c != '"') {
+            if (c == 0) {
+                throw tokener.syntaxError("Unterminated string");
+            }
+            if (c == '\\') {
+                tokener.next();
+            }
+            c = tokener.next();
         }
-        return contentBuilder.toString();
     }
 
     // EFFECTS: parses budget from JSON object and returns it
@@ -75,11 +236,7 @@ public class JsonReader {
     // EFFECTS: parses expense from JSON object and adds it to budget
     public void addExpense(Budget budget, JSONObject jsonObject) {
         try {
-            String description = jsonObject.getString("description");
-            double amount = jsonObject.getDouble("amount");
-            Calendar date = getDate(jsonObject);
-            Expense expense = new Expense(description, amount, date);
-            budget.addExpense(expense);
+            budget.addExpense((Expense) parseEntry(EntryType.EXPENSE, jsonObject));
         } catch (Exception e) {
             // do not add the expense to the budget
         }
@@ -89,22 +246,43 @@ public class JsonReader {
     // EFFECTS: parses income from JSON object and adds it to budget
     public void addIncome(Budget budget, JSONObject jsonObject) {
         try {
-            String description = jsonObject.getString("description");
-            double amount = jsonObject.getDouble("amount");
-            Calendar date = getDate(jsonObject);
-            Income income = new Income(description, amount, date);
-            budget.addIncome(income);
+            budget.addIncome((Income) parseEntry(EntryType.INCOME, jsonObject));
         } catch (Exception e) {
             // do not add the income to the budget
         }
     }
 
+    // EFFECTS: parses an expense or income, depending on type, from JSON object and returns it;
+    //          throws JSONException if a value is missing or has the wrong type;
+    //          throws NegativeInputException if the amount is negative;
+    //          throws EmptyStringException if the description is empty
+    static Entry parseEntry(EntryType type, JSONObject jsonObject) throws NegativeInputException,
+            EmptyStringException {
+        String description = jsonObject.getString("description");
+        double amount = jsonObject.getDouble("amount");
+        LocalDate date = getDate(jsonObject);
+        Entry entry = type == EntryType.EXPENSE
+                ? new Expense(description, amount, date)
+                : new Income(description, amount, date);
+        readId(entry, jsonObject);
+        return entry;
+    }
+
+    // MODIFIES: entry
+    // EFFECTS: gives entry the id stored in JSON object, if there is one; files written before entries had ids
+    //          leave entry with the new id it was created with
+    private static void readId(Entry entry, JSONObject jsonObject) {
+        if (jsonObject.has("id")) {
+            entry.setId(jsonObject.getLong("id"));
+        }
+    }
+
     // EFFECTS: parses date from JSON object and returns it
-    private Calendar getDate(JSONObject jsonObject) {
+    static LocalDate getDate(JSONObject jsonObject) {
         JSONObject jsonDate = jsonObject.getJSONObject("date");
         int year = jsonDate.getInt("year");
         int month = jsonDate.getInt("month");
         int day = jsonDate.getInt("day");
-        return new GregorianCalendar(year, month, day);
+        return Dates.of(year, month, day);
     }
 }
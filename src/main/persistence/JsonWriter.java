@@ -1,34 +1,143 @@
 package persistence;
 
 import model.Budget;
+import model.Entry;
+import model.EntryType;
+import model.Report;
 import org.json.JSONObject;
 
-import java.io.File;
+import java.io.BufferedWriter;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CancellationException;
 
-// Represents a writer that writes a JSON representation of budget to a file
+// Represents a writer that writes a JSON representation of budget to a file. Entries are written to a buffered
+// file channel one at a time, without building a JSON tree of the budget first; the output is the same as that
+// of budget.toJson().toString(TAB), or of budget.toJson().toString() if the writer is compact. The writer can also
+// write and append to a budget in newline-delimited JSON, one compact entry with its type per line, which
+// NdjsonReader reads back.
 public class JsonWriter {
     private static final int TAB = 3;
     PrintWriter writer;
     String destination;
+    private FileChannel channel;            // the channel of destination file the writer writes to
+    private final int indentFactor;
+    private ProgressListener listener;      // told about each entry written by the current write
+    private long written;
+    private long total;
 
     // EFFECTS: Constructs writer to write to destination file
     public JsonWriter(String destination) {
+        this(destination, false);
+    }
+
+    // EFFECTS: Constructs writer to write to destination file; if compact, the JSON is written without
+    //          line breaks or indentation
+    public JsonWriter(String destination, boolean compact) {
         this.destination = destination;
+        this.indentFactor = compact ? 0 : TAB;
     }
 
     // MODIFIES: this
     // EFFECTS: opens writer; throws FileNotFoundException if destination file cannot be opened for writing
     public void open() throws FileNotFoundException {
-        writer = new PrintWriter(new File(destination));
+        FileOutputStream stream = new FileOutputStream(destination);
+        channel = stream.getChannel();
+        writer = new PrintWriter(new BufferedWriter(Channels.newWriter(stream.getChannel(), StandardCharsets.UTF_8)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer to append to the end of destination file, creating the file if it does not exist;
+    //          throws FileNotFoundException if destination file cannot be opened for writing
+    public void openForAppend() throws FileNotFoundException {
+        FileOutputStream stream = new FileOutputStream(destination, true);
+        channel = stream.getChannel();
+        writer = new PrintWriter(new BufferedWriter(Channels.newWriter(stream.getChannel(), StandardCharsets.UTF_8)));
     }
 
     // MODIFIES: this
     // EFFECTS: writes JSON representation to destination file
     public void write(Budget budget) {
-        JSONObject jsonObject = budget.toJson();
-        saveToFile(jsonObject.toString(TAB));
+        write(budget, ProgressListener.NONE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes JSON representation to destination file, telling listener how many entries have been
+    //          written; throws CancellationException if the writing thread is interrupted, in which case the
+    //          destination file is left incomplete
+    public void write(Budget budget, ProgressListener listener) {
+        this.listener = listener;
+        written = 0;
+        total = budget.getIncomeReport().size() + budget.getExpenseReport().size();
+        writer.write('{');
+        newLine(TAB);
+        writeKey("incomeReport");
+        writeReport(budget.getIncomeReport(), TAB);
+        writer.write(',');
+        newLine(TAB);
+        writeKey("expenseReport");
+        writeReport(budget.getExpenseReport(), TAB);
+        newLine(0);
+        writer.write('}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes each expense and then each income of budget to destination file as a line of
+    //          newline-delimited JSON
+    public void writeLines(Budget budget) {
+        for (Entry entry : budget.getExpenseReport().getAllEntries()) {
+            writeLine(EntryType.EXPENSE, entry);
+        }
+        for (Entry entry : budget.getIncomeReport().getAllEntries()) {
+            writeLine(EntryType.INCOME, entry);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes entry of the given type to destination file as a line of newline-delimited JSON, e.g.
+    //          {"type":"EXPENSE","date":{"month":0,"year":2021,"day":1},"amount":12.5,"description":"Food","id":3}
+    public void writeLine(EntryType type, Entry entry) {
+        LocalDate date = entry.getLocalDate();
+        writer.write("{\"type\":");
+        writer.write(JSONObject.quote(type.name()));
+        writer.write(",\"date\":{\"month\":");
+        writer.write(Integer.toString(date.getMonthValue() - 1));
+        writer.write(",\"year\":");
+        writer.write(Integer.toString(date.getYear()));
+        writer.write(",\"day\":");
+        writer.write(Integer.toString(date.getDayOfMonth()));
+        writer.write("},\"amount\":");
+        writer.write(JSONObject.numberToString(entry.getAmount()));
+        writer.write(",\"description\":");
+        writer.write(JSONObject.quote(entry.getDescription()));
+        writer.write(",\"id\":");
+        writer.write(Long.toString(entry.getId()));
+        writer.write("}\n");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes everything written so far to destination file, so that readers of the file see it
+    public void flush() {
+        writer.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes everything written so far to destination file and forces it onto the storage device, so that
+    //          it survives a crash; throws IOException if any of it could not be written, e.g. because the disk is
+    //          full, since the PrintWriter the writer writes through does not throw
+    public void sync() throws IOException {
+        writer.flush();
+        if (writer.checkError()) {
+            throw new IOException("Unable to write to " + destination);
+        }
+        channel.force(true);
     }
 
     // MODIFIES: this
@@ -38,8 +147,101 @@ public class JsonWriter {
     }
 
     // MODIFIES: this
-    // EFFECTS: writes string to file
-    private void saveToFile(String json) {
-        writer.print(json);
+    // EFFECTS: writes report, whose first line is indented by indent, to file
+    private void writeReport(Report report, int indent) {
+        writer.write('{');
+        writeKey("entries");
+        List<Entry> entries = report.getAllEntries();
+        writer.write('[');
+        if (entries.size() == 1) {
+            writeEntry(entries.get(0), indent);
+            advance();
+        } else if (!entries.isEmpty()) {
+            for (int i = 0; i < entries.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                newLine(indent + TAB);
+                writeEntry(entries.get(i), indent + TAB);
+                advance();
+            }
+            newLine(indent);
+        }
+        writer.write(']');
+        writer.write('}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: counts an entry as written and tells the listener; throws CancellationException if the current
+    //          thread has been interrupted
+    private void advance() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Writing was cancelled");
+        }
+        written++;
+        listener.progress(written, total);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes entry, whose first line is indented by indent, to file
+    private void writeEntry(Entry entry, int indent) {
+        writer.write('{');
+        newLine(indent + TAB);
+        writeKey("date");
+        writeDate(entry.getLocalDate(), indent + TAB);
+        writer.write(',');
+        newLine(indent + TAB);
+        writeKey("amount");
+        writer.write(JSONObject.numberToString(entry.getAmount()));
+        writer.write(',');
+        newLine(indent + TAB);
+        writeKey("description");
+        writer.write(JSONObject.quote(entry.getDescription()));
+        writer.write(',');
+        newLine(indent + TAB);
+        writeKey("id");
+        writer.write(Long.toString(entry.getId()));
+        newLine(indent);
+        writer.write('}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes date in the format of Entry.toJson, with its first line indented by indent, to file
+    private void writeDate(LocalDate date, int indent) {
+        writer.write('{');
+        newLine(indent + TAB);
+        writeKey("month");
+        writer.write(Integer.toString(date.getMonthValue() - 1));
+        writer.write(',');
+        newLine(indent + TAB);
+        writeKey("year");
+        writer.write(Integer.toString(date.getYear()));
+        writer.write(',');
+        newLine(indent + TAB);
+        writeKey("day");
+        writer.write(Integer.toString(date.getDayOfMonth()));
+        newLine(indent);
+        writer.write('}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the quoted key followed by a colon, and by a space unless the writer is compact
+    private void writeKey(String key) {
+        writer.write(JSONObject.quote(key));
+        writer.write(':');
+        if (indentFactor > 0) {
+            writer.write(' ');
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: unless the writer is compact, starts a new line indented by indent spaces
+    private void newLine(int indent) {
+        if (indentFactor > 0) {
+            writer.write('\n');
+            for (int i = 0; i < indent; i++) {
+                writer.write(' ');
+            }
+        }
     }
 }
@@ -0,0 +1,390 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.Dates;
+import model.DescriptionSource;
+import model.EntryType;
+import model.Money;
+import org.json.JSONException;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Represents a reader that reads budget from JSON data stored in file without creating an Entry for each entry.
+// The bytes of the file are scanned once for the date, amount and id of each entry, which go straight into the
+// columns of a ColumnarReport. The description of each entry is copied, still encoded, to a byte array of
+// descriptions and only its offset there is kept; the description is only decoded, and an Entry only created, when
+// the entry is first accessed, e.g. to list or edit it. The budget holds the same entries as the one JsonReader
+// reads from the file, in the same order.
+public class LazyJsonReader {
+    private final String source;
+
+    // EFFECTS: constructs reader to read from source file
+    public LazyJsonReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads budget from file and returns it; its reports are ColumnarReports;
+    // throws IOException if an error occurs while reading data from file;
+    // throws JSONException if the file is not valid JSON
+    public Budget read() throws IOException {
+        byte[] bytes = Files.readAllBytes(Paths.get(source));
+        EncodedDescriptions descriptions = new EncodedDescriptions();
+        ColumnarReport expenseReport = new ColumnarReport(EntryType.EXPENSE, descriptions);
+        ColumnarReport incomeReport = new ColumnarReport(EntryType.INCOME, descriptions);
+        Scan scan = new Scan(bytes, descriptions);
+        scan.readMembers(key -> {
+            if (key.equals("expenseReport")) {
+                scan.readReport(expenseReport);
+            } else if (key.equals("incomeReport")) {
+                scan.readReport(incomeReport);
+            } else {
+                scan.skipValue();
+            }
+        });
+        descriptions.trim();
+        return new Budget(expenseReport, incomeReport);
+    }
+
+    // EFFECTS: returns the index of the quote that closes the JSON string whose opening quote is at index quote;
+    //          throws JSONException if the string is not closed
+    private static int stringEnd(byte[] bytes, int quote) {
+        int i = quote + 1;
+        while (i < bytes.length && bytes[i] != '"') {
+            i += bytes[i] == '\\' ? 2 : 1;
+        }
+        if (i >= bytes.length) {
+            throw new JSONException("Unterminated string at " + quote);
+        }
+        return i;
+    }
+
+    // EFFECTS: returns the value of the JSON string whose opening quote is at index quote
+    private static String decodeString(byte[] bytes, int quote) {
+        int end = stringEnd(bytes, quote);
+        for (int i = quote + 1; i < end; i++) {
+            if (bytes[i] == '\\') {
+                return (String) new JSONTokener(new String(bytes, quote, end + 1 - quote,
+                        StandardCharsets.UTF_8)).nextValue();
+            }
+        }
+        return new String(bytes, quote + 1, end - quote - 1, StandardCharsets.UTF_8);
+    }
+
+    // Represents the descriptions of the entries of a budget file, each kept as the quoted JSON string it is in the
+    // file and found by the offset of its opening quote
+    private static class EncodedDescriptions implements DescriptionSource {
+        private static final int INITIAL_CAPACITY = 1 << 12;
+
+        private byte[] bytes;
+        private int size;
+
+        // EFFECTS: constructs an empty store of descriptions
+        EncodedDescriptions() {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+
+        // MODIFIES: this
+        // EFFECTS: copies the quoted string from start to end, exclusive, of source to the store and returns the
+        //          offset of its opening quote in the store
+        int add(byte[] source, int start, int end) {
+            int length = end - start;
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+            System.arraycopy(source, start, bytes, size, length);
+            size += length;
+            return size - length;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: frees the unused capacity of the store
+        void trim() {
+            bytes = Arrays.copyOf(bytes, size);
+        }
+
+        @Override
+        public String getDescription(long key) {
+            return decodeString(bytes, (int) key);
+        }
+    }
+
+    // Represents the values read so far from the members of an entry of a budget file
+    private static class EntryFields {
+        private boolean valid = true;
+        private int year = Integer.MIN_VALUE;
+        private int month = Integer.MIN_VALUE;
+        private int day = Integer.MIN_VALUE;
+        private double amount = -1;
+        private int description = -1;       // offset of the description in the store; -1 if none
+        private boolean hasId;
+        private long id;
+
+        // EFFECTS: returns true if the entry has all the values JsonReader needs to read it, and they are valid
+        boolean isComplete() {
+            return valid && year != Integer.MIN_VALUE && month != Integer.MIN_VALUE && day != Integer.MIN_VALUE
+                    && amount >= 0 && !Double.isInfinite(amount) && description >= 0;
+        }
+    }
+
+    // Represents a pass over the bytes of a budget file
+    private static class Scan {
+        private final byte[] bytes;
+        private final EncodedDescriptions descriptions;
+        private final Map<ColumnarReport, Long> maxIds;     // largest id read so far into each report
+        private int position;
+
+        // EFFECTS: constructs a pass over bytes, starting at the first byte, that copies descriptions to the store
+        Scan(byte[] bytes, EncodedDescriptions descriptions) {
+            this.bytes = bytes;
+            this.descriptions = descriptions;
+            maxIds = new HashMap<>();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: skips whitespace and returns the next byte, moving past it;
+        //          throws JSONException if the end of the bytes is reached
+        private byte nextClean() {
+            while (position < bytes.length && (bytes[position] & 0xff) <= ' ') {
+                position++;
+            }
+            if (position >= bytes.length) {
+                throw new JSONException("Unexpected end of file at " + position);
+            }
+            return bytes[position++];
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads a JSON object, passing the key of each member to memberReader, which must read the value
+        //          of the member; throws JSONException if there is no valid object at the current position
+        void readMembers(Consumer<String> memberReader) {
+            if (nextClean() != '{') {
+                throw new JSONException("A JSONObject text must begin with '{' at " + (position - 1));
+            }
+            byte c = nextClean();
+            while (c != '}') {
+                if (c != '"') {
+                    throw new JSONException("Expected a key at " + (position - 1));
+                }
+                String key = decodeString(bytes, position - 1);
+                position = stringEnd(bytes, position - 1) + 1;
+                if (nextClean() != ':') {
+                    throw new JSONException("Expected a ':' after a key at " + (position - 1));
+                }
+                memberReader.accept(key);
+                c = nextClean();
+                if (c == ',') {
+                    c = nextClean();
+                } else if (c != '}') {
+                    throw new JSONException("Expected a ',' or '}' at " + (position - 1));
+                }
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads a JSON array, calling elementReader to read each of its elements;
+        //          throws JSONException if there is no valid array at the current position
+        void readElements(Runnable elementReader) {
+            if (nextClean() != '[') {
+                throw new JSONException("A JSONArray text must begin with '[' at " + (position - 1));
+            }
+            byte c = nextClean();
+            while (c != ']') {
+                position--;
+                elementReader.run();
+                c = nextClean();
+                if (c == ',') {
+                    c = nextClean();
+                } else if (c != ']') {
+                    throw new JSONException("Expected a ',' or ']' at " + (position - 1));
+                }
+            }
+        }
+
+        // MODIFIES: this, report
+        // EFFECTS: reads a report and appends its entries to report, skipping its other members
+        void readReport(ColumnarReport report) {
+            readMembers(key -> {
+                if (key.equals("entries")) {
+                    readElements(() -> readEntry(report));
+                } else {
+                    skipValue();
+                }
+            });
+        }
+
+        // MODIFIES: this, report
+        // EFFECTS: reads an entry and appends it to report, without its description, if JsonReader would add it;
+        //          an entry with the id of an entry read before is given a new id, as Report.addEntry does
+        private void readEntry(ColumnarReport report) {
+            if (nextClean() != '{') {
+                position--;
+                skipValue();
+                return;
+            }
+            position--;
+            EntryFields fields = new EntryFields();
+            readMembers(key -> readField(key, fields));
+            if (fields.isComplete()) {
+                appendEntry(report, fields);
+            }
+        }
+
+        // MODIFIES: this, report
+        // EFFECTS: appends the entry with the given fields to report, without its description; does not append it,
+        //          as JsonReader does not add it, if its amount in cents does not fit in a long or its date does
+        //          not exist
+        private void appendEntry(ColumnarReport report, EntryFields fields) {
+            long cents;
+            LocalDate date;
+            try {
+                cents = Money.toCents(fields.amount);
+                date = Dates.of(fields.year, fields.month, fields.day);
+            } catch (ArithmeticException | DateTimeException e) {
+                return;
+            }
+            if (fields.hasId && isNewId(report, fields.id)) {
+                report.appendUnread(fields.id, fields.description, cents, date);
+            } else {
+                report.appendUnread(fields.description, cents, date);
+            }
+        }
+
+        // MODIFIES: this, report
+        // EFFECTS: returns true if no entry read into report so far has the given id; ids are usually read in
+        //          increasing order, so report is only searched for ids that are not
+        private boolean isNewId(ColumnarReport report, long id) {
+            Long maxId = maxIds.get(report);
+            if (maxId == null || id > maxId) {
+                maxIds.put(report, id);
+                return true;
+            }
+            return !report.containsId(id);
+        }
+
+        // MODIFIES: this, fields
+        // EFFECTS: reads the value of the member of an entry with the given key into fields
+        private void readField(String key, EntryFields fields) {
+            if (key.equals("description")) {
+                readDescription(fields);
+            } else if (key.equals("amount")) {
+                fields.amount = readNumber(fields);
+            } else if (key.equals("id")) {
+                double id = readNumber(fields);
+                fields.hasId = true;
+                fields.id = (long) id;
+                fields.valid &= id == fields.id;
+            } else if (key.equals("date")) {
+                readMembers(dateKey -> readDatePart(dateKey, fields));
+            } else {
+                skipValue();
+            }
+        }
+
+        // MODIFIES: this, fields
+        // EFFECTS: reads the value of the member of a date with the given key into fields
+        private void readDatePart(String key, EntryFields fields) {
+            if (key.equals("year") || key.equals("month") || key.equals("day")) {
+                double value = readNumber(fields);
+                fields.valid &= value == (int) value;
+                if (key.equals("year")) {
+                    fields.year = (int) value;
+                } else if (key.equals("month")) {
+                    fields.month = (int) value;
+                } else {
+                    fields.day = (int) value;
+                }
+            } else {
+                skipValue();
+            }
+        }
+
+        // MODIFIES: this, fields
+        // EFFECTS: copies the description string at the current position to the store and records its offset there
+        //          in fields, without decoding it unless it has escapes; marks fields as not valid if it is not a
+        //          non-blank string
+        private void readDescription(EntryFields fields) {
+            if (nextClean() != '"') {
+                position--;
+                skipValue();
+                fields.valid = false;
+                return;
+            }
+            int quote = position - 1;
+            int end = stringEnd(bytes, quote);
+            boolean blank = true;
+            boolean escaped = false;
+            for (int i = quote + 1; i < end; i++) {
+                blank &= (bytes[i] & 0xff) <= ' ';
+                escaped |= bytes[i] == '\\';
+            }
+            if (escaped) {
+                blank = decodeString(bytes, quote).trim().isEmpty();
+            }
+            fields.description = blank ? -1 : descriptions.add(bytes, quote, end + 1);
+            position = end + 1;
+        }
+
+        // MODIFIES: this, fields
+        // EFFECTS: reads the number, or string holding a number as JSONObject.getDouble accepts, at the current
+        //          position and returns it; marks fields as not valid and returns -1 if the value there is not a
+        //          number
+        private double readNumber(EntryFields fields) {
+            boolean quoted = nextClean() == '"';
+            int start = --position;
+            skipValue();
+            try {
+                String text = quoted ? decodeString(bytes, start).trim()
+                        : new String(bytes, start, position - start, StandardCharsets.US_ASCII);
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                fields.valid = false;
+                return -1;
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: moves past the value at the current position, whatever its type;
+        //          throws JSONException if the value is not closed
+        void skipValue() {
+            byte c = nextClean();
+            if (c == '"') {
+                position = stringEnd(bytes, position - 1) + 1;
+            } else if (c == '{' || c == '[') {
+                skipNested();
+            } else {
+                while (position < bytes.length && bytes[position] != ',' && bytes[position] != '}'
+                        && bytes[position] != ']' && (bytes[position] & 0xff) > ' ') {
+                    position++;
+                }
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: moves past the rest of the object or array whose opening bracket has just been read;
+        //          throws JSONException if it is not closed
+        private void skipNested() {
+            int depth = 1;
+            while (depth > 0) {
+                byte c = nextClean();
+                if (c == '"') {
+                    position = stringEnd(bytes, position - 1) + 1;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package persistence;
+
+import model.Budget;
+import model.Entry;
+import model.EntryType;
+import model.Expense;
+import model.Income;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Represents a reader that reads budget from a file in newline-delimited JSON, one entry with its type per line, as
+// written by JsonWriter.writeLines. Since each line stands on its own, the file is cut at line breaks into ranges of
+// bytes that are read and parsed one at a time, or on several threads, so the whole file is never held in memory.
+// Every line must be a valid entry, except blank lines and a last line with no line break after it, which another
+// process may not have finished writing; those are skipped.
+public class NdjsonReader {
+    static final int CHUNK_SIZE = 1 << 20;      // number of bytes parsed by one task
+    private static final int SCAN_SIZE = 4096;  // number of bytes read at a time while looking for a line break
+
+    private final String source;
+
+    // EFFECTS: constructs reader to read from source file
+    public NdjsonReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads budget from file one range of lines at a time and returns it;
+    // throws IOException if an error occurs while reading data from file;
+    // throws JSONException if a line other than an unfinished last line is not a valid entry
+    public Budget read() throws IOException {
+        Budget budget = new Budget();
+        try (FileChannel channel = FileChannel.open(Paths.get(source))) {
+            long size = channel.size();
+            long start = 0;
+            while (start < size) {
+                long end = lineStartAfter(channel, start + CHUNK_SIZE, size);
+                for (Entry entry : parseRange(channel, start, end, size)) {
+                    add(entry, budget);
+                }
+                start = end;
+            }
+        }
+        return budget;
+    }
+
+    // EFFECTS: reads budget from file on the given pool and returns it; the budget is the same as the one read()
+    //          returns; throws IOException if an error occurs while reading data from file;
+    //          throws JSONException if a line other than an unfinished last line is not a valid entry
+    public Budget read(ForkJoinPool pool) throws IOException {
+        return read(pool, CHUNK_SIZE);
+    }
+
+    // REQUIRES: chunkSize > 0
+    // EFFECTS: reads budget from file on the given pool, about chunkSize bytes per task, and returns it
+    Budget read(ForkJoinPool pool, int chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(source))) {
+            long size = channel.size();
+            List<ForkJoinTask<List<Entry>>> chunks = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                long from = start;
+                long end = lineStartAfter(channel, start + chunkSize, size);
+                chunks.add(pool.submit(() -> parseRange(channel, from, end, size)));
+                start = end;
+            }
+            Budget budget = new Budget();
+            for (ForkJoinTask<List<Entry>> chunk : chunks) {
+                for (Entry entry : join(chunk)) {
+                    add(entry, budget);
+                }
+            }
+            return budget;
+        }
+    }
+
+    // EFFECTS: waits for chunk and returns its entries; rethrows the IOException that stopped it, if any
+    private static List<Entry> join(ForkJoinTask<List<Entry>> chunk) throws IOException {
+        try {
+            return chunk.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // EFFECTS: returns the offset of the first line that starts at or after position; size if there is none
+    private static long lineStartAfter(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+        long offset = position - 1;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += Math.max(read, 0);
+        }
+        return size;
+    }
+
+    // REQUIRES: start and end are the offsets of the starts of lines, or end is size
+    // EFFECTS: reads and parses the lines from start to end of the file, which is size bytes long, and returns the
+    //          entries in them, in order; throws UncheckedIOException if the lines cannot be read
+    private List<Entry> parseRange(FileChannel channel, long start, long end, long size) {
+        byte[] bytes = readRange(channel, start, end);
+        List<Entry> entries = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < bytes.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            String line = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            Entry entry = parseLineAt(line, start + lineStart, lineEnd == bytes.length && end == size);
+            if (entry != null) {
+                entries.add(entry);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return entries;
+    }
+
+    // EFFECTS: parses an expense or income from the line at the given offset of the file and returns it; null if
+    //          the line is blank, or is unfinished and not a valid entry; throws JSONException if the line is
+    //          finished and not a valid entry
+    private Entry parseLineAt(String line, long offset, boolean unfinished) {
+        if (line.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return parseLine(line);
+        } catch (JSONException e) {
+            if (unfinished) {
+                return null;
+            }
+            throw new JSONException("Invalid entry at byte " + offset + " of " + source + ": " + e.getMessage());
+        }
+    }
+
+    // EFFECTS: returns the bytes of the file from start to end; throws UncheckedIOException if they cannot be read
+    private byte[] readRange(FileChannel channel, long start, long end) {
+        if (end - start > Integer.MAX_VALUE - 8) {
+            throw new UncheckedIOException(new IOException("Line too long at byte " + start + " of " + source));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("File was truncated: " + source);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: adds the entry in line to budget; throws JSONException if line is not a valid entry
+    static void addLine(String line, Budget budget) {
+        add(parseLine(line), budget);
+    }
+
+    // MODIFIES: budget
+    // EFFECTS: adds entry to the report of budget for its type
+    private static void add(Entry entry, Budget budget) {
+        if (entry instanceof Expense) {
+            budget.addExpense((Expense) entry);
+        } else {
+            budget.addIncome((Income) entry);
+        }
+    }
+
+    // EFFECTS: parses an expense or income from line and returns it; throws JSONException if line is not a valid
+    //          entry, e.g. it is not a JSON object, has an unknown type, or has a negative amount
+    static Entry parseLine(String line) {
+        try {
+            JSONObject json = new JSONObject(line);
+            return JsonReader.parseEntry(EntryType.valueOf(json.getString("type")), json);
+        } catch (JSONException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JSONException("Not a valid entry: " + e);
+        }
+    }
+}
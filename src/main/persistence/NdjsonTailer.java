@@ -0,0 +1,92 @@
+package persistence;
+
+import model.Budget;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+// Represents a follower of a file in newline-delimited JSON that another process may be appending to, e.g. with
+// JsonWriter.openForAppend. Each poll adds the entries of the lines completed since the last poll to a budget; a
+// line is only read once its line break has been written, so a line that is still being written is left for a
+// later poll. A completed line that is not a valid entry stops the poll, and every later poll, at that line.
+public class NdjsonTailer {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path source;
+    private final Budget budget;
+    private byte[] buffer;          // bytes of the file from position that have been read but not added
+    private int filled;
+    private long position;          // offset in the file of the first line that has not been added
+
+    // EFFECTS: constructs a follower that adds the entries appended to source file to budget, starting from the
+    //          beginning of the file
+    public NdjsonTailer(String source, Budget budget) {
+        this.source = Paths.get(source);
+        this.budget = budget;
+        buffer = new byte[BUFFER_SIZE];
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: adds the entries of the lines completed since the last poll to budget and returns the number of
+    //          entries added; blank lines are skipped; does nothing if the file does not exist yet;
+    //          throws IOException if the file cannot be read or has become shorter than what has been read from it;
+    //          throws JSONException if a completed line is not a valid entry, after adding the lines before it
+    public int poll() throws IOException {
+        if (!Files.exists(source)) {
+            return 0;
+        }
+        int added = addLines();
+        try (FileChannel channel = FileChannel.open(source)) {
+            if (channel.size() < position + filled) {
+                throw new IOException("File was truncated: " + source);
+            }
+            int read;
+            while ((read = channel.read(ByteBuffer.wrap(buffer, filled, buffer.length - filled),
+                    position + filled)) > 0) {
+                filled += read;
+                added += addLines();
+                if (filled == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+            }
+        }
+        return added;
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: adds the entries of the complete lines in the buffer to budget, moves the rest of the buffer to
+    //          its start and returns the number of entries added; throws JSONException if a complete line is not
+    //          a valid entry, leaving that line at the start of the buffer
+    private int addLines() {
+        int added = 0;
+        int start = 0;
+        try {
+            for (int i = 0; i < filled; i++) {
+                if (buffer[i] == '\n') {
+                    String line = new String(buffer, start, i - start, StandardCharsets.UTF_8);
+                    if (!line.trim().isEmpty()) {
+                        NdjsonReader.addLine(line, budget);
+                        added++;
+                    }
+                    start = i + 1;
+                }
+            }
+        } finally {
+            System.arraycopy(buffer, start, buffer, 0, filled - start);
+            filled -= start;
+            position += start;
+        }
+        return added;
+    }
+
+    // EFFECTS: returns the offset in the file of the first line that has not been added to the budget
+    public long getPosition() {
+        return position;
+    }
+}
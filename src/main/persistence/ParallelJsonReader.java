@@ -0,0 +1,284 @@
+package persistence;
+
+import model.Budget;
+import model.Entry;
+import model.EntryType;
+import model.Report;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Represents a reader that reads budget from JSON data stored in file on several threads. A single pass over the
+// bytes of the file, read a block at a time, finds where each entry of the expense and income reports starts and
+// ends, without parsing the entries, and cuts the entries into chunks of bytes; each chunk is read from the file and
+// parsed on a fork-join pool as soon as it has been cut, while the pass goes on. Only a block of the file and the
+// chunks being parsed are held in memory at once. The parsed chunks are then added to the budget in the order they
+// appear in the file, a chunk at a time through Report.addAllEntries, so the budget is the same as the one
+// JsonReader reads from the file.
+public class ParallelJsonReader {
+    static final int CHUNK_SIZE = 4096;     // number of entries parsed by one task
+    private static final int BLOCK_SIZE = 1 << 16;  // number of bytes read at a time by the pass over the file
+
+    private final String source;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    // EFFECTS: constructs reader to read from source file on the common fork-join pool
+    public ParallelJsonReader(String source) {
+        this(source, ForkJoinPool.commonPool());
+    }
+
+    // EFFECTS: constructs reader to read from source file on the given pool
+    public ParallelJsonReader(String source, ForkJoinPool pool) {
+        this(source, pool, CHUNK_SIZE);
+    }
+
+    // REQUIRES: chunkSize > 0
+    // EFFECTS: constructs reader to read from source file on the given pool, chunkSize entries per task
+    ParallelJsonReader(String source, ForkJoinPool pool, int chunkSize) {
+        this.source = source;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    // EFFECTS: reads budget from file and returns it;
+    // throws IOException if an error occurs while reading data from file;
+    // throws JSONException if the file is not valid JSON or an entry is not a JSON object
+    public Budget read() throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(source))) {
+            Scan scan = new Scan(channel);
+            scan.run();
+            Budget budget = new Budget();
+            merge(scan.chunks.get(EntryType.EXPENSE), budget.getExpenseReport());
+            merge(scan.chunks.get(EntryType.INCOME), budget.getIncomeReport());
+            return budget;
+        }
+    }
+
+    // MODIFIES: report
+    // EFFECTS: waits for each chunk in turn and adds its entries to report in bulk; rethrows the IOException that
+    //          stopped a chunk, if any
+    private void merge(List<ForkJoinTask<List<Entry>>> chunks, Report report) throws IOException {
+        try {
+            for (ForkJoinTask<List<Entry>> chunk : chunks) {
+                report.addAllEntries(chunk.join());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // EFFECTS: reads the comma-separated entries of the given type from start to end of the file and returns them
+    //          in order; entries that are not valid are skipped, as JsonReader does; throws JSONException if the
+    //          bytes are not valid JSON or an entry is not a JSON object; throws UncheckedIOException if the bytes
+    //          cannot be read
+    private List<Entry> parseChunk(FileChannel channel, EntryType type, long start, long end) {
+        JSONArray array = new JSONArray("[" + readChunk(channel, start, end) + "]");
+        List<Entry> entries = new ArrayList<>(array.length());
+        for (Object json : array) {
+            if (!(json instanceof JSONObject)) {
+                throw new JSONException("Expected an entry object between bytes " + start + " and " + end
+                        + " in " + source);
+            }
+            try {
+                entries.add(JsonReader.parseEntry(type, (JSONObject) json));
+            } catch (Exception e) {
+                // do not add the entry to the budget
+            }
+        }
+        return entries;
+    }
+
+    // EFFECTS: returns the text of the file from byte start to byte end; throws UncheckedIOException if it cannot
+    //          be read
+    private String readChunk(FileChannel channel, long start, long end) {
+        if (end - start > Integer.MAX_VALUE - 8) {
+            throw new JSONException("Entries too long between bytes " + start + " and " + end + " in " + source);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("File was truncated: " + source);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    // Represents one pass over the bytes of a budget file that cuts the entries arrays of its reports into chunks
+    // and hands each chunk to the pool to be read and parsed. The bytes that delimit JSON values are all ASCII,
+    // and no byte of a multi-byte UTF-8 character is, so the pass never has to decode the text.
+    private class Scan {
+        private static final int REPORT_DEPTH = 2;      // depth of the objects of the reports
+        private static final int ENTRIES_DEPTH = 3;     // depth of the entries arrays
+
+        private final FileChannel channel;
+        private final Map<EntryType, List<ForkJoinTask<List<Entry>>>> chunks;
+        private final String[] keys;                    // key of the member being read at each depth
+        private final ByteArrayOutputStream string;     // bytes of the string being read, outside entries arrays
+        private int depth;
+        private boolean inString;
+        private boolean escaped;                        // true if the last byte of the string was a backslash
+        private long stringStart;
+        private EntryType entriesType;                  // type of the entries array being read; null if none
+        private long chunkStart;
+        private int chunkCount;
+        private boolean chunkEmpty;                     // true if the chunk has only white space so far
+
+        // EFFECTS: constructs a pass over the file read from channel
+        Scan(FileChannel channel) {
+            this.channel = channel;
+            chunks = new EnumMap<>(EntryType.class);
+            chunks.put(EntryType.EXPENSE, new ArrayList<>());
+            chunks.put(EntryType.INCOME, new ArrayList<>());
+            keys = new String[ENTRIES_DEPTH];
+            string = new ByteArrayOutputStream();
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads the file from start to end a block at a time, handing each chunk of entries to the pool;
+        //          throws IOException if the file cannot be read;
+        //          throws JSONException if the brackets and quotes of the text do not match
+        void run() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+            byte[] block = buffer.array();
+            long offset = 0;
+            int read;
+            while ((read = channel.read(buffer, offset)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    scan(block[i], offset + i);
+                }
+                offset += read;
+                buffer.clear();
+            }
+            if (inString) {
+                throw new JSONException("Unterminated string at " + stringStart + " in " + source);
+            } else if (depth != 0) {
+                throw new JSONException("Unexpected end of file " + source);
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads byte b at offset i of the file
+        private void scan(byte b, long i) {
+            if (inString) {
+                readString(b);
+                return;
+            }
+            if (entriesType != null && depth == ENTRIES_DEPTH && b != ']' && b != ',' && !isWhiteSpace(b)) {
+                chunkEmpty = false;
+            }
+            if (b == '"') {
+                inString = true;
+                stringStart = i;
+                string.reset();
+            } else if (b == '{' || b == '[') {
+                open(b, i);
+            } else if (b == '}' || b == ']') {
+                close(b, i);
+            } else if (b == ':' && depth > 0 && depth < ENTRIES_DEPTH) {
+                keys[depth] = new String(string.toByteArray(), StandardCharsets.UTF_8);
+            } else if (b == ',' && depth == ENTRIES_DEPTH && entriesType != null) {
+                endEntry(i);
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads byte b of a string, ending the string if b is its closing quote; keeps the bytes of strings
+        //          outside entries arrays, which may be keys
+        private void readString(byte b) {
+            if (escaped) {
+                escaped = false;
+            } else if (b == '\\') {
+                escaped = true;
+            } else if (b == '"') {
+                inString = false;
+                return;
+            }
+            if (depth < ENTRIES_DEPTH) {
+                string.write(b);
+            }
+        }
+
+        // EFFECTS: returns true if b is JSON white space
+        private boolean isWhiteSpace(byte b) {
+            return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+        }
+
+        // MODIFIES: this
+        // EFFECTS: opens the object or array starting with b at offset i
+        private void open(byte b, long i) {
+            depth++;
+            if (depth < ENTRIES_DEPTH) {
+                keys[depth] = null;
+            } else if (depth == ENTRIES_DEPTH && b == '[' && "entries".equals(keys[REPORT_DEPTH])) {
+                entriesType = reportType(keys[1]);
+                chunkStart = i + 1;
+                chunkCount = 0;
+                chunkEmpty = true;
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: closes the object or array ending with b at offset i
+        private void close(byte b, long i) {
+            if (depth == ENTRIES_DEPTH && b == ']' && entriesType != null) {
+                if (!chunkEmpty) {
+                    submit(i);
+                }
+                entriesType = null;
+            }
+            depth--;
+            if (depth < 0) {
+                throw new JSONException("Unexpected '" + (char) b + "' at " + i + " in " + source);
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: ends the entry that ends with the comma at offset i, handing the chunk to the pool if it is full
+        private void endEntry(long i) {
+            chunkCount++;
+            if (chunkCount == chunkSize) {
+                submit(i);
+                chunkStart = i + 1;
+                chunkCount = 0;
+                chunkEmpty = true;
+            }
+        }
+
+        // MODIFIES: this
+        // EFFECTS: hands the entries from chunkStart up to offset end to the pool to be read and parsed
+        private void submit(long end) {
+            EntryType type = entriesType;
+            long start = chunkStart;
+            chunks.get(type).add(pool.submit(() -> parseChunk(channel, type, start, end)));
+        }
+
+        // EFFECTS: returns the type of the entries of the report with the given key; null if it is not a report
+        private EntryType reportType(String key) {
+            if ("expenseReport".equals(key)) {
+                return EntryType.EXPENSE;
+            } else if ("incomeReport".equals(key)) {
+                return EntryType.INCOME;
+            }
+            return null;
+        }
+    }
+}
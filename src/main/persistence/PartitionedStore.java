@@ -0,0 +1,274 @@
+package persistence;
+
+import model.Budget;
+import model.Dates;
+import model.Entry;
+import model.EntryType;
+import model.PartitionSummary;
+import model.PartitionedBudget;
+import model.Report;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Represents a budget stored in a directory as one segment file per month, e.g. 2021-03.json, holding the entries
+// of that month in the format JsonWriter writes, and a manifest listing the months with the number and total
+// amount of their expenses and incomes. Opening the store only reads the manifest; segments are read when the
+// PartitionedBudget first needs them, and saving it only rewrites the segments of the months that changed.
+// Each file is written to a temporary file, forced onto the storage device and then moved over the old one in one
+// step. The segments are in place, and the directory forced, before the manifest is replaced last, so a crash
+// never leaves the manifest pointing at a half-written or missing segment.
+public class PartitionedStore {
+    private static final int TAB = 3;
+    private static final String MANIFEST = "manifest.json";
+    private static final String SEGMENT_SUFFIX = ".json";
+
+    private final Path directory;
+
+    // EFFECTS: constructs a store in the given directory
+    public PartitionedStore(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes all entries of budget to the store, replacing what it held;
+    //          throws IOException if the files cannot be written
+    public void write(Budget budget) throws IOException {
+        Files.createDirectories(directory);
+        SortedMap<YearMonth, Segment> segments = new TreeMap<>();
+        for (Entry e : budget.getExpenseReport().getAllEntries()) {
+            segments.computeIfAbsent(YearMonth.from(e.getLocalDate()), m -> new Segment()).expenses.add(e);
+        }
+        for (Entry e : budget.getIncomeReport().getAllEntries()) {
+            segments.computeIfAbsent(YearMonth.from(e.getLocalDate()), m -> new Segment()).incomes.add(e);
+        }
+        SortedMap<YearMonth, PartitionSummary> partitions = new TreeMap<>();
+        long maxId = 0;
+        for (Map.Entry<YearMonth, Segment> segment : segments.entrySet()) {
+            partitions.put(segment.getKey(), writeSegment(segment.getKey(), segment.getValue()));
+            maxId = Math.max(maxId, segment.getValue().maxId());
+        }
+        writeManifest(partitions, maxId);
+        deleteSegmentsNotIn(partitions);
+    }
+
+    // REQUIRES: budget was opened from this store
+    // MODIFIES: this, budget
+    // EFFECTS: writes the segments of the months of budget that changed since it was opened or last saved, and
+    //          the manifest, and marks budget as saved; throws IOException if the files cannot be written
+    public void save(PartitionedBudget budget) throws IOException {
+        SortedMap<YearMonth, PartitionSummary> partitions = new TreeMap<>();
+        long maxId = readManifest(partitions);
+        for (YearMonth month : budget.getChangedMonths()) {
+            Segment segment = new Segment();
+            segment.expenses.addAll(entriesIn(budget.getExpenseReport(), month));
+            segment.incomes.addAll(entriesIn(budget.getIncomeReport(), month));
+            if (segment.isEmpty()) {
+                partitions.remove(month);
+            } else {
+                partitions.put(month, writeSegment(month, segment));
+                maxId = Math.max(maxId, segment.maxId());
+            }
+        }
+        writeManifest(partitions, maxId);
+        deleteSegmentsNotIn(partitions);
+        budget.markSaved();
+    }
+
+    // EFFECTS: returns the budget in the store, without reading any of its segments;
+    //          throws IOException if the manifest cannot be read
+    public PartitionedBudget open() throws IOException {
+        SortedMap<YearMonth, PartitionSummary> partitions = new TreeMap<>();
+        long maxId = readManifest(partitions);
+        return new PartitionedBudget(partitions, maxId, this::readSegment);
+    }
+
+    // EFFECTS: returns the entries of report in the given month
+    private List<Entry> entriesIn(Report report, YearMonth month) {
+        return report.getEntriesInRange(Dates.toCalendar(month.atDay(1)), Dates.toCalendar(month.atEndOfMonth()));
+    }
+
+    // EFFECTS: returns new entries holding the entries in the segment of the given month;
+    //          throws UncheckedIOException if the segment cannot be read
+    List<Entry> readSegment(YearMonth month) {
+        try {
+            String text = new String(Files.readAllBytes(segmentFile(month)), StandardCharsets.UTF_8);
+            JSONObject json = new JSONObject(text);
+            List<Entry> entries = new ArrayList<>();
+            readEntries(json.getJSONObject("expenseReport"), EntryType.EXPENSE, entries);
+            readEntries(json.getJSONObject("incomeReport"), EntryType.INCOME, entries);
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read partition " + month, e);
+        }
+    }
+
+    // MODIFIES: entries
+    // EFFECTS: adds the valid entries of the given type in jsonReport to entries
+    private void readEntries(JSONObject jsonReport, EntryType type, List<Entry> entries) {
+        for (Object json : jsonReport.getJSONArray("entries")) {
+            try {
+                entries.add(JsonReader.parseEntry(type, (JSONObject) json));
+            } catch (Exception e) {
+                // do not add the entry to the budget
+            }
+        }
+    }
+
+    // EFFECTS: writes segment to the segment file of month and returns the summary of the partition
+    private PartitionSummary writeSegment(YearMonth month, Segment segment) throws IOException {
+        JSONObject json = new JSONObject();
+        json.put("expenseReport", new JSONObject().put("entries", toJson(segment.expenses)));
+        json.put("incomeReport", new JSONObject().put("entries", toJson(segment.incomes)));
+        replace(segmentFile(month), json.toString(TAB));
+        return new PartitionSummary(segment.expenses.size(), sumInCents(segment.expenses),
+                segment.incomes.size(), sumInCents(segment.incomes));
+    }
+
+    // EFFECTS: reads the manifest into partitions and returns the largest id stored in the partitions; an empty
+    //          store has no manifest; throws IOException if the manifest cannot be read
+    private long readManifest(SortedMap<YearMonth, PartitionSummary> partitions) throws IOException {
+        Path manifest = directory.resolve(MANIFEST);
+        if (!Files.exists(manifest)) {
+            return 0;
+        }
+        JSONObject json = new JSONObject(new String(Files.readAllBytes(manifest), StandardCharsets.UTF_8));
+        for (Object element : json.getJSONArray("partitions")) {
+            JSONObject partition = (JSONObject) element;
+            partitions.put(YearMonth.parse(partition.getString("month")), new PartitionSummary(
+                    partition.getInt("expenseCount"), partition.getLong("expenseCents"),
+                    partition.getInt("incomeCount"), partition.getLong("incomeCents")));
+        }
+        return json.getLong("maxId");
+    }
+
+    // EFFECTS: writes the manifest listing the given partitions and the largest id stored in them, once the segments
+    //          written before it are sure to be in the directory
+    private void writeManifest(SortedMap<YearMonth, PartitionSummary> partitions, long maxId) throws IOException {
+        JSONArray jsonPartitions = new JSONArray();
+        for (Map.Entry<YearMonth, PartitionSummary> partition : partitions.entrySet()) {
+            PartitionSummary summary = partition.getValue();
+            JSONObject json = new JSONObject();
+            json.put("month", partition.getKey().toString());
+            json.put("expenseCount", summary.getCount(EntryType.EXPENSE));
+            json.put("expenseCents", summary.getCents(EntryType.EXPENSE));
+            json.put("incomeCount", summary.getCount(EntryType.INCOME));
+            json.put("incomeCents", summary.getCents(EntryType.INCOME));
+            jsonPartitions.put(json);
+        }
+        JSONObject manifest = new JSONObject();
+        manifest.put("partitions", jsonPartitions);
+        manifest.put("maxId", maxId);
+        Files.createDirectories(directory);
+        BudgetStore.syncDirectory(directory);
+        replace(directory.resolve(MANIFEST), manifest.toString(TAB));
+        BudgetStore.syncDirectory(directory);
+    }
+
+    // EFFECTS: deletes the segment files of months that are not among the given partitions
+    private void deleteSegmentsNotIn(SortedMap<YearMonth, PartitionSummary> partitions) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                YearMonth month = monthOf(file);
+                if (month != null && !partitions.containsKey(month)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    // EFFECTS: returns the month of the given segment file; null if it is not a segment file
+    private YearMonth monthOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(SEGMENT_SUFFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // EFFECTS: returns the segment file of the given month
+    private Path segmentFile(YearMonth month) {
+        return directory.resolve(month + SEGMENT_SUFFIX);
+    }
+
+    // EFFECTS: writes text to a temporary file, forces it onto the storage device and then moves it over file in one
+    //          step; the temporary file is deleted if it cannot be written
+    private void replace(Path file, String text) throws IOException {
+        Path temporary = Paths.get(file + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // EFFECTS: returns the given entries as a JSON array
+    private static JSONArray toJson(List<Entry> entries) {
+        JSONArray json = new JSONArray();
+        for (Entry e : entries) {
+            json.put(e.toJson());
+        }
+        return json;
+    }
+
+    // EFFECTS: returns the total amount in cents of the given entries
+    private static long sumInCents(List<Entry> entries) {
+        long cents = 0;
+        for (Entry e : entries) {
+            cents += e.getAmountInCents();
+        }
+        return cents;
+    }
+
+    // Represents the expenses and incomes of one month
+    private static class Segment {
+        private final List<Entry> expenses = new ArrayList<>();
+        private final List<Entry> incomes = new ArrayList<>();
+
+        // EFFECTS: returns true if the month has no entries
+        boolean isEmpty() {
+            return expenses.isEmpty() && incomes.isEmpty();
+        }
+
+        // EFFECTS: returns the largest id of the entries of the month; 0 if there are none
+        long maxId() {
+            long maxId = 0;
+            for (Entry e : expenses) {
+                maxId = Math.max(maxId, e.getId());
+            }
+            for (Entry e : incomes) {
+                maxId = Math.max(maxId, e.getId());
+            }
+            return maxId;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package persistence;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CancellationException;
+
+// Represents an input stream that tells a listener how many bytes have been read from it so far, and that stops
+// reading once the thread reading it is interrupted
+class ProgressInputStream extends FilterInputStream {
+    private final long total;
+    private final ProgressListener listener;
+    private long done;
+
+    // EFFECTS: constructs a stream reading from in, which holds total bytes, and telling listener about progress
+    ProgressInputStream(InputStream in, long total, ProgressListener listener) {
+        super(in);
+        this.total = total;
+        this.listener = listener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        checkCancelled();
+        int b = super.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        checkCancelled();
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds n to the number of bytes read and tells the listener
+    private void advance(long n) {
+        done = Math.min(done + n, total);
+        listener.progress(done, total);
+    }
+
+    // EFFECTS: throws CancellationException if the current thread has been interrupted
+    private void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Reading was cancelled");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package persistence;
+
+// Represents a listener that is told how far a read or write of a budget file has got
+@FunctionalInterface
+public interface ProgressListener {
+    // a listener that ignores progress
+    ProgressListener NONE = (done, total) -> { };
+
+    // EFFECTS: called each time more of the work is done; done and total are in units chosen by the reader or
+    //          writer, e.g. bytes or entries, with 0 <= done <= total
+    void progress(long done, long total);
+}
@@ -3,18 +3,21 @@ package ui;
 import exception.EmptyStringException;
 import exception.NegativeInputException;
 import model.*;
-import persistence.JsonReader;
-import persistence.JsonWriter;
-import ui.gui.BarChart;
+import persistence.BudgetStore;
+import ui.gui.BudgetFileTask;
+import ui.gui.EntryCellRenderer;
 import ui.gui.EntryTool;
+import ui.gui.FilterPanel;
+import ui.gui.ReportListModel;
+import ui.gui.TimeSeriesChart;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.DecimalFormat;
+import java.time.LocalDate;
 import java.util.GregorianCalendar;
 
 import static java.lang.Math.abs;
@@ -39,6 +42,7 @@ public class BudgetManagerGUI extends JFrame {
     private static final String BUDGET_DATA = "./data/budget.json";
 
     private static final Color BACKGROUND_COLOR = new Color(211, 211, 211);
+    private static final String PROTOTYPE_DESCRIPTION = "A description as long as most descriptions";
 
     private static final int X_POS = 500;   // initial x pos of application window
     private static final int Y_POS = 200;   // initial y pos of application window
@@ -49,8 +53,7 @@ public class BudgetManagerGUI extends JFrame {
     private Report expenseReport;
     private Report incomeReport;
 
-    private JsonReader jsonReader;
-    private JsonWriter jsonWriter;
+    private BudgetStore budgetStore;
 
     private JFrame mainFrame;
     private JPanel mainPanel;
@@ -62,9 +65,9 @@ public class BudgetManagerGUI extends JFrame {
     private JPanel modifyExpensePanel;
     private JPanel modifyIncomePanel;
 
-    private DefaultListModel<Entry> expensesModel;
+    private ReportListModel expensesModel;
     private JList<Entry> expenses;
-    private DefaultListModel<Entry> incomesModel;
+    private ReportListModel incomesModel;
     private JList<Entry> incomes;
 
     private EntryTool addExpenseTool;
@@ -72,7 +75,7 @@ public class BudgetManagerGUI extends JFrame {
     private EntryTool modifyExpenseTool;
     private EntryTool modifyIncomeTool;
 
-    private BarChart barChart;
+    private TimeSeriesChart chart;
     private JLabel info;
     private JLabel expenseInfo;
     private JLabel incomeInfo;
@@ -87,15 +90,14 @@ public class BudgetManagerGUI extends JFrame {
 
     // MODIFIES: this
     // EFFECTS: constructs a new budget with an empty income and expense report;
-    // instantiates a new JsonReader and JsonWriter with the BUDGET_DATA file.
+    // instantiates a new BudgetStore with the BUDGET_DATA file.
     public void initializeBudgetFields() {
         budget = new Budget();
 
         expenseReport = budget.getExpenseReport();
         incomeReport = budget.getIncomeReport();
 
-        jsonReader = new JsonReader(BUDGET_DATA);
-        jsonWriter = new JsonWriter(BUDGET_DATA);
+        budgetStore = new BudgetStore(BUDGET_DATA);
     }
 
     /** Main frame **/
@@ -229,8 +231,8 @@ public class BudgetManagerGUI extends JFrame {
 
         budgetPanel.add(infoPanel, BorderLayout.PAGE_END);
 
-        barChart = new BarChart(0, 0);
-        budgetPanel.add(barChart);
+        chart = new TimeSeriesChart(budget);
+        budgetPanel.add(chart);
 
         budgetPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
     }
@@ -259,9 +261,7 @@ public class BudgetManagerGUI extends JFrame {
         expenseInfo.setText("Total expenses: $" + decimalFormat.format(expenseReport.sum()));
         incomeInfo.setText("Total income: $" + decimalFormat.format(incomeReport.sum()));
 
-        budgetPanel.remove(barChart);
-        barChart = new BarChart(expenseReport.sum(), incomeReport.sum());
-        budgetPanel.add(barChart);
+        chart.setBudget(budget);
     }
 
     // MODIFIES: this
@@ -272,10 +272,10 @@ public class BudgetManagerGUI extends JFrame {
         expensesPanel = new JPanel(expensesLayout);
         expensesPanel.setBackground(BACKGROUND_COLOR);
 
-        JPanel titlePanel = getTitlePanel("Expense Report");
+        expensesModel = new ReportListModel(expenseReport);
+        JPanel titlePanel = getTitlePanel("Expense Report", expensesModel);
         expensesPanel.add(titlePanel, BorderLayout.NORTH);
 
-        expensesModel = new DefaultListModel<>();
         expenses = new JList<>();
         JScrollPane listScrollPane = getJScrollPane(expenses, expensesModel);
         expensesPanel.add(listScrollPane, BorderLayout.CENTER);
@@ -294,10 +294,10 @@ public class BudgetManagerGUI extends JFrame {
         incomesPanel = new JPanel(incomesLayout);
         incomesPanel.setBackground(BACKGROUND_COLOR);
 
-        JPanel titlePanel = getTitlePanel("Income Report");
+        incomesModel = new ReportListModel(incomeReport);
+        JPanel titlePanel = getTitlePanel("Income Report", incomesModel);
         incomesPanel.add(titlePanel, BorderLayout.NORTH);
 
-        incomesModel = new DefaultListModel<>();
         incomes = new JList<>();
         JScrollPane listScrollPane = getJScrollPane(incomes, incomesModel);
         incomesPanel.add(listScrollPane, BorderLayout.CENTER);
@@ -309,10 +309,13 @@ public class BudgetManagerGUI extends JFrame {
     }
 
     // MODIFIES: entries, entryModel
-    // EFFECTS: returns a JScrollPane for entries
-    private JScrollPane getJScrollPane(JList<Entry> entries, DefaultListModel<Entry> entryModel) {
+    // EFFECTS: returns a JScrollPane for entries; the cells of entries all have the size of a prototype entry, so
+    //          the list never measures the entries it does not show
+    private JScrollPane getJScrollPane(JList<Entry> entries, ReportListModel entryModel) {
         entries.setModel(entryModel);
         entries.setFont(new Font(Font.MONOSPACED, Font.BOLD, 15));
+        entries.setCellRenderer(new EntryCellRenderer());
+        entries.setPrototypeCellValue(EntryType.EXPENSE.newEntry(PROTOTYPE_DESCRIPTION, 0, LocalDate.now()));
 
         entries.setSelectionMode(ListSelectionModel.SINGLE_INTERVAL_SELECTION);
         entries.setLayoutOrientation(JList.VERTICAL);
@@ -323,8 +326,8 @@ public class BudgetManagerGUI extends JFrame {
         return listScrollPane;
     }
 
-    // EFFECTS: constructs a JPanel with a title and subtitle for a report panel
-    private JPanel getTitlePanel(String title) {
+    // EFFECTS: constructs a JPanel with a title, filter fields for entryModel and subtitle for a report panel
+    private JPanel getTitlePanel(String title, ReportListModel entryModel) {
         JLabel titleLabel = new JLabel(title);
         titleLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 20));
         titleLabel.setForeground(Color.BLACK);
@@ -338,6 +341,10 @@ public class BudgetManagerGUI extends JFrame {
         JLabel header = new JLabel(dateHeader + amountHeader + "Description");
         header.setFont(new Font(Font.MONOSPACED, Font.BOLD, 15));
 
+        FilterPanel filterPanel = new FilterPanel(entryModel);
+        filterPanel.setBackground(BACKGROUND_COLOR);
+        titlePanel.add(filterPanel, BorderLayout.CENTER);
+
         titlePanel.setBackground(BACKGROUND_COLOR);
         titlePanel.add(header, BorderLayout.PAGE_END);
         return titlePanel;
@@ -545,18 +552,10 @@ public class BudgetManagerGUI extends JFrame {
     }
 
     // MODIFIES: this
-    // EFFECTS: updates the budget
+    // EFFECTS: makes the expense and income lists show the reports of the current budget
     public void updateBudget() {
-        expensesModel.clear();
-        incomesModel.clear();
-
-        for (Entry e : expenseReport.getAllEntries()) {
-            expensesModel.addElement(e);
-        }
-
-        for (Entry i : incomeReport.getAllEntries()) {
-            incomesModel.addElement(i);
-        }
+        expensesModel.setReport(expenseReport);
+        incomesModel.setReport(incomeReport);
     }
 
     /** ActionListener for navigation **/
@@ -622,11 +621,12 @@ public class BudgetManagerGUI extends JFrame {
                 Expense expense = new Expense(description, amount, new GregorianCalendar(year, month, day));
 
                 budget.addExpense(expense);
-                expensesModel.addElement(expense);
 
                 changePanel(expensesPanel);
             } catch (NegativeInputException exception) {
                 printErrorMessage("The amount cannot be negative.");
+            } catch (ArithmeticException exception) {
+                printErrorMessage("The amount is too large.");
             } catch (EmptyStringException exception) {
                 printErrorMessage("The description cannot be empty.");
             }
@@ -650,11 +650,12 @@ public class BudgetManagerGUI extends JFrame {
                 Income income = new Income(description, amount, new GregorianCalendar(year, month, day));
 
                 budget.addIncome(income);
-                incomesModel.addElement(income);
 
                 changePanel(incomesPanel);
             } catch (NegativeInputException exception) {
                 printErrorMessage("The amount cannot be negative.");
+            } catch (ArithmeticException exception) {
+                printErrorMessage("The amount is too large.");
             } catch (EmptyStringException exception) {
                 printErrorMessage("The description cannot be empty.");
             }
@@ -678,10 +679,10 @@ public class BudgetManagerGUI extends JFrame {
         // MODIFIES: modifyTool, modifyPanel
         // EFFECTS: sets the modify entry panel; outputs an error message if no entry is selected
         private void setModifyPanel(JList<Entry> entries, EntryTool modifyTool, Report report, JPanel modifyPanel) {
-            int index = entries.getSelectedIndex();
+            Entry entry = entries.getSelectedValue();
 
-            if (index != -1) {
-                modifyTool.setAll(report.getAllEntries().get(index));
+            if (entry != null) {
+                modifyTool.setAll(entry);
                 changePanel(modifyPanel);
             } else {
                 printErrorMessage("No entry is selected!");
@@ -707,15 +708,13 @@ public class BudgetManagerGUI extends JFrame {
         // EFFECTS: helper method for modifying entries in the report
         private void modifyEntry(EntryTool modifyTool, JList<Entry> entries, Report report, JPanel entriesPanel) {
             try {
-                int index = entries.getSelectedIndex();
-
                 String description = modifyTool.getDescriptionField().getText();
                 double amount = ((Number) modifyTool.getAmountField().getValue()).doubleValue();
                 int month = (int) modifyTool.getMonthSpinner().getValue() - 1;
                 int day = (int) modifyTool.getDaySpinner().getValue();
                 int year = (int) modifyTool.getYearSpinner().getValue();
 
-                Entry entryToModify = report.getAllEntries().get(index);
+                Entry entryToModify = report.getEntryById(entries.getSelectedValue().getId());
 
                 entryToModify.setDescription(description);
                 entryToModify.setAmount(amount);
@@ -723,6 +722,8 @@ public class BudgetManagerGUI extends JFrame {
                 changePanel(entriesPanel);
             } catch (NegativeInputException exception) {
                 printErrorMessage("The amount cannot be negative.");
+            } catch (ArithmeticException exception) {
+                printErrorMessage("The amount is too large.");
             } catch (EmptyStringException exception) {
                 printErrorMessage("The description cannot be empty.");
             }
@@ -746,13 +747,13 @@ public class BudgetManagerGUI extends JFrame {
         // MODIFIES: entries, entryModel, report
         // EFFECTS: helper method for deleting entries from a report; outputs a error message if no entry
         // is selected
-        private void deleteEntry(JList<Entry> entries, DefaultListModel<Entry> entryModel, Report report) {
+        private void deleteEntry(JList<Entry> entries, ReportListModel entryModel, Report report) {
             int index = entries.getSelectedIndex();
 
             if (index != -1) {
-                entryModel.remove(index);
-                Entry entryToDelete = report.getAllEntries().get(index);
-                report.deleteEntry(entryToDelete);
+                Entry entryToDelete = entryModel.getElementAt(index);
+                entries.clearSelection();
+                report.deleteEntryById(entryToDelete.getId());
             } else {
                 printErrorMessage("No entry is selected!");
             }
@@ -765,17 +766,27 @@ public class BudgetManagerGUI extends JFrame {
     public class SaveAction implements ActionListener {
 
         // MODIFIES: this
-        // EFFECTS: saves budget to file
+        // EFFECTS: saves budget to file on a background thread
         @Override
         public void actionPerformed(ActionEvent e) {
-            try {
-                jsonWriter.open();
-                jsonWriter.write(budget);
-                jsonWriter.close();
-                JOptionPane.showMessageDialog(mainFrame, "Budget successfully saved to " + BUDGET_DATA);
-            } catch (FileNotFoundException exception) {
-                printErrorMessage("Unable to save budget to " + BUDGET_DATA);
-            }
+            Budget saved = budget;
+            new BudgetFileTask(mainFrame, "Saving budget to " + BUDGET_DATA) {
+                @Override
+                protected Budget runInBackground() throws IOException {
+                    budgetStore.save(saved, this);
+                    return saved;
+                }
+
+                @Override
+                protected void succeeded(Budget result) {
+                    JOptionPane.showMessageDialog(mainFrame, "Budget successfully saved to " + BUDGET_DATA);
+                }
+
+                @Override
+                protected void failed(Throwable cause) {
+                    printErrorMessage("Unable to save budget to " + BUDGET_DATA);
+                }
+            }.start();
         }
     }
 
@@ -784,19 +795,31 @@ public class BudgetManagerGUI extends JFrame {
     public class LoadAction implements ActionListener {
 
         // MODIFIES: this
-        // EFFECTS: loads budget from file
+        // EFFECTS: loads budget from file on a background thread; the loaded budget replaces the current one
+        //          only once it has been read in full
         @Override
         public void actionPerformed(ActionEvent e) {
-            try {
-                budget = jsonReader.read();
-                expenseReport = budget.getExpenseReport();
-                incomeReport = budget.getIncomeReport();
-                updateBudget();
-                updateBudgetPanel();
-                JOptionPane.showMessageDialog(mainFrame, "Budget successfully loaded from " + BUDGET_DATA);
-            } catch (IOException exception) {
-                printErrorMessage("Unable to load budget from " + BUDGET_DATA);
-            }
+            new BudgetFileTask(mainFrame, "Loading budget from " + BUDGET_DATA) {
+                @Override
+                protected Budget runInBackground() throws IOException {
+                    return budgetStore.load(this);
+                }
+
+                @Override
+                protected void succeeded(Budget result) {
+                    budget = result;
+                    expenseReport = budget.getExpenseReport();
+                    incomeReport = budget.getIncomeReport();
+                    updateBudget();
+                    updateBudgetPanel();
+                    JOptionPane.showMessageDialog(mainFrame, "Budget successfully loaded from " + BUDGET_DATA);
+                }
+
+                @Override
+                protected void failed(Throwable cause) {
+                    printErrorMessage("Unable to load budget from " + BUDGET_DATA);
+                }
+            }.start();
         }
     }
 
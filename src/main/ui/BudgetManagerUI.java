@@ -3,10 +3,8 @@ package ui;
 import exception.EmptyStringException;
 import exception.NegativeInputException;
 import model.*;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.BudgetStore;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
@@ -19,14 +17,14 @@ import static java.lang.Math.abs;
 // Represents the Budget application
 public class BudgetManagerUI {
     private static final String BUDGET_DATA = "./data/budget.json";
+    private static final int ID_WIDTH = 12;     // width of the id column of a list of entries
 
     private Budget budget;
     private Scanner input;          // used for general input
     private Scanner inputSentence;  // used for input of description
     private Report expenseReport;
     private Report incomeReport;
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private BudgetStore budgetStore;
 
     // EFFECTS: runs the budget application
     public BudgetManagerUI() {
@@ -66,8 +64,7 @@ public class BudgetManagerUI {
         inputSentence = new Scanner(System.in).useDelimiter("\n");
         expenseReport = budget.getExpenseReport();
         incomeReport = budget.getIncomeReport();
-        jsonWriter = new JsonWriter(BUDGET_DATA);
-        jsonReader = new JsonReader(BUDGET_DATA);
+        budgetStore = new BudgetStore(BUDGET_DATA);
     }
 
     /** methods for processing user command **/
@@ -194,17 +191,19 @@ public class BudgetManagerUI {
         }
     }
 
-    // EFFECTS: displays all entries in the given report
+    // EFFECTS: displays all entries in the given report, reusing one line buffer for all of them
     private void displayEntries(Report report) {
-        int i = 0;
-
         String dateHeader = String.format("%-30s", "Date of Entry");
         String amountHeader = String.format("%-31s", "Amount");
 
-        System.out.println("Entry Number\t\t" + dateHeader + amountHeader + "Description");
+        System.out.println("Entry ID\t\t" + dateHeader + amountHeader + "Description");
+        StringBuilder line = new StringBuilder();
         for (Entry e : report.getAllEntries()) {
-            System.out.printf("%-12d\t\t" + e + "\n", i);
-            i++;
+            line.setLength(0);
+            line.append(e.getId());
+            EntryFormatter.pad(line, ID_WIDTH);
+            line.append("\t\t").append(e).append('\n');
+            System.out.append(line);
         }
     }
 
@@ -286,50 +285,46 @@ public class BudgetManagerUI {
     }
 
     // MODIFIES: this
-    // EFFECTS: prompts user for entry to delete; deletes it, if entryNum corresponds to an entry in report
+    // EFFECTS: prompts user for entry to delete; deletes it, if entryId corresponds to an entry in report
     private void deleteEntry(Report report) {
         if (report.isEmpty()) {
             System.out.println("There are no entries to delete.");
         } else {
-            System.out.println("Enter the number of the entry to delete; -1 to cancel.");
+            System.out.println("Enter the ID of the entry to delete; -1 to cancel.");
 
             displayEntries(report);
 
-            int entryNum = input.nextInt();
+            long entryId = input.nextLong();
 
-            if (entryNum >= report.size()) {
-                System.out.println("There is no entry with the given number.");
-            } else if (entryNum < 0) {
+            if (entryId < 0) {
                 System.out.println("No entry was deleted.");
-            } else {
-                Entry entryToDelete = report.getAllEntries().get(entryNum);
-                report.deleteEntry(entryToDelete);
-
+            } else if (report.deleteEntryById(entryId)) {
                 System.out.println("The entry has been deleted.");
+            } else {
+                System.out.println("There is no entry with the given ID.");
             }
         }
         System.out.println();
     }
 
     // MODIFIES: this
-    // EFFECTS: prompts user for entry to modify; modifies it, if entryNum corresponds to an entry in report
+    // EFFECTS: prompts user for entry to modify; modifies it, if entryId corresponds to an entry in report
     private void modifyEntry(Report report) {
         if (report.isEmpty()) {
             System.out.println("There are no entries to modify.");
         } else {
-            System.out.println("Enter the number of the entry to modify; -1 to cancel.");
+            System.out.println("Enter the ID of the entry to modify; -1 to cancel.");
 
             displayEntries(report);
 
-            int entryNum = input.nextInt();
+            long entryId = input.nextLong();
+            Entry entryToModify = report.getEntryById(entryId);
 
-            if (entryNum >= report.size()) {
-                System.out.println("There is no entry with the given number.");
-            } else if (entryNum < 0) {
+            if (entryId < 0) {
                 System.out.println("No entry was modified.");
+            } else if (entryToModify == null) {
+                System.out.println("There is no entry with the given ID.");
             } else {
-                Entry entryToModify = report.getAllEntries().get(entryNum);
-
                 displayModifySubmenu();
 
                 String command = input.next();
@@ -409,11 +404,9 @@ public class BudgetManagerUI {
     // EFFECTS: saves budget to file
     private void saveBudget() {
         try {
-            jsonWriter.open();
-            jsonWriter.write(budget);
-            jsonWriter.close();
+            budgetStore.save(budget);
             System.out.println("Budget successfully saved to " + BUDGET_DATA);
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             System.out.println("Unable to save budget to " + BUDGET_DATA);
         }
     }
@@ -422,7 +415,7 @@ public class BudgetManagerUI {
     // EFFECTS: loads budget from file
     private void loadBudget() {
         try {
-            budget = jsonReader.read();
+            budget = budgetStore.load();
             expenseReport = budget.getExpenseReport();
             incomeReport = budget.getIncomeReport();
             System.out.println("Budget successfully loaded from " + BUDGET_DATA);
@@ -0,0 +1,146 @@
+package ui.gui;
+
+import model.Budget;
+import persistence.ProgressListener;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.KeyAdapter;
+import java.awt.event.MouseAdapter;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// I learned to create this code from reading the following pages on
+// https://docs.oracle.com/javase/tutorial/uiswing/
+//  - Worker Threads and SwingWorker
+//  - How to Use Progress Bars
+//  - How to Use Root Panes
+//  - How to Use Swing Timers
+
+// Represents a load or save of the budget file that runs on a background thread while the event dispatch thread
+// keeps the window painted. A progress monitor shows how far the task has got and lets the user cancel it; the
+// monitor is checked on a timer, so a cancel is noticed even while the task reports no progress. The window ignores
+// input until the background thread has stopped working on the file, even if the task was cancelled before then, so
+// the budget cannot change while it is being saved and no other task can start on the same file.
+public abstract class BudgetFileTask extends SwingWorker<Budget, Void> implements ProgressListener {
+    private static final int MAX_PROGRESS = 100;
+    private static final int POLL_DELAY = 100;        // milliseconds between checks of the progress monitor
+    private static final int NOT_STARTED = 0;
+    private static final int RUNNING = 1;
+    private static final int STOPPED = 2;
+
+    private final JFrame frame;
+    private final ProgressMonitor monitor;
+    private final Component busyPane;
+    private final Timer poller;
+    private final AtomicInteger state;      // whether the background work has not started, is running or has stopped
+    private Component glassPane;
+    private boolean blocking;               // true while the frame ignores input
+
+    // EFFECTS: constructs a task for frame whose progress monitor shows the given message
+    public BudgetFileTask(JFrame frame, String message) {
+        this.frame = frame;
+        monitor = new ProgressMonitor(frame, message, null, 0, MAX_PROGRESS);
+        busyPane = createBusyPane();
+        state = new AtomicInteger(NOT_STARTED);
+        poller = new Timer(POLL_DELAY, e -> pollMonitor());
+    }
+
+    // EFFECTS: returns a component that swallows mouse and key events and shows a wait cursor
+    private static Component createBusyPane() {
+        JComponent pane = new JPanel();
+        pane.setOpaque(false);
+        pane.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        pane.addMouseListener(new MouseAdapter() { });
+        pane.addKeyListener(new KeyAdapter() { });
+        pane.setFocusable(true);
+        return pane;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: blocks input to the frame and starts the task on a background thread
+    public void start() {
+        glassPane = frame.getGlassPane();
+        frame.setGlassPane(busyPane);
+        busyPane.setVisible(true);
+        busyPane.requestFocusInWindow();
+        blocking = true;
+        poller.start();
+        execute();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the latest progress in the progress monitor, which pops the monitor up once the task has run
+    //          for a while even if it has made no progress, and cancels the task if the user has cancelled it
+    private void pollMonitor() {
+        monitor.setProgress(Math.min(getProgress(), MAX_PROGRESS - 1));
+        if (monitor.isCanceled()) {
+            cancel(true);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates the progress of the task; called from the background thread
+    @Override
+    public void progress(long done, long total) {
+        setProgress(total == 0 ? MAX_PROGRESS : (int) Math.min(MAX_PROGRESS, done * MAX_PROGRESS / total));
+    }
+
+    // EFFECTS: runs the work of the task unless it was cancelled before it started, and arranges for the frame to
+    //          be unblocked once the work has stopped
+    @Override
+    protected final Budget doInBackground() throws Exception {
+        if (!state.compareAndSet(NOT_STARTED, RUNNING)) {
+            return null;
+        }
+        try {
+            return runInBackground();
+        } finally {
+            state.set(STOPPED);
+            SwingUtilities.invokeLater(this::unblock);
+        }
+    }
+
+    // EFFECTS: loads or saves the budget file on the background thread and returns the budget; the thread is
+    //          interrupted if the task is cancelled
+    protected abstract Budget runInBackground() throws Exception;
+
+    // MODIFIES: this
+    // EFFECTS: closes the progress monitor and hands the result of the task to succeeded, or its error to failed;
+    //          does nothing else if the task was cancelled. The frame is unblocked here only if the work never
+    //          started; otherwise it stays blocked until the work has stopped
+    @Override
+    protected void done() {
+        poller.stop();
+        monitor.close();
+        if (state.compareAndSet(NOT_STARTED, STOPPED)) {
+            unblock();
+        }
+        try {
+            succeeded(get());
+        } catch (CancellationException e) {
+            // the user cancelled the task
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            failed(e.getCause());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: lets the frame take input again, unless it has been let already
+    private void unblock() {
+        if (blocking) {
+            blocking = false;
+            busyPane.setVisible(false);
+            frame.setGlassPane(glassPane);
+        }
+    }
+
+    // EFFECTS: called on the event dispatch thread with the result of the task once it has finished
+    protected abstract void succeeded(Budget result);
+
+    // EFFECTS: called on the event dispatch thread with the error that stopped the task
+    protected abstract void failed(Throwable cause);
+}
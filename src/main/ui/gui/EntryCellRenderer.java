@@ -0,0 +1,22 @@
+package ui.gui;
+
+import model.Entry;
+
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JList;
+import java.awt.Component;
+
+// Represents a renderer of the cells of a list of entries. Each cell shows the display string the entry keeps
+// until it is changed, so repainting and scrolling the list do not format entries again; rows that have just been
+// deleted and not yet removed from the list are shown empty.
+public class EntryCellRenderer extends DefaultListCellRenderer {
+
+    // MODIFIES: this
+    // EFFECTS: returns this renderer set up to show value, an entry or null, in the given cell of list
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
+                                                  boolean cellHasFocus) {
+        String text = value instanceof Entry ? value.toString() : "";
+        return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+    }
+}
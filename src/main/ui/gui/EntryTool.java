@@ -84,9 +84,9 @@ public class EntryTool {
     // MODIFIES: this
     // EFFECTS: sets all spinner and field values to corresponding value of field in entry
     public void setAll(Entry entry) {
-        daySpinner.setValue(entry.getDate().get(Calendar.DAY_OF_MONTH));
-        monthSpinner.setValue(entry.getDate().get(Calendar.MONTH) + 1);
-        yearSpinner.setValue(entry.getDate().get(Calendar.YEAR));
+        daySpinner.setValue(entry.getLocalDate().getDayOfMonth());
+        monthSpinner.setValue(entry.getLocalDate().getMonthValue());
+        yearSpinner.setValue(entry.getLocalDate().getYear());
         amountField.setValue(entry.getAmount());
         descriptionField.setText(entry.getDescription());
     }
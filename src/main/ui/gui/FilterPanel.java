@@ -0,0 +1,127 @@
+package ui.gui;
+
+import model.EntryFilter;
+import model.Money;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.awt.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+// I learned to create this code from reading the following pages on
+// https://docs.oracle.com/javase/tutorial/uiswing/
+//  - How to Use Text Fields
+//  - How to Write a Document Listener
+//  - How to Use Swing Timers
+
+// Represents a row of fields that filter the entries shown by a report list model as the user types: text the
+// description must contain, a range of amounts and a range of dates (yyyy-mm-dd). The filter is only applied once
+// the user has stopped typing for a moment, so a burst of keystrokes starts a single query. A field that cannot be
+// read is shown in red and does not restrict the entries.
+public class FilterPanel extends JPanel implements DocumentListener {
+    private static final int DEBOUNCE_DELAY = 250;      // milliseconds without typing before the filter is applied
+    private static final Color ERROR_COLOR = new Color(217, 42, 48);
+
+    private final ReportListModel model;
+    private final Timer timer;
+    private final JTextField descriptionField;
+    private final JTextField minAmountField;
+    private final JTextField maxAmountField;
+    private final JTextField startDateField;
+    private final JTextField endDateField;
+
+    // EFFECTS: constructs a panel of empty filter fields for model
+    public FilterPanel(ReportListModel model) {
+        super(new GridLayout(2, 5, 5, 0));
+        this.model = model;
+        timer = new Timer(DEBOUNCE_DELAY, e -> applyFilter());
+        timer.setRepeats(false);
+        descriptionField = addField("Description contains");
+        minAmountField = addField("Amount from");
+        maxAmountField = addField("Amount to");
+        startDateField = addField("Date from");
+        endDateField = addField("Date to");
+        add(descriptionField);
+        add(minAmountField);
+        add(maxAmountField);
+        add(startDateField);
+        add(endDateField);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a label with the given text to the first row of the panel and returns a new field to go under
+    //          it, which restarts the timer whenever it is edited
+    private JTextField addField(String label) {
+        add(new JLabel(label));
+        JTextField field = new JTextField();
+        field.getDocument().addDocumentListener(this);
+        return field;
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+        timer.restart();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the model show only the entries kept by the filter the fields describe
+    private void applyFilter() {
+        long minCents = readAmount(minAmountField, 0);
+        long maxCents = readAmount(maxAmountField, Long.MAX_VALUE);
+        LocalDate startDate = readDate(startDateField, LocalDate.MIN);
+        LocalDate endDate = readDate(endDateField, LocalDate.MAX);
+        model.setFilter(new EntryFilter(descriptionField.getText().trim(), minCents, maxCents, startDate, endDate));
+    }
+
+    // MODIFIES: field
+    // EFFECTS: returns the amount in cents in field; orElse if field is empty or does not hold a non-negative amount
+    //          whose cents fit in a long, and then marks the field invalid unless it is empty
+    private long readAmount(JTextField field, long orElse) {
+        String text = field.getText().trim().replace("$", "").replace(",", "");
+        long cents = orElse;
+        boolean valid = text.isEmpty();
+        if (!valid) {
+            try {
+                double dollars = Double.parseDouble(text);
+                if (dollars >= 0) {
+                    cents = Money.toCents(dollars);
+                    valid = true;
+                }
+            } catch (NumberFormatException | ArithmeticException e) {
+                // not an amount, or too large to be one in cents, so it does not restrict the entries
+            }
+        }
+        field.setForeground(valid ? Color.BLACK : ERROR_COLOR);
+        return cents;
+    }
+
+    // MODIFIES: field
+    // EFFECTS: returns the date in field; orElse if field is empty or does not hold a date
+    private LocalDate readDate(JTextField field, LocalDate orElse) {
+        String text = field.getText().trim();
+        LocalDate date = orElse;
+        boolean valid = text.isEmpty();
+        if (!valid) {
+            try {
+                date = LocalDate.parse(text);
+                valid = true;
+            } catch (DateTimeParseException e) {
+                // not a date, so it does not restrict the entries
+            }
+        }
+        field.setForeground(valid ? Color.BLACK : ERROR_COLOR);
+        return date;
+    }
+}
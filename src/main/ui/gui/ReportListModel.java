@@ -0,0 +1,184 @@
+package ui.gui;
+
+import model.Entry;
+import model.EntryFilter;
+import model.Report;
+import model.ReportListener;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Represents a list model that shows the entries of a report as a list the report shares with it, which an ordinary
+// report hands over in constant time by sharing its rows rather than copying them. The model listens to the report and
+// coalesces the changes made to it into as few list events as possible, published on the event dispatch thread once the
+// changes are done: a run of additions becomes a single interval-added event, and any other mix of changes becomes one
+// event for the rows added or removed at the end and one contents-changed event, which a JList with a fixed cell size
+// handles by repainting only its visible rows. Until the events are published, the model keeps showing the list of rows
+// it last published, so its size and its rows always agree. A model with a filter shows only the entries the filter
+// keeps. A filter with text looks the text up in the description index of the report, which is kept up to date as the
+// report changes, so only the entries with the text are checked, right away; any other filter is applied on a
+// background thread to a snapshot of the report, and a query still running when the filter or report changes is
+// cancelled, so only the result of the latest query is published.
+public class ReportListModel extends AbstractListModel<Entry> implements ReportListener {
+    private static final ExecutorService FILTER_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "entry-filter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Report report;
+    private EntryFilter filter;
+    private Future<?> query;            // the latest query of the filter; null if there has been none
+    private int publications;           // the number of publications so far, which numbers the query of each
+    private List<Entry> rows;           // the entries of the report, or those the filter kept, when last published
+    private boolean changed;            // true if entries have changed or been deleted since the last publication
+    private boolean scheduled;          // true if a publication is waiting to run on the event dispatch thread
+
+    // MODIFIES: report
+    // EFFECTS: constructs a model of the entries of report
+    public ReportListModel(Report report) {
+        this.report = report;
+        filter = EntryFilter.ALL;
+        rows = report.snapshotEntries();
+        report.addListener(this);
+    }
+
+    // MODIFIES: this, report
+    // EFFECTS: makes the model show the entries of report instead of those of the current report, e.g. when another
+    //          budget is loaded; must be called on the event dispatch thread
+    public void setReport(Report report) {
+        this.report.removeListener(this);
+        synchronized (this) {
+            this.report = report;
+            changed = true;
+        }
+        report.addListener(this);
+        publish();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the model show only the entries that filter keeps, once they have been found; must be called
+    //          on the event dispatch thread
+    public void setFilter(EntryFilter filter) {
+        this.filter = filter;
+        synchronized (this) {
+            changed = true;
+        }
+        publish();
+    }
+
+    @Override
+    public int getSize() {
+        return rows.size();
+    }
+
+    // EFFECTS: returns the entry in the given row of the list last published, even if it has been deleted from the
+    //          report since
+    @Override
+    public Entry getElementAt(int index) {
+        return rows.get(index);
+    }
+
+    @Override
+    public synchronized void entryAdded(Report report, Entry e) {
+        schedule();
+    }
+
+    @Override
+    public synchronized void entryChanged(Report report, Entry e) {
+        changed = true;
+        schedule();
+    }
+
+    @Override
+    public synchronized void entryDeleted(Report report, Entry e) {
+        changed = true;
+        schedule();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: arranges for the changes made so far to be published on the event dispatch thread, unless that has
+    //          been arranged already
+    private void schedule() {
+        if (!scheduled) {
+            scheduled = true;
+            SwingUtilities.invokeLater(this::publish);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tells the listeners of the model about the changes made to the report since the last publication,
+    //          in as few events as possible; if the model has a filter with text, shows the entries the filter
+    //          finds through the description index of the report, and if it has another filter, starts a query of
+    //          the filter instead
+    private void publish() {
+        boolean onlyAdded;
+        synchronized (this) {
+            onlyAdded = !changed;
+            changed = false;
+            scheduled = false;
+        }
+        int number = ++publications;
+        if (query != null) {
+            query.cancel(true);
+        }
+        if (filter.matchesAll()) {
+            show(report.snapshotEntries(), onlyAdded);
+        } else if (filter.hasText()) {
+            show(filter.apply(report), false);
+        } else {
+            startQuery(number);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts applying the filter to a snapshot of the report on a background thread as the query with the
+    //          given number; the entries it keeps are shown once found, unless the model has published again since
+    private void startQuery(int number) {
+        Report snapshot = report.snapshot();
+        EntryFilter queryFilter = filter;
+        query = FILTER_EXECUTOR.submit(() -> {
+            List<Entry> matches = queryFilter.apply(snapshot.getAllEntries());
+            SwingUtilities.invokeLater(() -> {
+                if (number == publications) {
+                    show(entriesOf(matches), false);
+                }
+            });
+        });
+    }
+
+    // EFFECTS: returns the entries of the report with the ids of the given copies, skipping those deleted since
+    private List<Entry> entriesOf(List<Entry> copies) {
+        List<Entry> entries = new ArrayList<>(copies.size());
+        for (Entry copy : copies) {
+            Entry entry = report.getEntryById(copy.getId());
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the model show newRows, telling its listeners in as few events as possible; if onlyAdded, the
+    //          rows shown so far are known to be unchanged at the start of newRows
+    private void show(List<Entry> newRows, boolean onlyAdded) {
+        int oldSize = rows.size();
+        rows = newRows;
+        int newSize = rows.size();
+        if (newSize > oldSize) {
+            fireIntervalAdded(this, oldSize, newSize - 1);
+        } else if (newSize < oldSize) {
+            fireIntervalRemoved(this, newSize, oldSize - 1);
+        }
+        int keptSize = Math.min(oldSize, newSize);
+        if (!onlyAdded && keptSize > 0) {
+            fireContentsChanged(this, 0, keptSize - 1);
+        }
+    }
+}
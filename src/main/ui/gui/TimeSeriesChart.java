@@ -0,0 +1,242 @@
+package ui.gui;
+
+import model.Budget;
+import model.Entry;
+import model.Report;
+import model.ReportListener;
+import model.TimeSeries;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+
+// Represents a line chart of the daily or monthly expense and income totals of a budget. The chart is drawn into an
+// image that is kept between paints and only redrawn when an entry of the budget changes, the budget or interval is
+// replaced, or the chart is resized; painting the chart otherwise just copies the image. Each series is downsampled
+// to at most one bucket per pixel of the plot before it is drawn, so drawing takes about as long for decades of
+// daily totals as for a few months of them.
+public class TimeSeriesChart extends JPanel implements ReportListener {
+    private static final Color EXPENSE_COLOR = new Color(217, 42, 48);
+    private static final Color INCOME_COLOR = new Color(65, 169, 76);
+    private static final int PANEL_WIDTH = 980;
+    private static final int PANEL_HEIGHT = 450;
+    private static final int CHART_X1 = 100;
+    private static final int CHART_Y1 = 50;
+    private static final int MARGIN_X = CHART_X1 / 2;
+    private static final int MARGIN_Y = CHART_Y1 / 2 + 15;
+    private static final int GRID_LINES = 4;
+
+    private Budget budget;
+    private TimeSeries.Interval interval;
+    private BufferedImage image;        // the chart as last drawn; null if it has never been drawn
+    private volatile boolean stale;     // true if the image no longer shows the current totals
+
+    // MODIFIES: budget
+    // EFFECTS: constructs a chart of the monthly totals of budget
+    public TimeSeriesChart(Budget budget) {
+        setPreferredSize(new Dimension(PANEL_WIDTH, PANEL_HEIGHT));
+        setBorder(BorderFactory.createLineBorder(Color.BLACK, 1));
+        setBackground(Color.WHITE);
+        interval = TimeSeries.Interval.MONTH;
+        drawTitle();
+        setBudget(budget);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a title and a choice of interval onto the JPanel
+    private void drawTitle() {
+        JLabel title = new JLabel("Expense vs. Income");
+        title.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 20));
+        title.setForeground(Color.BLACK);
+        add(title);
+
+        JComboBox<TimeSeries.Interval> intervals = new JComboBox<>(TimeSeries.Interval.values());
+        intervals.setSelectedItem(interval);
+        intervals.addActionListener(e -> setInterval((TimeSeries.Interval) intervals.getSelectedItem()));
+        add(intervals);
+    }
+
+    // MODIFIES: this, budget
+    // EFFECTS: makes the chart show the totals of budget instead of those of the current budget, e.g. when another
+    //          budget is loaded; does nothing if budget is the current budget
+    public void setBudget(Budget budget) {
+        if (budget == this.budget) {
+            return;
+        }
+        if (this.budget != null) {
+            this.budget.getExpenseReport().removeListener(this);
+            this.budget.getIncomeReport().removeListener(this);
+        }
+        this.budget = budget;
+        budget.getExpenseReport().addListener(this);
+        budget.getIncomeReport().addListener(this);
+        invalidateImage();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the chart show daily or monthly totals
+    public void setInterval(TimeSeries.Interval interval) {
+        if (interval != this.interval) {
+            this.interval = interval;
+            invalidateImage();
+        }
+    }
+
+    @Override
+    public void entryAdded(Report report, Entry e) {
+        invalidateImage();
+    }
+
+    @Override
+    public void entryChanged(Report report, Entry e) {
+        invalidateImage();
+    }
+
+    @Override
+    public void entryDeleted(Report report, Entry e) {
+        invalidateImage();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the image as out of date and asks for the chart to be repainted
+    private void invalidateImage() {
+        stale = true;
+        repaint();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: paints the chart onto the JPanel, redrawing its image first if it is out of date or the wrong size
+    @Override
+    public void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (image == null || stale || image.getWidth() != getWidth() || image.getHeight() != getHeight()) {
+            stale = false;
+            redrawImage();
+        }
+        g.drawImage(image, 0, 0, null);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: draws the chart of the current totals into the image, creating the image if it is the wrong size
+    private void redrawImage() {
+        int width = Math.max(getWidth(), CHART_X1 + MARGIN_X + 3);
+        int height = Math.max(getHeight(), CHART_Y1 + MARGIN_Y + 1);
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        Rectangle plot = new Rectangle(CHART_X1, CHART_Y1, width - CHART_X1 - MARGIN_X, height - CHART_Y1 - MARGIN_Y);
+        TimeSeries expenses = budget.getExpenseSeries(interval);
+        TimeSeries incomes = budget.getIncomeSeries(interval);
+        long maxTotal = Math.max(expenses.maxTotal(), incomes.maxTotal());
+        drawGrid(g, plot);
+        if (maxTotal > 0) {
+            long firstDay = Math.min(firstDay(expenses), firstDay(incomes));
+            long lastDay = Math.max(lastDay(expenses), lastDay(incomes));
+            Scale scale = new Scale(plot, firstDay, Math.max(lastDay, firstDay + 1), maxTotal);
+            drawSeries(g, scale, expenses.downsample(plot.width), EXPENSE_COLOR);
+            drawSeries(g, scale, incomes.downsample(plot.width), INCOME_COLOR);
+            drawLabels(g, plot, firstDay, lastDay, maxTotal);
+        }
+        drawAxis(g, plot);
+        g.dispose();
+    }
+
+    // EFFECTS: returns the first day of series; Long.MAX_VALUE if series is empty
+    private static long firstDay(TimeSeries series) {
+        return series.size() == 0 ? Long.MAX_VALUE : series.getDay(0);
+    }
+
+    // EFFECTS: returns the last day of series; Long.MIN_VALUE if series is empty
+    private static long lastDay(TimeSeries series) {
+        return series.size() == 0 ? Long.MIN_VALUE : series.getDay(series.size() - 1);
+    }
+
+    // MODIFIES: g
+    // EFFECTS: draws series as a line of the given color, or as a dot if it has a single bucket
+    private void drawSeries(Graphics2D g, Scale scale, TimeSeries series, Color color) {
+        int size = series.size();
+        int[] xs = new int[size];
+        int[] ys = new int[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = scale.x(series.getDay(i));
+            ys[i] = scale.y(series.getTotal(i));
+        }
+        g.setColor(color);
+        if (size == 1) {
+            g.fillOval(xs[0] - 2, ys[0] - 2, 5, 5);
+        } else {
+            g.drawPolyline(xs, ys, size);
+        }
+    }
+
+    // MODIFIES: g
+    // EFFECTS: draws the border of the plot and its horizontal grid lines
+    private void drawGrid(Graphics2D g, Rectangle plot) {
+        g.setColor(Color.LIGHT_GRAY);
+        g.drawRect(plot.x, plot.y, plot.width, plot.height);
+        for (int i = 1; i < GRID_LINES; i++) {
+            int y = plot.y + plot.height - i * plot.height / GRID_LINES;
+            g.drawLine(plot.x, y, plot.x + plot.width, y);
+        }
+    }
+
+    // MODIFIES: g
+    // EFFECTS: draws the x and y-axis of the plot
+    private void drawAxis(Graphics2D g, Rectangle plot) {
+        g.setColor(Color.BLACK);
+        g.drawLine(plot.x, plot.y + plot.height, plot.x + plot.width, plot.y + plot.height);
+        g.drawLine(plot.x, plot.y, plot.x, plot.y + plot.height);
+    }
+
+    // MODIFIES: g
+    // EFFECTS: draws the dollar amounts of the grid lines, the first and last day, and a legend of the series
+    private void drawLabels(Graphics2D g, Rectangle plot, long firstDay, long lastDay, long maxTotal) {
+        DecimalFormat decimalFormat = new DecimalFormat("###,##0.00");
+        int bottom = plot.y + plot.height;
+        g.setColor(Color.BLACK);
+        for (int i = 0; i <= GRID_LINES; i++) {
+            g.drawString("$" + decimalFormat.format(i * maxTotal / 100.0 / GRID_LINES), 5,
+                    bottom - i * plot.height / GRID_LINES + 5);
+        }
+        g.drawString(LocalDate.ofEpochDay(firstDay).toString(), plot.x, bottom + 15);
+        String last = LocalDate.ofEpochDay(lastDay).toString();
+        g.drawString(last, plot.x + plot.width - g.getFontMetrics().stringWidth(last), bottom + 15);
+        g.setColor(EXPENSE_COLOR);
+        g.drawString("Expenses", plot.x + plot.width / 2 - 70, bottom + 15);
+        g.setColor(INCOME_COLOR);
+        g.drawString("Income", plot.x + plot.width / 2 + 20, bottom + 15);
+    }
+
+    // Represents the mapping of days and totals in cents to pixels of a plot
+    private static class Scale {
+        private final Rectangle plot;
+        private final long firstDay;
+        private final double pixelsPerDay;
+        private final double pixelsPerCent;
+
+        // REQUIRES: firstDay < lastDay and maxTotal > 0
+        // EFFECTS: constructs a scale that fits the days from firstDay to lastDay and totals from 0 to maxTotal
+        //          into plot
+        Scale(Rectangle plot, long firstDay, long lastDay, long maxTotal) {
+            this.plot = plot;
+            this.firstDay = firstDay;
+            pixelsPerDay = (double) plot.width / (lastDay - firstDay);
+            pixelsPerCent = (double) plot.height / maxTotal;
+        }
+
+        // EFFECTS: returns the x coordinate of day
+        int x(long day) {
+            return plot.x + (int) Math.round((day - firstDay) * pixelsPerDay);
+        }
+
+        // EFFECTS: returns the y coordinate of total
+        int y(long total) {
+            return plot.y + plot.height - (int) Math.round(total * pixelsPerCent);
+        }
+    }
+}
@@ -44,6 +44,15 @@ public class BudgetTest {
         assertEquals(0, incomeReport.size());
     }
 
+    @Test
+    void testConstructorWithReports() {
+        Report expenseReport = new ColumnarReport(EntryType.EXPENSE);
+        Report incomeReport = new ColumnarReport(EntryType.INCOME);
+        testBudget = new Budget(expenseReport, incomeReport);
+        assertSame(expenseReport, testBudget.getExpenseReport());
+        assertSame(incomeReport, testBudget.getIncomeReport());
+    }
+
     @Test
     void testAddExpense() {
         try {
@@ -84,6 +93,27 @@ public class BudgetTest {
         }
     }
 
+    @Test
+    void testGetSeries() {
+        try {
+            testBudget.addExpense(new Expense(DESCRIPTION_1, AMOUNT_1, date1));
+            testBudget.addExpense(new Expense(DESCRIPTION_2, AMOUNT_2, date2));
+            testBudget.addIncome(new Income(DESCRIPTION_2, AMOUNT_2, date2));
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        TimeSeries expenses = testBudget.getExpenseSeries(TimeSeries.Interval.DAY);
+        assertEquals(DAY_2 - DAY_1 + 1, expenses.size());
+        assertEquals(10000, expenses.getTotal(0));
+        assertEquals(6558, expenses.getTotal(DAY_2 - DAY_1));
+        assertEquals(1, testBudget.getExpenseSeries(TimeSeries.Interval.MONTH).size());
+        assertEquals(16558, testBudget.getExpenseSeries(TimeSeries.Interval.MONTH).getTotal(0));
+        assertEquals(1, testBudget.getIncomeSeries(TimeSeries.Interval.DAY).size());
+        assertEquals(6558, testBudget.getIncomeSeries(TimeSeries.Interval.MONTH).getTotal(0));
+    }
+
     @Test
     void testIsSurplus() {
         try {
@@ -140,6 +170,68 @@ public class BudgetTest {
         }
     }
 
+    @Test
+    void testGetDifferenceInRange() {
+        try {
+            testExpense = new Expense(DESCRIPTION_2, AMOUNT_2, date2);
+            testIncome = new Income(DESCRIPTION_1, AMOUNT_1, date1);
+            addEntries(testExpense, testIncome);
+            assertEquals(AMOUNT_1, testBudget.getDifferenceInRange(date1, date1));
+            assertEquals(-AMOUNT_2, testBudget.getDifferenceInRange(date2, date2));
+            assertEquals(AMOUNT_1 - AMOUNT_2, testBudget.getDifferenceInRange(date1, date2));
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should not have been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testRollupQueries() {
+        try {
+            testExpense = new Expense(DESCRIPTION_2, AMOUNT_2, date2);
+            testIncome = new Income(DESCRIPTION_1, AMOUNT_1, date1);
+            addEntries(testExpense, testIncome);
+            assertEquals(AMOUNT_2, testBudget.getExpensesOnDay(date2));
+            assertEquals(0, testBudget.getIncomeOnDay(date2));
+            assertEquals(AMOUNT_2, testBudget.getExpensesInMonth(YEAR_2, Calendar.APRIL));
+            assertEquals(AMOUNT_1, testBudget.getIncomeInMonth(YEAR_1, Calendar.APRIL));
+            assertEquals(34.42, testBudget.getDifferenceInMonth(YEAR_1, Calendar.APRIL));
+            assertEquals(AMOUNT_2, testBudget.getExpensesInYear(YEAR_2));
+            assertEquals(AMOUNT_1, testBudget.getIncomeInYear(YEAR_1));
+            assertEquals(34.42, testBudget.getDifferenceInYear(YEAR_1));
+            testExpense.setDate(YEAR_2 + 1, Calendar.JANUARY, DAY_1);
+            assertEquals(0, testBudget.getExpensesInMonth(YEAR_2, Calendar.APRIL));
+            assertEquals(AMOUNT_2, testBudget.getExpensesInYear(YEAR_2 + 1));
+            assertEquals(AMOUNT_1, testBudget.getDifferenceInYear(YEAR_1));
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should not have been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testSnapshot() {
+        try {
+            testExpense = new Expense(DESCRIPTION_2, AMOUNT_2, date2);
+            testIncome = new Income(DESCRIPTION_1, AMOUNT_1, date1);
+            addEntries(testExpense, testIncome);
+            Budget snapshot = testBudget.snapshot();
+            testExpense.setAmount(AMOUNT_1 * 2);
+            testBudget.getIncomeReport().deleteEntry(testIncome);
+            assertTrue(testBudget.isDeficit());
+            assertTrue(snapshot.isSurplus());
+            assertEquals(34.42, snapshot.getDifference());
+            assertEquals(1, snapshot.getIncomeReport().size());
+            assertEquals(AMOUNT_2, snapshot.getExpenseReport().getAllEntries().get(0).getAmount());
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should not have been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should not have been thrown");
+        }
+    }
+
     @Test
     void testGetters() {
         try {
@@ -0,0 +1,295 @@
+package model;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the ColumnarReport class
+public class ColumnarReportTest extends ReportTest {
+
+    @BeforeEach
+    void runBefore() {
+        super.runBefore();
+        testReport = new ColumnarReport(EntryType.EXPENSE);
+        try {
+            entry1 = new Expense(DESCRIPTION_1, AMOUNT_1, date1);
+            entry2 = new Expense(DESCRIPTION_2, AMOUNT_2, date2);
+            entry3 = new Expense(DESCRIPTION_3, AMOUNT_3, date3);
+        } catch (Exception e) {
+            fail("Cannot run tests: failed to construct test entries");
+        }
+    }
+
+    @Test
+    void testAppend() {
+        ColumnarReport report = (ColumnarReport) testReport;
+        report.append(DESCRIPTION_1, Money.toCents(AMOUNT_1), Dates.fromCalendar(date1));
+        report.append(DESCRIPTION_1, Money.toCents(AMOUNT_2), Dates.fromCalendar(date2));
+        assertEquals(2, report.size());
+        assertEquals(AMOUNT_1 + AMOUNT_2, report.sum());
+        Entry view = report.getEntry(1);
+        assertTrue(view instanceof Expense);
+        assertEquals(DESCRIPTION_1, view.getDescription());
+        assertEquals(AMOUNT_2, view.getAmount());
+        assertEquals(YEAR_2, view.getDate().get(Calendar.YEAR));
+        assertEquals(Calendar.NOVEMBER, view.getDate().get(Calendar.MONTH));
+        assertEquals(DAY_2, view.getDate().get(Calendar.DAY_OF_MONTH));
+        assertSame(view, report.getEntry(1));
+        assertTrue(report.contains(view));
+    }
+
+    @Test
+    void testViewWritesBack() {
+        ColumnarReport report = (ColumnarReport) testReport;
+        report.append(DESCRIPTION_1, Money.toCents(AMOUNT_1), Dates.fromCalendar(date1));
+        Entry view = report.getEntry(0);
+        try {
+            view.setAmount(AMOUNT_3);
+            view.setDescription(DESCRIPTION_3);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        view.setDate(new GregorianCalendar(YEAR_3, Calendar.AUGUST, DAY_3));
+        assertEquals(AMOUNT_3, report.sum());
+        assertEquals(AMOUNT_3, report.sumInRange(date3, date3));
+        assertEquals(0, report.sumInRange(date1, date1));
+        List<Entry> entries = report.getEntriesInRange(date3, date3);
+        assertEquals(1, entries.size());
+        assertEquals(DESCRIPTION_3, entries.get(0).getDescription());
+    }
+
+    @Test
+    void testDeleteKeepsLaterViewsBound() {
+        addEntries();
+        testReport.deleteEntry(entry1);
+        try {
+            entry3.setAmount(1.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        assertEquals(AMOUNT_2 + 1.00, testReport.sum());
+        assertSame(entry2, testReport.getAllEntries().get(0));
+        assertSame(entry3, testReport.getAllEntries().get(1));
+        testReport.deleteEntry(entry1);
+        assertEquals(2, testReport.size());
+    }
+
+    @Test
+    void testGetEntryByIdAfterDeletes() {
+        ColumnarReport report = new ColumnarReport(EntryType.EXPENSE);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(Entry.nextId());
+            report.append(ids.get(i), DESCRIPTION_1, i, LocalDate.of(2021, 1, 1));
+        }
+        assertEquals(0, report.getEntryById(ids.get(0)).getAmountInCents());
+        for (int i = 0; i < 150; i++) {
+            int row = (i * 7) % report.size();
+            long id = ids.remove(row);
+            report.deleteEntry(report.getEntryById(id));
+            assertNull(report.getEntryById(id));
+            assertFalse(report.containsId(id));
+            for (int j = row; j < ids.size(); j += 5) {
+                assertEquals((long) ids.get(j), report.getEntryById(ids.get(j)).getId());
+            }
+        }
+        for (int row = 0; row < ids.size(); row++) {
+            assertSame(report.getEntry(row), report.getEntryById(ids.get(row)));
+        }
+    }
+
+    @Test
+    void testViewsDoNotUseUpIds() {
+        ColumnarReport report = new ColumnarReport(EntryType.EXPENSE);
+        report.append(7, DESCRIPTION_1, 100, LocalDate.of(2021, 1, 1));
+        report.append(3, DESCRIPTION_2, 200, LocalDate.of(2021, 1, 2));
+        long first = Entry.nextId();
+        assertEquals(7, report.getEntry(0).getId());
+        assertEquals(3, report.getEntry(1).getId());
+        assertEquals(DESCRIPTION_2, report.getEntry(1).getDescription());
+        assertEquals(first + 1, Entry.nextId());
+    }
+
+    @Test
+    void testAddEntryRoundsToCents() {
+        try {
+            Entry entry = new Expense(DESCRIPTION_1, 10.005, date1);
+            testReport.addEntry(entry);
+            assertEquals(10.01, entry.getAmount());
+            assertEquals(10.01, testReport.sum());
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSumColumnInCents() {
+        ColumnarReport report = (ColumnarReport) testReport;
+        assertEquals(0, report.sumColumnInCents());
+        for (int i = 0; i < 100; i++) {
+            report.append(DESCRIPTION_1, i, Dates.fromCalendar(date1));
+        }
+        assertEquals(4950, report.sumColumnInCents());
+        assertEquals(report.sumInCents(), report.sumColumnInCents());
+    }
+
+    @Test
+    void testAppendUnread() {
+        List<Long> reads = new ArrayList<>();
+        ColumnarReport report = new ColumnarReport(EntryType.EXPENSE, key -> {
+            reads.add(key);
+            return key == 1 ? DESCRIPTION_1 : DESCRIPTION_2;
+        });
+        report.appendUnread(1, Money.toCents(AMOUNT_1), Dates.fromCalendar(date1));
+        report.appendUnread(2, Money.toCents(AMOUNT_2), Dates.fromCalendar(date2));
+        report.append(DESCRIPTION_3, Money.toCents(AMOUNT_3), Dates.fromCalendar(date3));
+        assertEquals(AMOUNT_1 + AMOUNT_2 + AMOUNT_3, report.sum());
+        assertEquals(AMOUNT_2, report.sumInRange(date2, date2));
+        assertTrue(reads.isEmpty());
+        assertFalse(report.isDescriptionRead(1));
+        assertTrue(report.isDescriptionRead(2));
+        assertEquals(DESCRIPTION_2, report.getEntry(1).getDescription());
+        assertEquals(DESCRIPTION_2, report.getDescription(1));
+        assertEquals(List.of(2L), reads);
+        assertTrue(report.isDescriptionRead(1));
+        report.deleteEntry(report.getEntry(1));
+        assertFalse(report.isDescriptionRead(0));
+        assertEquals(DESCRIPTION_1, report.getAllEntries().get(0).getDescription());
+        assertEquals(DESCRIPTION_3, report.getAllEntries().get(1).getDescription());
+        assertEquals(List.of(2L, 1L), reads);
+    }
+
+    @Test
+    void testBulkAppend() {
+        ColumnarReport bulk = new ColumnarReport(EntryType.EXPENSE);
+        ColumnarReport expected = new ColumnarReport(EntryType.EXPENSE);
+        expected.append(DESCRIPTION_3, 1, LocalDate.of(2020, 1, 1));
+        bulk.append(DESCRIPTION_3, 1, LocalDate.of(2020, 1, 1));
+        bulk.startBulkAppend();
+        long[] amounts = {500, 0, 250, 500, 75};
+        LocalDate[] dates = {LocalDate.of(2021, 3, 1), LocalDate.of(2021, 3, 2), LocalDate.of(2021, 3, 1),
+                LocalDate.of(1800, 1, 1), LocalDate.of(2021, 4, 30)};
+        for (int i = 0; i < amounts.length; i++) {
+            bulk.append(DESCRIPTION_1, amounts[i], dates[i]);
+            expected.append(DESCRIPTION_1, amounts[i], dates[i]);
+        }
+        assertEquals(1, bulk.sumInCents());
+        bulk.finishBulkAppend();
+        checkSameTotals(expected, bulk);
+
+        bulk.startBulkAppend();
+        bulk.append(DESCRIPTION_2, 40, LocalDate.of(2021, 3, 1));
+        expected.append(DESCRIPTION_2, 40, LocalDate.of(2021, 3, 1));
+        bulk.deleteEntry(bulk.getEntry(1));
+        expected.deleteEntry(expected.getEntry(1));
+        bulk.append(DESCRIPTION_2, 60, LocalDate.of(2021, 3, 3));
+        expected.append(DESCRIPTION_2, 60, LocalDate.of(2021, 3, 3));
+        bulk.finishBulkAppend();
+        checkSameTotals(expected, bulk);
+    }
+
+    @Test
+    void testAppendAll() {
+        ColumnarReport bulk = new ColumnarReport(EntryType.EXPENSE);
+        ColumnarReport expected = new ColumnarReport(EntryType.EXPENSE);
+        bulk.append(DESCRIPTION_3, 1, LocalDate.of(2020, 1, 1));
+        expected.append(DESCRIPTION_3, 1, LocalDate.of(2020, 1, 1));
+        bulk.getEntryById(bulk.getEntry(0).getId());
+        List<String> added = new ArrayList<>();
+        bulk.addListener(additionsTo(added));
+        String[] descriptions = {DESCRIPTION_1, DESCRIPTION_2};
+        long firstId = Entry.nextId() + 100;
+        long[] ids = {firstId, firstId + 2, firstId + 1, firstId + 3};
+        int[] days = {(int) LocalDate.of(2021, 3, 1).toEpochDay(), (int) LocalDate.of(2021, 3, 2).toEpochDay(),
+                (int) LocalDate.of(2021, 3, 1).toEpochDay(), (int) LocalDate.of(1800, 1, 1).toEpochDay()};
+        long[] amounts = {500, 0, 250, 75};
+        int[] descriptionIndexes = {1, 0, 1, 1};
+        for (int i = 0; i < ids.length; i++) {
+            expected.append(ids[i], descriptions[descriptionIndexes[i]], amounts[i], LocalDate.ofEpochDay(days[i]));
+        }
+        bulk.appendAll(ids, days, amounts, descriptions, descriptionIndexes, ids.length);
+        checkSameTotals(expected, bulk);
+        assertEquals(List.of(DESCRIPTION_2, DESCRIPTION_1, DESCRIPTION_2, DESCRIPTION_2), added);
+        assertEquals(DESCRIPTION_2, bulk.getEntryById(firstId + 1).getDescription());
+        assertEquals(LocalDate.of(1800, 1, 1), bulk.getEntry(4).getLocalDate());
+        assertTrue(Entry.nextId() > firstId + 3);
+    }
+
+    @Test
+    void testDescriptionIndexAfterAppends() {
+        ColumnarReport report = new ColumnarReport(EntryType.EXPENSE, key -> DESCRIPTION_2);
+        report.append(DESCRIPTION_1, 100, LocalDate.of(2021, 3, 1));
+        DescriptionIndex index = report.getDescriptionIndex();
+        report.appendUnread(7, 200, LocalDate.of(2021, 3, 2));
+        long id = Entry.nextId() + 100;
+        report.appendAll(new long[] {id}, new int[] {(int) LocalDate.of(2021, 3, 3).toEpochDay()}, new long[] {300},
+                new String[] {DESCRIPTION_3}, new int[] {0}, 1);
+        assertSame(index, report.getDescriptionIndex());
+        assertEquals(3, index.getEntriesContaining("entry").size());
+        assertEquals(List.of(report.getEntry(1)), index.getEntriesContaining("entry 2"));
+        assertEquals(List.of(report.getEntryById(id)), index.getEntriesWithWordPrefix("3"));
+        report.deleteEntry(report.getEntry(0));
+        assertTrue(index.getEntriesContaining(DESCRIPTION_1).isEmpty());
+        assertEquals(2, index.getEntriesContaining("entry", LocalDate.of(2021, 3, 2).toEpochDay(),
+                LocalDate.of(2021, 3, 3).toEpochDay()).size());
+    }
+
+    // EFFECTS: returns a listener that adds the description of each entry added to a report to descriptions
+    private ReportListener additionsTo(List<String> descriptions) {
+        return new ReportListener() {
+            @Override
+            public void entryAdded(Report report, Entry e) {
+                descriptions.add(e.getDescription());
+            }
+
+            @Override
+            public void entryChanged(Report report, Entry e) {
+            }
+
+            @Override
+            public void entryDeleted(Report report, Entry e) {
+            }
+        };
+    }
+
+    // EFFECTS: checks that actual has the same totals, sums in range and rollup as expected
+    private void checkSameTotals(ColumnarReport expected, ColumnarReport actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.sumInCents(), actual.sumInCents());
+        assertEquals(expected.min(), actual.min());
+        assertEquals(expected.max(), actual.max());
+        Calendar start = new GregorianCalendar(2021, Calendar.MARCH, 1);
+        Calendar end = new GregorianCalendar(2021, Calendar.MARCH, 31);
+        assertEquals(expected.sumInRangeInCents(start, end), actual.sumInRangeInCents(start, end));
+        assertEquals(expected.getRollup().getDayTotals(), actual.getRollup().getDayTotals());
+        assertEquals(expected.getRollup().getMonthTotals(), actual.getRollup().getMonthTotals());
+        assertEquals(expected.getRollup().getYearTotals(), actual.getRollup().getYearTotals());
+    }
+
+    @Test
+    void testGetType() {
+        assertEquals(EntryType.EXPENSE, testReport.getType());
+        assertEquals(EntryType.INCOME, new ColumnarReport(EntryType.INCOME).getType());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds all entries to the testReport
+    private void addEntries() {
+        testReport.addEntry(entry1);
+        testReport.addEntry(entry2);
+        testReport.addEntry(entry3);
+    }
+}
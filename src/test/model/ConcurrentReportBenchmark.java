@@ -0,0 +1,48 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Represents a benchmark of the rate at which 1, 2, 4, ... threads can add entries to a ConcurrentReport;
+// run with ./gradlew concurrentBenchmark
+public class ConcurrentReportBenchmark {
+    private static final int ENTRIES = 2_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    // EFFECTS: runs the benchmark for up to twice the number of available processors and prints the rate of adds
+    public static void main(String[] args) throws Exception {
+        int maxThreads = Runtime.getRuntime().availableProcessors() * 2;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                run(threads);
+            }
+        }
+    }
+
+    // EFFECTS: adds ENTRIES entries to a new report from the given number of threads and prints the rate of adds
+    private static void run(int threads) throws Exception {
+        ConcurrentReport report = new ConcurrentReport(EntryType.EXPENSE);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        int perThread = ENTRIES / threads;
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    report.addEntry(EntryType.EXPENSE.newEntry("entry", i, FIRST_DAY.plusDays(i % 3650)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        System.out.printf("%2d threads %12.0f adds/s  sum %d%n", threads, perThread * threads / seconds,
+                report.sumInCents());
+    }
+}
@@ -0,0 +1,225 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the ConcurrentReport class
+public class ConcurrentReportTest extends ReportTest {
+    private static final int THREADS = 8;
+    private static final int ENTRIES_PER_THREAD = 5000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @BeforeEach
+    void runBefore() {
+        super.runBefore();
+        testReport = new ConcurrentReport(EntryType.EXPENSE);
+        try {
+            entry1 = new Expense(DESCRIPTION_1, AMOUNT_1, date1);
+            entry2 = new Expense(DESCRIPTION_2, AMOUNT_2, date2);
+            entry3 = new Expense(DESCRIPTION_3, AMOUNT_3, date3);
+        } catch (Exception e) {
+            fail("Cannot run tests: failed to construct test entries");
+        }
+    }
+
+    // a concurrent report lists its entries in the order they were created, so an entry added back keeps its place
+    @Override
+    @Test
+    void testGetAllEntriesShowsChanges() {
+        addAllEntries();
+        List<Entry> entries = testReport.getAllEntries();
+        testReport.deleteEntry(entry1);
+        assertEquals(2, entries.size());
+        assertEquals(List.of(entry2, entry3), new ArrayList<>(entries));
+        assertEquals(-1, entries.indexOf(entry1));
+        testReport.addEntry(entry1);
+        assertEquals(0, entries.indexOf(entry1));
+        assertSame(entry3, entries.get(2));
+        assertSame(entries, testReport.getAllEntries());
+    }
+
+    @Test
+    void testGetAllEntriesWhileDeleting() {
+        addAllEntries();
+        List<Entry> seen = new ArrayList<>();
+        for (Entry e : testReport.getAllEntries()) {
+            testReport.deleteEntry(e);
+            seen.add(e);
+        }
+        assertEquals(List.of(entry1, entry2, entry3), seen);
+        assertTrue(testReport.getAllEntries().isEmpty());
+    }
+
+    @Test
+    void testDeletesDropEmptyDays() {
+        ConcurrentReport report = (ConcurrentReport) testReport;
+        runConcurrently(thread -> {
+            List<Entry> added = new ArrayList<>();
+            for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                Entry e = newEntry(thread, i);
+                report.addEntry(e);
+                added.add(e);
+            }
+            for (Entry e : added) {
+                report.deleteEntry(e);
+            }
+        });
+        assertTrue(report.isEmpty());
+        assertEquals(0, report.daysKept());
+        GregorianCalendar start = new GregorianCalendar(2020, 0, 1);
+        GregorianCalendar end = new GregorianCalendar(2021, 0, 1);
+        assertTrue(report.getEntriesInRange(start, end).isEmpty());
+        assertTrue(report.getRollup().getDayTotals().isEmpty());
+    }
+
+    @Test
+    void testConcurrentAddsKeepTotalsExact() {
+        runConcurrently(thread -> {
+            for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                testReport.addEntry(newEntry(thread, i));
+            }
+        });
+        int n = THREADS * ENTRIES_PER_THREAD;
+        assertEquals(n, testReport.size());
+        assertEquals(n, testReport.getAllEntries().size());
+        assertEquals(expectedSum(ENTRIES_PER_THREAD), testReport.sumInCents());
+        GregorianCalendar start = new GregorianCalendar(2020, 0, 1);
+        GregorianCalendar end = new GregorianCalendar(2021, 0, 1);
+        assertEquals(testReport.sumInCents(), testReport.sumInRangeInCents(start, end));
+        assertEquals(n, testReport.getEntriesInRange(start, end).size());
+        assertEquals(0.01, testReport.min());
+        assertEquals(Money.toDollars(ENTRIES_PER_THREAD), testReport.max());
+    }
+
+    @Test
+    void testConcurrentAddsAndDeletesKeepTotalsExact() {
+        runConcurrently(thread -> {
+            List<Entry> added = new ArrayList<>();
+            for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                Entry e = newEntry(thread, i);
+                testReport.addEntry(e);
+                added.add(e);
+                testReport.sum();
+            }
+            for (int i = 0; i < ENTRIES_PER_THREAD; i += 2) {
+                testReport.deleteEntry(added.get(i));
+            }
+        });
+        long expected = 0;
+        for (int i = 1; i < ENTRIES_PER_THREAD; i += 2) {
+            expected += i + 1;
+        }
+        assertEquals(THREADS * ENTRIES_PER_THREAD / 2, testReport.size());
+        assertEquals(THREADS * expected, testReport.sumInCents());
+        assertEquals(THREADS * expected, testReport.getRollup().getYearTotal(Year.of(2020)));
+    }
+
+    @Test
+    void testSnapshotRefusedWhileWriting() {
+        addAllEntries();
+        ConcurrentReport report = (ConcurrentReport) testReport;
+        report.unindex(entry1);
+        try {
+            report.snapshot();
+            fail("IllegalStateException should have been thrown");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        report.index(entry1);
+        Report snapshot = report.snapshot();
+        testReport.deleteEntry(entry2);
+        assertEquals(3, snapshot.size());
+        assertEquals(AMOUNT_1 + AMOUNT_2 + AMOUNT_3, snapshot.sum());
+        assertEquals(DESCRIPTION_2, snapshot.getAllEntries().get(1).getDescription());
+    }
+
+    @Test
+    void testSnapshotsWhileWritingAreConsistent() {
+        ConcurrentReport report = (ConcurrentReport) testReport;
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < ENTRIES_PER_THREAD; i++) {
+                report.addEntry(newEntry(0, i));
+            }
+            done.set(true);
+        });
+        writer.start();
+        int taken = 0;
+        while (!done.get() || taken == 0) {
+            try {
+                Report snapshot = report.snapshot();
+                assertEquals(snapshot.sumInCents(), sumOf(snapshot.getAllEntries()));
+                assertEquals(snapshot.size(), snapshot.getAllEntries().size());
+                taken++;
+            } catch (IllegalStateException e) {
+                Thread.yield();
+            }
+        }
+        assertTrue(taken > 0);
+    }
+
+    // EFFECTS: returns the sum in cents of the given entries
+    private long sumOf(List<Entry> entries) {
+        long total = 0;
+        for (Entry e : entries) {
+            total += e.getAmountInCents();
+        }
+        return total;
+    }
+
+    // EFFECTS: returns the sum in cents of all entries added by one thread, times the number of threads
+    private long expectedSum(int entriesPerThread) {
+        long perThread = (long) entriesPerThread * (entriesPerThread + 1) / 2;
+        return THREADS * perThread;
+    }
+
+    // EFFECTS: returns the i-th entry added by the given thread; its amount is i + 1 cents
+    private Entry newEntry(int thread, int i) {
+        return EntryType.EXPENSE.newEntry("thread " + thread, i + 1, FIRST_DAY.plusDays(i % 366));
+    }
+
+    // EFFECTS: runs work on THREADS threads that all start at the same time and waits for them to finish;
+    //          fails the test if any of them throws
+    private void runConcurrently(ThreadWork work) {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                work.run(thread);
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } catch (Exception e) {
+            fail("Concurrent work failed: " + e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Represents the work done by one thread of a stress test
+    private interface ThreadWork {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,100 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Tests for the DailySums class
+public class DailySumsTest {
+    private DailySums testSums;
+
+    @BeforeEach
+    void runBefore() {
+        testSums = new DailySums();
+    }
+
+    @Test
+    void testSumInRangeEmpty() {
+        assertEquals(0, testSums.sumInRange(-100, 100));
+    }
+
+    @Test
+    void testSumInRangeOneDay() {
+        testSums.add(10, 500);
+        testSums.add(10, 250);
+        assertEquals(750, testSums.sumInRange(10, 10));
+        assertEquals(750, testSums.sumInRange(0, 20));
+        assertEquals(0, testSums.sumInRange(11, 20));
+        assertEquals(0, testSums.sumInRange(0, 9));
+    }
+
+    @Test
+    void testSumInRangeEndBeforeStart() {
+        testSums.add(10, 5);
+        assertEquals(0, testSums.sumInRange(11, 9));
+    }
+
+    @Test
+    void testAddGrowsForward() {
+        testSums.add(0, 1);
+        testSums.add(1000, 2);
+        testSums.add(50, 4);
+        assertEquals(7, testSums.sumInRange(0, 1000));
+        assertEquals(6, testSums.sumInRange(1, 1000));
+        assertEquals(5, testSums.sumInRange(0, 999));
+    }
+
+    @Test
+    void testAddGrowsBackward() {
+        testSums.add(0, 1);
+        testSums.add(-1, 2);
+        testSums.add(-5000, 4);
+        assertEquals(7, testSums.sumInRange(-5000, 0));
+        assertEquals(3, testSums.sumInRange(-4999, 0));
+        assertEquals(2, testSums.sumInRange(-1, -1));
+    }
+
+    @Test
+    void testAddNegativeUpdate() {
+        testSums.add(3, 10);
+        testSums.add(4, 20);
+        testSums.add(3, -10);
+        assertEquals(0, testSums.sumInRange(3, 3));
+        assertEquals(20, testSums.sumInRange(3, 4));
+    }
+
+    @Test
+    void testAddFarApartDays() {
+        long farFuture = LocalDate.of(9999, 12, 31).toEpochDay();
+        long farPast = LocalDate.of(-999_999_999, 1, 1).toEpochDay();
+        testSums.add(19_000, 1);
+        testSums.add(farFuture, 2);
+        testSums.add(farPast, 4);
+        testSums.add(19_001, 8);
+        assertEquals(15, testSums.sumInRange(farPast, farFuture));
+        assertEquals(9, testSums.sumInRange(19_000, 19_001));
+        assertEquals(2, testSums.sumInRange(19_002, farFuture));
+        assertEquals(4, testSums.sumInRange(Long.MIN_VALUE, 0));
+        testSums.add(farFuture, -2);
+        assertEquals(0, testSums.sumInRange(19_002, Long.MAX_VALUE));
+    }
+
+    @Test
+    void testAddMostDaysFarFromFirst() {
+        long farFuture = LocalDate.of(9999, 1, 1).toEpochDay();
+        testSums.add(farFuture, 1000);
+        long expected = 1000;
+        for (int day = 0; day < 1000; day++) {
+            testSums.add(day * 3, day);
+            expected += day;
+        }
+        assertEquals(expected, testSums.sumInRange(0, farFuture));
+        assertEquals(1 + 2, testSums.sumInRange(1, 6));
+        assertEquals(999, testSums.sumInRange(2997, 2997));
+        assertEquals(1000, testSums.sumInRange(2998, farFuture));
+        assertEquals(expected, testSums.sumInRange(-DailySums.MAX_CAPACITY, farFuture));
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the DateIndex class
+public class DateIndexTest {
+    private static final long DAY_1 = Dates.toEpochDay(new GregorianCalendar(2021, Calendar.MAY, 4));
+    private static final long DAY_2 = DAY_1 + 1;
+
+    private DateIndex testIndex;
+    private Entry entry1;
+    private Entry entry2;
+    private Entry entry3;
+
+    @BeforeEach
+    void runBefore() {
+        testIndex = new DateIndex();
+        try {
+            entry1 = new Expense("Entry 1", 10, new GregorianCalendar(2021, Calendar.MAY, 4));
+            entry2 = new Expense("Entry 2", 20, new GregorianCalendar(2021, Calendar.MAY, 4));
+            entry3 = new Expense("Entry 3", 30, new GregorianCalendar(2021, Calendar.MAY, 5));
+        } catch (Exception e) {
+            fail("Cannot run tests: failed to construct test entries");
+        }
+    }
+
+    @Test
+    void testSameDayKeepsInsertionOrder() {
+        testIndex.add(entry3);
+        testIndex.add(entry2);
+        testIndex.add(entry1);
+        List<Entry> entries = testIndex.getEntriesInRange(DAY_1, DAY_2);
+        assertEquals(entry2, entries.get(0));
+        assertEquals(entry1, entries.get(1));
+        assertEquals(entry3, entries.get(2));
+    }
+
+    @Test
+    void testSameDayOrderedBySequence() {
+        entry1.sequence = 1;
+        entry2.sequence = 2;
+        testIndex.add(entry2);
+        testIndex.add(entry1);
+        assertEquals(List.of(entry1, entry2), testIndex.getEntriesInRange(DAY_1, DAY_1));
+        testIndex.remove(entry1);
+        testIndex.add(entry1);
+        assertEquals(List.of(entry1, entry2), testIndex.getEntriesInRange(DAY_1, DAY_1));
+    }
+
+    @Test
+    void testRemove() {
+        testIndex.add(entry1);
+        testIndex.add(entry2);
+        testIndex.remove(entry1);
+        testIndex.remove(entry3);
+        List<Entry> entries = testIndex.getEntriesInRange(DAY_1, DAY_2);
+        assertEquals(1, entries.size());
+        assertEquals(entry2, entries.get(0));
+    }
+
+    @Test
+    void testRangeEndBeforeStart() {
+        testIndex.add(entry1);
+        assertTrue(testIndex.getEntriesInRange(DAY_2, DAY_1).isEmpty());
+    }
+}
@@ -0,0 +1,47 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Tests for the Dates class
+public class DatesTest {
+
+    @Test
+    void testFromCalendar() {
+        Calendar calendar = new GregorianCalendar(2020, Calendar.FEBRUARY, 29, 23, 59);
+        assertEquals(LocalDate.of(2020, 2, 29), Dates.fromCalendar(calendar));
+    }
+
+    @Test
+    void testOf() {
+        assertEquals(LocalDate.of(2008, 6, 30), Dates.of(2008, 5, 30));
+    }
+
+    @Test
+    void testOfRollsOver() {
+        assertEquals(new GregorianCalendar(2019, 1, 31).getTime(), Dates.toCalendar(Dates.of(2019, 1, 31)).getTime());
+        assertEquals(new GregorianCalendar(2019, 13, 0).getTime(), Dates.toCalendar(Dates.of(2019, 13, 0)).getTime());
+        assertEquals(new GregorianCalendar(2019, -1, 1).getTime(), Dates.toCalendar(Dates.of(2019, -1, 1)).getTime());
+    }
+
+    @Test
+    void testToCalendar() {
+        Calendar calendar = Dates.toCalendar(LocalDate.of(1995, 3, 14));
+        assertEquals(1995, calendar.get(Calendar.YEAR));
+        assertEquals(Calendar.MARCH, calendar.get(Calendar.MONTH));
+        assertEquals(14, calendar.get(Calendar.DAY_OF_MONTH));
+        assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+    }
+
+    @Test
+    void testToEpochDay() {
+        assertEquals(0, Dates.toEpochDay(new GregorianCalendar(1970, Calendar.JANUARY, 1)));
+        assertEquals(-1, Dates.toEpochDay(new GregorianCalendar(1969, Calendar.DECEMBER, 31)));
+        assertEquals(18751, Dates.toEpochDay(new GregorianCalendar(2021, Calendar.MAY, 4)));
+    }
+}
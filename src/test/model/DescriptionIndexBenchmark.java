@@ -0,0 +1,71 @@
+package model;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+// Represents a benchmark of text queries on the description index of a report with millions of entries, compared
+// with scanning every description; run with ./gradlew descriptionIndexBenchmark
+public class DescriptionIndexBenchmark {
+    private static final int ENTRIES = 2_000_000;
+    private static final int DESCRIPTIONS = 50_000;
+    private static final int QUERIES = 1_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2000, 1, 1);
+    private static final String[] WORDS = {"groceries", "coffee", "rent", "market", "fuel", "pharmacy", "transit",
+        "insurance", "restaurant", "books", "hardware", "internet", "phone", "gym", "cinema", "bakery"};
+
+    // EFFECTS: fills a report, builds its description index and prints the time per query of each kind
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        Report report = fill(random);
+        long start = System.nanoTime();
+        DescriptionIndex index = report.getDescriptionIndex();
+        System.out.printf("index built in %.0f ms%n", (System.nanoTime() - start) / 1e6);
+        long firstDay = FIRST_DAY.toEpochDay();
+        for (int warmup = 0; warmup < 3; warmup++) {
+            time("substring", () -> index.getEntriesContaining("#" + random.nextInt(DESCRIPTIONS) + "7"));
+            time("substring in a year", () -> index.getEntriesContaining("#" + random.nextInt(DESCRIPTIONS),
+                    firstDay, firstDay + 365));
+            time("word prefix", () -> index.getEntriesWithWordPrefix(number(random)));
+            time("similar word", () -> index.getEntriesWithSimilarWord(number(random), 1));
+            EntryFilter filter = new EntryFilter("#12345", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX);
+            long scanStart = System.nanoTime();
+            int matches = filter.apply(report.getAllEntries()).size();
+            System.out.printf("%-20s %10.3f ms/query  (%d matches)%n", "scan", (System.nanoTime() - scanStart) / 1e6,
+                    matches);
+        }
+    }
+
+    // EFFECTS: returns a report of ENTRIES entries spread over 20 years, with DESCRIPTIONS distinct descriptions of
+    //          two words and a number each
+    private static Report fill(Random random) {
+        String[] descriptions = new String[DESCRIPTIONS];
+        for (int i = 0; i < DESCRIPTIONS; i++) {
+            descriptions[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " #" + i;
+        }
+        Report report = new ExpenseReport();
+        for (int i = 0; i < ENTRIES; i++) {
+            report.addEntry(EntryType.EXPENSE.newEntry(descriptions[random.nextInt(DESCRIPTIONS)], i,
+                    FIRST_DAY.plusDays(i % 7300)));
+        }
+        return report;
+    }
+
+    // EFFECTS: returns the number of a random description, as text
+    private static String number(Random random) {
+        return Integer.toString(random.nextInt(DESCRIPTIONS));
+    }
+
+    // EFFECTS: runs QUERIES queries and prints the mean time per query and the mean number of entries found
+    private static void time(String kind, Supplier<List<Entry>> query) {
+        long found = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            found += query.get().size();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / QUERIES;
+        System.out.printf("%-20s %10.3f ms/query  (%d matches)%n", kind, millis, found / QUERIES);
+    }
+}
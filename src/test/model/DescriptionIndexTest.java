@@ -0,0 +1,112 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the DescriptionIndex class
+public class DescriptionIndexTest {
+    private static final LocalDate DATE_1 = LocalDate.of(2021, 3, 1);
+    private static final LocalDate DATE_2 = LocalDate.of(2021, 3, 15);
+
+    private DescriptionIndex testIndex;
+    private Entry rent;
+    private Entry groceries;
+    private Entry moreGroceries;
+    private Entry coffee;
+
+    @BeforeEach
+    void runBefore() {
+        testIndex = new DescriptionIndex();
+        rent = EntryType.EXPENSE.newEntry("Rent - March", 120000, DATE_1);
+        groceries = EntryType.EXPENSE.newEntry("Groceries at the Market", 8550, DATE_1);
+        moreGroceries = EntryType.EXPENSE.newEntry("Groceries at the Market", 1200, DATE_2);
+        coffee = EntryType.EXPENSE.newEntry("Coffee", 450, DATE_2);
+        testIndex.add(rent);
+        testIndex.add(groceries);
+        testIndex.add(moreGroceries);
+        testIndex.add(coffee);
+    }
+
+    @Test
+    void testEmpty() {
+        DescriptionIndex index = new DescriptionIndex();
+        assertTrue(index.getEntriesContaining("a").isEmpty());
+        assertTrue(index.getEntriesContaining("abc").isEmpty());
+        assertTrue(index.getEntriesWithWordPrefix("a").isEmpty());
+        assertTrue(index.getEntriesWithSimilarWord("a", 1).isEmpty());
+    }
+
+    @Test
+    void testContaining() {
+        assertEquals(List.of(groceries, moreGroceries), testIndex.getEntriesContaining("the mar"));
+        assertEquals(List.of(rent), testIndex.getEntriesContaining("MARCH"));
+        assertEquals(3, testIndex.getEntriesContaining("ar").size());
+        assertEquals(4, testIndex.getEntriesContaining("").size());
+        assertTrue(testIndex.getEntriesContaining("March!").isEmpty());
+        assertTrue(testIndex.getEntriesContaining("zzz").isEmpty());
+        assertTrue(testIndex.getEntriesContaining("Market Rent").isEmpty());
+    }
+
+    @Test
+    void testContainingInRange() {
+        long day1 = DATE_1.toEpochDay();
+        long day2 = DATE_2.toEpochDay();
+        assertEquals(List.of(groceries), testIndex.getEntriesContaining("market", day1, day1));
+        assertEquals(List.of(moreGroceries), testIndex.getEntriesContaining("market", day1 + 1, day2));
+        assertTrue(testIndex.getEntriesContaining("market", day2, day1).isEmpty());
+    }
+
+    @Test
+    void testWordPrefix() {
+        assertEquals(List.of(groceries, moreGroceries), testIndex.getEntriesWithWordPrefix("MARK"));
+        assertEquals(List.of(rent, groceries), testIndex.getEntriesWithWordPrefix("mar", DATE_1.toEpochDay(),
+                DATE_1.toEpochDay()));
+        assertEquals(3, testIndex.getEntriesWithWordPrefix("mar").size());
+        assertTrue(testIndex.getEntriesWithWordPrefix("arch").isEmpty());
+        assertEquals(List.of(coffee), testIndex.getEntriesWithWordPrefix("c"));
+    }
+
+    @Test
+    void testSimilarWord() {
+        assertEquals(List.of(coffee), testIndex.getEntriesWithSimilarWord("cofee", 1));
+        assertEquals(List.of(coffee), testIndex.getEntriesWithSimilarWord("COFFEE", 0));
+        assertTrue(testIndex.getEntriesWithSimilarWord("cafe", 2).isEmpty());
+        assertTrue(testIndex.getEntriesWithSimilarWord("cafe", 3).contains(coffee));
+        assertEquals(List.of(groceries, moreGroceries), testIndex.getEntriesWithSimilarWord("grocreies", 2));
+        assertEquals(List.of(moreGroceries), testIndex.getEntriesWithSimilarWord("grocreies", 2,
+                DATE_2.toEpochDay(), DATE_2.toEpochDay()));
+    }
+
+    @Test
+    void testIsWithinDistance() {
+        assertTrue(DescriptionIndex.isWithinDistance("kitten", "sitting", 3));
+        assertFalse(DescriptionIndex.isWithinDistance("kitten", "sitting", 2));
+        assertTrue(DescriptionIndex.isWithinDistance("", "ab", 2));
+        assertFalse(DescriptionIndex.isWithinDistance("abcdef", "ghijkl", 5));
+        assertTrue(DescriptionIndex.isWithinDistance("same", "same", 0));
+    }
+
+    @Test
+    void testRemove() {
+        testIndex.remove(groceries);
+        assertEquals(List.of(moreGroceries), testIndex.getEntriesContaining("market"));
+        testIndex.remove(moreGroceries);
+        assertTrue(testIndex.getEntriesContaining("market").isEmpty());
+        assertTrue(testIndex.getEntriesWithWordPrefix("groc").isEmpty());
+        assertTrue(testIndex.getEntriesWithSimilarWord("market", 1).isEmpty());
+        testIndex.remove(moreGroceries);
+        assertEquals(2, testIndex.getEntriesContaining("").size());
+    }
+
+    @Test
+    void testOf() {
+        DescriptionIndex index = DescriptionIndex.of(List.of(rent, coffee));
+        assertEquals(List.of(coffee), index.getEntriesContaining("fee"));
+        assertTrue(index.getEntriesContaining("market").isEmpty());
+    }
+}
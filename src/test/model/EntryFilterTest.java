@@ -0,0 +1,88 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the EntryFilter class
+public class EntryFilterTest {
+    private static final LocalDate DATE_1 = LocalDate.of(2021, 3, 1);
+    private static final LocalDate DATE_2 = LocalDate.of(2021, 3, 15);
+
+    private List<Entry> testEntries;
+    private Entry rent;
+    private Entry groceries;
+    private Entry coffee;
+
+    @BeforeEach
+    void runBefore() {
+        rent = EntryType.EXPENSE.newEntry("Rent", 120000, DATE_1);
+        groceries = EntryType.EXPENSE.newEntry("Groceries at the Market", 8550, DATE_2);
+        coffee = EntryType.EXPENSE.newEntry("Coffee", 450, DATE_2);
+        testEntries = new ArrayList<>();
+        testEntries.add(rent);
+        testEntries.add(groceries);
+        testEntries.add(coffee);
+    }
+
+    @Test
+    void testAll() {
+        assertTrue(EntryFilter.ALL.matchesAll());
+        assertEquals(testEntries, EntryFilter.ALL.apply(testEntries));
+        assertFalse(new EntryFilter("r", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX).matchesAll());
+        assertFalse(new EntryFilter("", 1, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX).matchesAll());
+        assertFalse(new EntryFilter("", 0, 100, LocalDate.MIN, LocalDate.MAX).matchesAll());
+        assertFalse(new EntryFilter("", 0, Long.MAX_VALUE, DATE_1, LocalDate.MAX).matchesAll());
+        assertFalse(new EntryFilter("", 0, Long.MAX_VALUE, LocalDate.MIN, DATE_2).matchesAll());
+    }
+
+    @Test
+    void testDescriptionIgnoresCase() {
+        EntryFilter filter = new EntryFilter("MARKET", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX);
+        assertTrue(filter.matches(groceries));
+        assertFalse(filter.matches(rent));
+        List<Entry> matches = new EntryFilter("e", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX)
+                .apply(testEntries);
+        assertEquals(3, matches.size());
+        assertFalse(new EntryFilter("Rent is due", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX).matches(rent));
+    }
+
+    @Test
+    void testAmountRange() {
+        EntryFilter filter = new EntryFilter("", 450, 8550, LocalDate.MIN, LocalDate.MAX);
+        List<Entry> matches = filter.apply(testEntries);
+        assertEquals(2, matches.size());
+        assertSame(groceries, matches.get(0));
+        assertSame(coffee, matches.get(1));
+        assertFalse(new EntryFilter("", 451, 8549, LocalDate.MIN, LocalDate.MAX).matches(coffee));
+    }
+
+    @Test
+    void testDateRange() {
+        EntryFilter filter = new EntryFilter("", 0, Long.MAX_VALUE, DATE_1, DATE_1);
+        assertEquals(List.of(rent), filter.apply(testEntries));
+        filter = new EntryFilter("o", 0, Long.MAX_VALUE, DATE_1.plusDays(1), LocalDate.MAX);
+        assertEquals(List.of(groceries, coffee), filter.apply(testEntries));
+        filter = new EntryFilter("o", 500, Long.MAX_VALUE, DATE_1.plusDays(1), LocalDate.MAX);
+        assertEquals(List.of(groceries), filter.apply(testEntries));
+    }
+
+    @Test
+    void testApplyInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            EntryFilter.ALL.apply(testEntries);
+            fail("CancellationException should have been thrown");
+        } catch (CancellationException e) {
+            // expected
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
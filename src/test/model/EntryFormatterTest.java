@@ -0,0 +1,51 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the EntryFormatter class
+public class EntryFormatterTest {
+
+    @Test
+    void testAppendAmountMatchesDecimalFormat() {
+        DecimalFormat decimalFormat = new DecimalFormat("###,##0.00");
+        long[] amounts = {0, 1, 10, 99, 100, 105, 99999, 100000, 123456, 12345678, 100000000000L};
+        for (long cents : amounts) {
+            assertEquals(decimalFormat.format(cents / 100.0),
+                    EntryFormatter.appendAmount(new StringBuilder(), cents).toString());
+        }
+    }
+
+    @Test
+    void testAppendDateMatchesDateTimeFormatter() {
+        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
+        LocalDate date = LocalDate.of(999, 1, 1);
+        for (int i = 0; i < 400; i++) {
+            assertEquals(dateFormatter.format(date), EntryFormatter.appendDate(new StringBuilder(), date).toString());
+            date = date.plusDays(37).plusYears(i % 7 == 0 ? 5 : 0);
+        }
+    }
+
+    @Test
+    void testFormat() {
+        Entry entry = EntryType.INCOME.newEntry("Salary", 500000, LocalDate.of(2021, 12, 1));
+        String text = EntryFormatter.format(entry);
+        assertEquals(String.format("%-30s$%-30s%s", "Dec 01 2021", new DecimalFormat("###,##0.00").format(5000),
+                "Salary"), text);
+        assertEquals(text, entry.toString());
+    }
+
+    @Test
+    void testPad() {
+        StringBuilder text = new StringBuilder("ab");
+        EntryFormatter.pad(text, 5);
+        assertEquals("ab   ", text.toString());
+        EntryFormatter.pad(text, 3);
+        assertEquals("ab   ", text.toString());
+    }
+}
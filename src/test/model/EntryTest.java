@@ -5,10 +5,14 @@ import exception.NegativeInputException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 // Tests for the Entry class
@@ -53,6 +57,57 @@ public abstract class EntryTest {
         }
     }
 
+    @Test
+    void testIdsAreUnique() {
+        try {
+            Entry other = new Expense(DESCRIPTION, AMOUNT, date);
+            assertNotEquals(testEntry.getId(), other.getId());
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSetId() {
+        long id = testEntry.getId() + 1000;
+        testEntry.setId(id);
+        assertEquals(id, testEntry.getId());
+        try {
+            assertTrue(new Income(DESCRIPTION, AMOUNT, date).getId() > id);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSetAmountRoundsToCents() {
+        try {
+            testEntry.setAmount(10.005);
+            assertEquals(10.01, testEntry.getAmount());
+            assertEquals(1001, testEntry.getAmountInCents());
+            testEntry.setAmount(0.004);
+            assertEquals(0, testEntry.getAmountInCents());
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSetAmountInCents() {
+        try {
+            testEntry.setAmountInCents(12345);
+            assertEquals(123.45, testEntry.getAmount());
+            testEntry.setAmountInCents(-1);
+            fail("NegativeInputException was not thrown");
+        } catch (NegativeInputException e) {
+            assertEquals(12345, testEntry.getAmountInCents());
+        }
+    }
+
     @Test
     void testSetAmountExpectNegativeInputException() {
         try {
@@ -79,6 +134,32 @@ public abstract class EntryTest {
         assertEquals(15, testEntry.getDate().get(Calendar.DAY_OF_MONTH));
     }
 
+    @Test
+    void testSetDateIntegerParametersRollOver() {
+        testEntry.setDate(2021, 1, 30);
+        assertEquals(LocalDate.of(2021, 3, 2), testEntry.getLocalDate());
+        testEntry.setDate(2021, 12, 1);
+        assertEquals(LocalDate.of(2022, 1, 1), testEntry.getLocalDate());
+    }
+
+    @Test
+    void testSetDateLocalDateParameter() {
+        testEntry.setDate(LocalDate.of(2013, 12, 15));
+        assertEquals(2013, testEntry.getDate().get(Calendar.YEAR));
+        assertEquals(Calendar.DECEMBER, testEntry.getDate().get(Calendar.MONTH));
+        assertEquals(15, testEntry.getDate().get(Calendar.DAY_OF_MONTH));
+    }
+
+    @Test
+    void testDateIsNotSharedWithCalendars() {
+        Calendar calendar = new GregorianCalendar(2013, Calendar.DECEMBER, 15);
+        testEntry.setDate(calendar);
+        calendar.set(Calendar.YEAR, 1999);
+        testEntry.getDate().set(Calendar.YEAR, 1999);
+        date.set(Calendar.YEAR, 1999);
+        assertEquals(LocalDate.of(2013, 12, 15), testEntry.getLocalDate());
+    }
+
     @Test
     void testGetEntry() {
         Entry otherEntry = testEntry.getEntry();
@@ -90,4 +171,23 @@ public abstract class EntryTest {
         assertEquals("Feb 15 2020                   $123.45                        Entry",
                 testEntry.toString());
     }
+
+    @Test
+    void testToStringKeptUntilChanged() {
+        String text = testEntry.toString();
+        assertSame(text, testEntry.toString());
+        try {
+            testEntry.setAmount(1234567.8);
+            assertEquals("Feb 15 2020                   $1,234,567.80                  Entry",
+                    testEntry.toString());
+            testEntry.setDescription("Other");
+            assertTrue(testEntry.toString().endsWith("$1,234,567.80                  Other"));
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        testEntry.setDate(2021, Calendar.MARCH, 3);
+        assertTrue(testEntry.toString().startsWith("Mar 03 2021                   $"));
+    }
 }
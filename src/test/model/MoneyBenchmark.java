@@ -0,0 +1,66 @@
+package model;
+
+import java.util.Random;
+
+// Represents a benchmark comparing a sum of dollar amounts as doubles with the scalar and Vector API sums of the
+// same amounts in cents; run with ./gradlew benchmark
+public class MoneyBenchmark {
+    private static final int SIZE = 1_000_000;
+    private static final int ROUNDS = 200;
+
+    // EFFECTS: runs the benchmark and prints the time per sum and the result of each way of summing
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        double[] dollars = new double[SIZE];
+        long[] cents = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            cents[i] = random.nextInt(1_000_000);
+            dollars[i] = Money.toDollars(cents[i]);
+        }
+        System.out.println("Vector API available: " + Money.isVectorized());
+        for (int warmup = 0; warmup < 3; warmup++) {
+            timeDoubles(dollars);
+            timeScalar(cents);
+            timeVector(cents);
+        }
+    }
+
+    // EFFECTS: prints the time per sum of the dollar amounts as doubles
+    private static void timeDoubles(double[] dollars) {
+        long start = System.nanoTime();
+        double sum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            sum = 0;
+            for (double d : dollars) {
+                sum += d;
+            }
+        }
+        print("double", start, Double.toString(sum));
+    }
+
+    // EFFECTS: prints the time per scalar sum of the amounts in cents
+    private static void timeScalar(long[] cents) {
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            sum = Money.scalarSum(cents, 0, cents.length);
+        }
+        print("scalar", start, Double.toString(Money.toDollars(sum)));
+    }
+
+    // EFFECTS: prints the time per Money.sum of the amounts in cents
+    private static void timeVector(long[] cents) {
+        long start = System.nanoTime();
+        long sum = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            sum = Money.sum(cents, 0, cents.length);
+        }
+        print("vector", start, Double.toString(Money.toDollars(sum)));
+    }
+
+    // EFFECTS: prints the average time per round since start, with the given label and result
+    private static void print(String label, long start, String result) {
+        double micros = (System.nanoTime() - start) / 1000.0 / ROUNDS;
+        System.out.printf("%-8s %10.1f us/sum  %s%n", label, micros, result);
+    }
+}
@@ -0,0 +1,58 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the Money class
+public class MoneyTest {
+
+    @Test
+    void testToCents() {
+        assertEquals(12345, Money.toCents(123.45));
+        assertEquals(1001, Money.toCents(10.005));
+        assertEquals(0, Money.toCents(0.004));
+        assertEquals(-150, Money.toCents(-1.5));
+    }
+
+    @Test
+    void testToCentsNotFinite() {
+        try {
+            Money.toCents(Double.NaN);
+            fail("NumberFormatException was not thrown");
+        } catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testToCentsTooLarge() {
+        try {
+            Money.toCents(1e30);
+            fail("ArithmeticException was not thrown");
+        } catch (ArithmeticException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testToDollars() {
+        assertEquals(123.45, Money.toDollars(12345));
+        assertEquals(0, Money.toDollars(0));
+    }
+
+    @Test
+    void testSum() {
+        long[] cents = new long[1003];
+        long expected = 0;
+        for (int i = 0; i < cents.length; i++) {
+            cents[i] = i * 7L - 500;
+            expected += cents[i];
+        }
+        assertEquals(expected, Money.sum(cents, 0, cents.length));
+        assertEquals(expected, Money.scalarSum(cents, 0, cents.length));
+        assertEquals(cents[5] + cents[6] + cents[7], Money.sum(cents, 5, 8));
+        assertEquals(cents[5] + cents[6] + cents[7], Money.scalarSum(cents, 5, 8));
+        assertEquals(0, Money.sum(cents, 4, 4));
+    }
+}
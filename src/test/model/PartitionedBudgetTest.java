@@ -0,0 +1,191 @@
+package model;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the PartitionedBudget and PagedReport classes
+public class PartitionedBudgetTest {
+    private static final YearMonth JANUARY = YearMonth.of(2021, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2021, 2);
+    private static final YearMonth MARCH = YearMonth.of(2021, 3);
+
+    private List<YearMonth> loaded;
+    private long firstId;
+    private PartitionedBudget testBudget;
+
+    @BeforeEach
+    void runBefore() {
+        loaded = new ArrayList<>();
+        firstId = Entry.nextId() + 1;
+        SortedMap<YearMonth, PartitionSummary> partitions = new TreeMap<>();
+        partitions.put(JANUARY, new PartitionSummary(2, 3000, 1, 10000));
+        partitions.put(FEBRUARY, new PartitionSummary(1, 500, 0, 0));
+        partitions.put(MARCH, new PartitionSummary(1, 700, 1, 10000));
+        testBudget = new PartitionedBudget(partitions, firstId + 5, this::load);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the entries stored for month and records that month was loaded
+    private List<Entry> load(YearMonth month) {
+        loaded.add(month);
+        List<Entry> entries = new ArrayList<>();
+        if (month.equals(JANUARY)) {
+            entries.add(entry(EntryType.EXPENSE, 0, "Rent", 1000, month.atDay(1)));
+            entries.add(entry(EntryType.EXPENSE, 1, "Food", 2000, month.atDay(15)));
+            entries.add(entry(EntryType.INCOME, 2, "Salary", 10000, month.atDay(1)));
+        } else if (month.equals(FEBRUARY)) {
+            entries.add(entry(EntryType.EXPENSE, 3, "Phone", 500, month.atDay(3)));
+        } else {
+            entries.add(entry(EntryType.EXPENSE, 4, "Bus", 700, month.atDay(9)));
+            entries.add(entry(EntryType.INCOME, 5, "Salary", 10000, month.atDay(1)));
+        }
+        return entries;
+    }
+
+    // EFFECTS: returns a new entry of the given type with id firstId + offset and the given values
+    private Entry entry(EntryType type, int offset, String description, long cents, LocalDate date) {
+        Entry entry = type.newEntry(description, cents, date);
+        entry.setId(firstId + offset);
+        return entry;
+    }
+
+    @Test
+    void testTotalsReadNothing() {
+        assertEquals(4, testBudget.getExpenseReport().size());
+        assertEquals(2, testBudget.getIncomeReport().size());
+        assertEquals(4200, testBudget.getExpenseReport().sumInCents());
+        assertEquals(15800, testBudget.getDifferenceInCents());
+        assertEquals(10.5, testBudget.getExpenseReport().mean());
+        assertFalse(testBudget.getExpenseReport().isEmpty());
+        assertTrue(loaded.isEmpty());
+    }
+
+    @Test
+    void testRangeQueryReadsOnlyItsMonths() {
+        Calendar start = new GregorianCalendar(2021, Calendar.FEBRUARY, 1);
+        Calendar end = new GregorianCalendar(2021, Calendar.MARCH, 5);
+        assertEquals(500, testBudget.getExpenseReport().sumInRangeInCents(start, end));
+        assertEquals(List.of(FEBRUARY, MARCH), loaded);
+        assertEquals(1, testBudget.getExpenseReport().getEntriesInRange(start, end).size());
+        assertEquals(List.of(FEBRUARY, MARCH), loaded);
+        assertEquals(List.of(JANUARY), new ArrayList<>(testBudget.getUnreadMonths()));
+        assertEquals(4, testBudget.getExpenseReport().size());
+        assertEquals(4200, testBudget.getExpenseReport().sumInCents());
+        assertTrue(testBudget.getChangedMonths().isEmpty());
+    }
+
+    @Test
+    void testMonthAndYearTotals() {
+        assertEquals(30, testBudget.getExpensesInMonth(2021, Calendar.JANUARY));
+        assertEquals(List.of(JANUARY), loaded);
+        assertEquals(100, testBudget.getIncomeOnDay(new GregorianCalendar(2021, Calendar.JANUARY, 1)));
+        assertEquals(List.of(JANUARY), loaded);
+        assertEquals(0, testBudget.getExpensesInYear(2020));
+        assertEquals(42, testBudget.getExpensesInYear(2021));
+        assertEquals(List.of(JANUARY, FEBRUARY, MARCH), loaded);
+    }
+
+    @Test
+    void testAddAllEntriesReadsTheirMonths() {
+        Entry coffee = EntryType.EXPENSE.newEntry("Coffee", 4, FEBRUARY.atDay(2));
+        Entry tea = EntryType.EXPENSE.newEntry("Tea", 6, MARCH.atDay(2));
+        testBudget.getExpenseReport().addAllEntries(List.of(coffee, tea));
+        assertEquals(List.of(FEBRUARY, MARCH), loaded);
+        assertEquals(6, testBudget.getExpenseReport().size());
+        assertEquals(4210, testBudget.getExpenseReport().sumInCents());
+        Calendar start = new GregorianCalendar(2021, Calendar.FEBRUARY, 1);
+        Calendar end = new GregorianCalendar(2021, Calendar.MARCH, 31);
+        assertEquals(1210, testBudget.getExpenseReport().sumInRangeInCents(start, end));
+        assertEquals(List.of(FEBRUARY, MARCH), new ArrayList<>(testBudget.getChangedMonths()));
+    }
+
+    @Test
+    void testAddAndChangeReadTheirMonths() {
+        try {
+            Expense coffee = new Expense("Coffee", 4, new GregorianCalendar(2021, Calendar.FEBRUARY, 2));
+            testBudget.addExpense(coffee);
+            assertEquals(List.of(FEBRUARY), loaded);
+            assertTrue(coffee.getId() > firstId + 5);
+            assertEquals(5, testBudget.getExpenseReport().size());
+            assertEquals(List.of(FEBRUARY), new ArrayList<>(testBudget.getChangedMonths()));
+
+            coffee.setDate(2021, Calendar.MARCH, 2);
+            assertEquals(List.of(FEBRUARY, MARCH), loaded);
+            assertEquals(List.of(FEBRUARY, MARCH), new ArrayList<>(testBudget.getChangedMonths()));
+            assertEquals(5, testBudget.getExpenseReport().size());
+            assertEquals(4600, testBudget.getExpenseReport().sumInCents());
+
+            testBudget.markSaved();
+            assertTrue(testBudget.getChangedMonths().isEmpty());
+        } catch (NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testGetEntryById() {
+        assertNull(testBudget.getExpenseReport().getEntryById(firstId + 100));
+        assertTrue(loaded.isEmpty());
+        Entry phone = testBudget.getExpenseReport().getEntryById(firstId + 3);
+        assertEquals("Phone", phone.getDescription());
+        assertEquals(3, loaded.size());
+        assertTrue(testBudget.getExpenseReport().deleteEntryById(firstId + 3));
+        assertEquals(List.of(FEBRUARY), new ArrayList<>(testBudget.getChangedMonths()));
+        assertEquals(3, testBudget.getExpenseReport().size());
+    }
+
+    @Test
+    void testQueriesOverAllEntriesReadEverything() {
+        assertEquals(20, testBudget.getExpenseReport().max());
+        assertEquals(3, loaded.size());
+        assertEquals(4, testBudget.getExpenseReport().getAllEntries().size());
+        assertEquals(5, testBudget.getExpenseReport().min());
+        assertEquals(3, loaded.size());
+        assertTrue(testBudget.getUnreadMonths().isEmpty());
+        assertTrue(testBudget.getChangedMonths().isEmpty());
+        Budget snapshot = testBudget.snapshot();
+        assertEquals(4200, snapshot.getExpenseReport().sumInCents());
+        assertEquals(2, snapshot.getIncomeReport().size());
+    }
+
+    @Test
+    void testReadingPartitionsTellsListenersNothing() {
+        List<String> events = new ArrayList<>();
+        testBudget.getExpenseReport().addListener(new ReportListener() {
+            @Override
+            public void entryAdded(Report report, Entry e) {
+                events.add("added " + e.getDescription());
+            }
+
+            @Override
+            public void entryChanged(Report report, Entry e) {
+                events.add("changed " + e.getDescription());
+            }
+
+            @Override
+            public void entryDeleted(Report report, Entry e) {
+                events.add("deleted " + e.getDescription());
+            }
+        });
+        testBudget.getExpenseReport().getEntriesInRange(Dates.toCalendar(JANUARY.atDay(1)),
+                Dates.toCalendar(JANUARY.atEndOfMonth()));
+        assertEquals(List.of(JANUARY), loaded);
+        testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("Coffee", 4, MARCH.atDay(2)));
+        assertEquals(List.of(JANUARY, MARCH), loaded);
+        testBudget.getExpenseReport().getAllEntries();
+        assertEquals(List.of("added Coffee"), events);
+    }
+}
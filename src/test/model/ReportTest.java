@@ -1,8 +1,14 @@
 package model;
 
+import exception.EmptyStringException;
+import exception.NegativeInputException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -128,6 +134,120 @@ public abstract class ReportTest {
         assertTrue(entries.contains(entry3));
     }
 
+    @Test
+    void testGetEntriesInRangeOrderedByDate() {
+        testReport.addEntry(entry3);
+        testReport.addEntry(entry1);
+        testReport.addEntry(entry2);
+        List<Entry> entries = testReport.getEntriesInRange(date1, date3);
+        assertEquals(3, entries.size());
+        assertEquals(entry1, entries.get(0));
+        assertEquals(entry2, entries.get(1));
+        assertEquals(entry3, entries.get(2));
+    }
+
+    @Test
+    void testGetEntriesInRangeAfterSetDate() {
+        addAllEntries();
+        Calendar endDate = new GregorianCalendar(YEAR_2, Calendar.DECEMBER, DAY_1);
+        entry3.setDate(YEAR_1, Calendar.APRIL, DAY_1);
+        List<Entry> entries = testReport.getEntriesInRange(date1, endDate);
+        assertEquals(3, entries.size());
+        assertEquals(entry1, entries.get(0));
+        assertEquals(entry3, entries.get(1));
+        assertEquals(entry2, entries.get(2));
+        entry1.setDate(new GregorianCalendar(YEAR_3 + 1, Calendar.JANUARY, DAY_1));
+        entries = testReport.getEntriesInRange(date1, endDate);
+        assertEquals(2, entries.size());
+        assertFalse(entries.contains(entry1));
+    }
+
+    @Test
+    void testGetEntriesInRangeSameDayOrderIsStable() {
+        addAllEntries();
+        entry2.setDate(date1);
+        try {
+            entry1.setAmount(AMOUNT_3);
+            entry1.setDescription(DESCRIPTION_3);
+        } catch (NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+        entry1.setDate(date3);
+        entry1.setDate(date1);
+        assertEquals(List.of(entry1, entry2), testReport.getEntriesInRange(date1, date1));
+    }
+
+    @Test
+    void testGetEntriesInRangeAfterDelete() {
+        addAllEntries();
+        testReport.deleteEntry(entry2);
+        List<Entry> entries = testReport.getEntriesInRange(date1, date3);
+        assertEquals(2, entries.size());
+        assertFalse(entries.contains(entry2));
+    }
+
+    @Test
+    void testSearch() {
+        addAllEntries();
+        assertEquals(3, testReport.search("entry").size());
+        List<Entry> entries = testReport.search("TRY 2");
+        assertEquals(1, entries.size());
+        assertEquals(entry2, entries.get(0));
+        assertTrue(testReport.search("Entry 4").isEmpty());
+        assertEquals(2, testReport.search("Entry", date2, date3).size());
+        assertEquals(1, testReport.search("1", date1, date2).size());
+    }
+
+    @Test
+    void testSearchAfterChanges() {
+        addAllEntries();
+        assertEquals(1, testReport.search("Entry 3").size());
+        try {
+            entry3.setDescription("Groceries");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        assertTrue(testReport.search("Entry 3").isEmpty());
+        assertEquals(entry3, testReport.search("grocer").get(0));
+        assertEquals(entry3, testReport.getDescriptionIndex().getEntriesWithWordPrefix("gro").get(0));
+        entry3.setDate(YEAR_1, Calendar.APRIL, DAY_1);
+        assertEquals(1, testReport.search("groceries", date1, date1).size());
+        testReport.deleteEntry(entry1);
+        assertEquals(1, testReport.search("entry").size());
+        assertEquals(entry2, testReport.getDescriptionIndex().getEntriesWithSimilarWord("entyr", 2).get(0));
+    }
+
+    @Test
+    void testDescriptionIndexIsKept() {
+        addAllEntries();
+        DescriptionIndex index = testReport.getDescriptionIndex();
+        testReport.deleteEntry(entry2);
+        try {
+            entry3.setDescription("Groceries");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        testReport.addEntry(entry2);
+        assertSame(index, testReport.getDescriptionIndex());
+        assertEquals(2, index.getEntriesContaining("entry").size());
+        assertEquals(List.of(entry3), index.getEntriesContaining("grocer"));
+    }
+
+    @Test
+    void testFilterApplyKeepsListOrder() {
+        addAllEntries();
+        testReport.deleteEntry(entry1);
+        testReport.addEntry(entry1);
+        EntryFilter filter = new EntryFilter("entry", 0, Money.toCents(AMOUNT_3) - 1, LocalDate.MIN, LocalDate.MAX);
+        List<Entry> matches = filter.apply(testReport);
+        assertEquals(filter.apply(testReport.getAllEntries()), matches);
+        assertEquals(2, matches.size());
+        filter = new EntryFilter("", 0, Long.MAX_VALUE, Dates.fromCalendar(date2), LocalDate.MAX);
+        assertEquals(filter.apply(testReport.getAllEntries()), filter.apply(testReport));
+        filter = new EntryFilter("1", 0, Long.MAX_VALUE, Dates.fromCalendar(date2), LocalDate.MAX);
+        assertTrue(filter.apply(testReport).isEmpty());
+    }
+
     @Test
     void testGetAllEntriesEmpty() {
         assertEquals(0, testReport.size());
@@ -146,6 +266,51 @@ public abstract class ReportTest {
         assertTrue(entries.contains(entry3));
     }
 
+    @Test
+    void testGetAllEntriesShowsChanges() {
+        addAllEntries();
+        List<Entry> entries = testReport.getAllEntries();
+        testReport.deleteEntry(entry1);
+        assertEquals(2, entries.size());
+        assertEquals(0, entries.indexOf(entry2));
+        assertEquals(1, entries.indexOf(entry3));
+        assertEquals(-1, entries.indexOf(entry1));
+        testReport.addEntry(entry1);
+        assertEquals(2, entries.indexOf(entry1));
+        assertSame(entry1, entries.get(2));
+    }
+
+    @Test
+    void testGetEntryById() {
+        addAllEntries();
+        assertSame(entry2, testReport.getEntryById(entry2.getId()));
+        assertTrue(testReport.containsId(entry3.getId()));
+        testReport.deleteEntry(entry3);
+        assertNull(testReport.getEntryById(entry3.getId()));
+        assertFalse(testReport.containsId(entry3.getId()));
+    }
+
+    @Test
+    void testDeleteEntryById() {
+        addAllEntries();
+        assertTrue(testReport.deleteEntryById(entry2.getId()));
+        assertFalse(testReport.deleteEntryById(entry2.getId()));
+        assertEquals(2, testReport.size());
+        assertFalse(testReport.contains(entry2));
+        assertEquals(AMOUNT_1 + AMOUNT_3, testReport.sum());
+        assertSame(entry3, testReport.getEntryById(entry3.getId()));
+    }
+
+    @Test
+    void testAddEntryDuplicateId() {
+        testReport.addEntry(entry1);
+        entry2.setId(entry1.getId());
+        testReport.addEntry(entry2);
+        assertNotEquals(entry1.getId(), entry2.getId());
+        assertSame(entry1, testReport.getEntryById(entry1.getId()));
+        assertSame(entry2, testReport.getEntryById(entry2.getId()));
+    }
+
     @Test
     void testSumEntriesEmpty() {
         assertEquals(0, testReport.size());
@@ -160,6 +325,114 @@ public abstract class ReportTest {
         assertEquals(total, testReport.sum());
     }
 
+    @Test
+    void testSumIsExact() {
+        try {
+            for (int i = 0; i < 10; i++) {
+                testReport.addEntry(new Expense(DESCRIPTION_1, 0.10, date1));
+            }
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        assertEquals(1.00, testReport.sum());
+        assertEquals(100, testReport.sumInCents());
+        assertEquals(100, testReport.sumInRangeInCents(date1, date1));
+    }
+
+    @Test
+    void testSumAfterDelete() {
+        addAllEntries();
+        testReport.deleteEntry(entry2);
+        assertEquals(entry1.getAmount() + entry3.getAmount(), testReport.sum());
+    }
+
+    @Test
+    void testSumAfterSetAmount() {
+        addAllEntries();
+        try {
+            entry2.setAmount(1.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        assertEquals(AMOUNT_1 + 1.00 + AMOUNT_3, testReport.sum());
+        assertEquals(1.00, testReport.min());
+    }
+
+    @Test
+    void testSetAmountAfterDelete() {
+        addAllEntries();
+        testReport.deleteEntry(entry1);
+        try {
+            entry1.setAmount(1000.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        assertEquals(AMOUNT_2 + AMOUNT_3, testReport.sum());
+        assertEquals(AMOUNT_3, testReport.max());
+    }
+
+    @Test
+    void testSumInRange() {
+        addAllEntries();
+        Calendar endDate = new GregorianCalendar(YEAR_3, Calendar.JANUARY, DAY_2);
+        assertEquals(AMOUNT_2, testReport.sumInRange(date2, endDate));
+        assertEquals(AMOUNT_1 + AMOUNT_2 + AMOUNT_3, testReport.sumInRange(date1, date3));
+        assertEquals(0, testReport.sumInRange(date3, date1));
+    }
+
+    @Test
+    void testSumInRangeAfterChanges() {
+        addAllEntries();
+        try {
+            entry2.setAmount(1.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        Calendar oldDate3 = new GregorianCalendar(YEAR_3, Calendar.AUGUST, DAY_3);
+        entry3.setDate(YEAR_1, Calendar.APRIL, DAY_1);
+        testReport.deleteEntry(entry1);
+        assertEquals(AMOUNT_3, testReport.sumInRange(date1, date1));
+        assertEquals(1.00, testReport.sumInRange(date2, date2));
+        assertEquals(0, testReport.sumInRange(oldDate3, oldDate3));
+    }
+
+    @Test
+    void testRollupAfterChanges() {
+        addAllEntries();
+        try {
+            entry2.setAmount(1.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        entry3.setDate(YEAR_1, Calendar.APRIL, 20);
+        testReport.deleteEntry(entry1);
+        Rollup rollup = testReport.getRollup();
+        assertEquals(Money.toCents(AMOUNT_3), rollup.getMonthTotal(YearMonth.of(YEAR_1, 4)));
+        assertEquals(Money.toCents(AMOUNT_3), rollup.getYearTotal(Year.of(YEAR_1)));
+        assertEquals(100, rollup.getYearTotal(Year.of(YEAR_2)));
+        assertEquals(0, rollup.getYearTotal(Year.of(YEAR_3)));
+    }
+
+    @Test
+    void testMinMaxMeanEmpty() {
+        assertEquals(0, testReport.min());
+        assertEquals(0, testReport.max());
+        assertEquals(0, testReport.mean());
+    }
+
+    @Test
+    void testMinMaxMeanMany() {
+        addAllEntries();
+        assertEquals(AMOUNT_2, testReport.min());
+        assertEquals(AMOUNT_3, testReport.max());
+        assertEquals((AMOUNT_1 + AMOUNT_2 + AMOUNT_3) / 3, testReport.mean());
+        testReport.deleteEntry(entry3);
+        assertEquals(AMOUNT_2, testReport.min());
+        assertEquals(AMOUNT_1, testReport.max());
+    }
+
     @Test
     void testIsEmptyEmpty() {
         assertEquals(0, testReport.size());
@@ -173,9 +446,77 @@ public abstract class ReportTest {
         assertFalse(testReport.isEmpty());
     }
 
+    @Test
+    void testListeners() {
+        List<String> events = new ArrayList<>();
+        ReportListener listener = new ReportListener() {
+            @Override
+            public void entryAdded(Report report, Entry e) {
+                events.add("add " + e.getDescription());
+            }
+
+            @Override
+            public void entryChanged(Report report, Entry e) {
+                events.add("modify " + e.getDescription());
+            }
+
+            @Override
+            public void entryDeleted(Report report, Entry e) {
+                events.add("delete " + e.getDescription());
+            }
+        };
+        testReport.addListener(listener);
+        testReport.addEntry(entry1);
+        testReport.addEntry(entry2);
+        try {
+            testReport.getEntryById(entry1.getId()).setDescription(DESCRIPTION_3);
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        testReport.deleteEntry(testReport.getEntryById(entry2.getId()));
+        testReport.removeListener(listener);
+        testReport.addEntry(entry3);
+        assertEquals(List.of("add " + DESCRIPTION_1, "add " + DESCRIPTION_2, "modify " + DESCRIPTION_3,
+                "delete " + DESCRIPTION_2), events);
+    }
+
+    @Test
+    void testAddAllEntries() {
+        List<String> added = new ArrayList<>();
+        testReport.addListener(new ReportListener() {
+            @Override
+            public void entryAdded(Report report, Entry e) {
+                added.add(e.getDescription());
+            }
+
+            @Override
+            public void entryChanged(Report report, Entry e) {
+            }
+
+            @Override
+            public void entryDeleted(Report report, Entry e) {
+            }
+        });
+        testReport.addEntry(entry1);
+        Entry sameId = testReport.getType().newEntry(DESCRIPTION_1, 1, Dates.fromCalendar(date1));
+        sameId.setId(entry1.getId());
+        testReport.addAllEntries(List.of(entry2, entry3, sameId));
+        assertEquals(List.of(DESCRIPTION_1, DESCRIPTION_2, DESCRIPTION_3, DESCRIPTION_1), added);
+        assertEquals(4, testReport.size());
+        assertNotEquals(entry1.getId(), sameId.getId());
+        assertEquals(Money.toCents(AMOUNT_1 + AMOUNT_2 + AMOUNT_3) + 1, testReport.sumInCents());
+        assertEquals(0.01, testReport.min());
+        assertEquals(AMOUNT_3, testReport.max());
+        assertEquals(Money.toCents(AMOUNT_1) + 1, testReport.sumInRangeInCents(date1, date1));
+        assertEquals(Money.toCents(AMOUNT_2), testReport.getRollup().getYearTotal(Year.of(YEAR_2)));
+        assertEquals(List.of(entry1, sameId, entry2, entry3), testReport.getEntriesInRange(date1, date3));
+        testReport.addAllEntries(List.of());
+        assertEquals(4, testReport.size());
+    }
+
     // MODIFIES: this
     // EFFECTS: adds all entries to the testReport
-    private void addAllEntries() {
+    protected void addAllEntries() {
         testReport.addEntry(entry1);
         testReport.addEntry(entry2);
         testReport.addEntry(entry3);
@@ -0,0 +1,62 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the Rollup class
+public class RollupTest {
+    private static final LocalDate DATE_1 = LocalDate.of(2021, 5, 4);
+    private static final LocalDate DATE_2 = LocalDate.of(2021, 5, 31);
+    private static final LocalDate DATE_3 = LocalDate.of(2022, 1, 1);
+
+    private Rollup testRollup;
+
+    @BeforeEach
+    void runBefore() {
+        testRollup = new Rollup();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, testRollup.getDayTotal(DATE_1));
+        assertEquals(0, testRollup.getMonthTotal(YearMonth.from(DATE_1)));
+        assertEquals(0, testRollup.getYearTotal(Year.from(DATE_1)));
+        assertTrue(testRollup.getMonthTotals().isEmpty());
+    }
+
+    @Test
+    void testAddMany() {
+        testRollup.add(DATE_1.toEpochDay(), 100);
+        testRollup.add(DATE_1.toEpochDay(), 50);
+        testRollup.add(DATE_2.toEpochDay(), 25);
+        testRollup.add(DATE_3.toEpochDay(), 1000);
+        assertEquals(150, testRollup.getDayTotal(DATE_1));
+        assertEquals(25, testRollup.getDayTotal(DATE_2));
+        assertEquals(175, testRollup.getMonthTotal(YearMonth.of(2021, 5)));
+        assertEquals(0, testRollup.getMonthTotal(YearMonth.of(2021, 6)));
+        assertEquals(175, testRollup.getYearTotal(Year.of(2021)));
+        assertEquals(1000, testRollup.getYearTotal(Year.of(2022)));
+        assertEquals(YearMonth.of(2021, 5), testRollup.getMonthTotals().firstKey());
+        assertEquals(2, testRollup.getYearTotals().size());
+        assertEquals(3, testRollup.getDayTotals().size());
+    }
+
+    @Test
+    void testRemoveDropsEmptyBuckets() {
+        testRollup.add(DATE_1.toEpochDay(), 100);
+        testRollup.add(DATE_2.toEpochDay(), 25);
+        testRollup.remove(DATE_1.toEpochDay(), 100);
+        assertEquals(0, testRollup.getDayTotal(DATE_1));
+        assertFalse(testRollup.getDayTotals().containsKey(DATE_1));
+        assertEquals(25, testRollup.getMonthTotal(YearMonth.of(2021, 5)));
+        testRollup.remove(DATE_2.toEpochDay(), 25);
+        assertTrue(testRollup.getMonthTotals().isEmpty());
+        assertTrue(testRollup.getYearTotals().isEmpty());
+    }
+}
@@ -0,0 +1,195 @@
+package model;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the SnapshotReport class
+public class SnapshotReportTest {
+    private static final double AMOUNT_1 = 100.00;
+    private static final double AMOUNT_2 = 65.50;
+
+    private Report testReport;
+    private Entry entry1;
+    private Entry entry2;
+    private Calendar date1;
+    private Calendar date2;
+
+    @BeforeEach
+    void runBefore() {
+        testReport = new ExpenseReport();
+        date1 = new GregorianCalendar(2021, Calendar.MAY, 4);
+        date2 = new GregorianCalendar(2022, Calendar.JUNE, 9);
+        try {
+            entry1 = new Expense("Entry 1", AMOUNT_1, date1);
+            entry2 = new Expense("Entry 2", AMOUNT_2, date2);
+        } catch (Exception e) {
+            fail("Cannot run tests: failed to construct test entries");
+        }
+        testReport.addEntry(entry1);
+        testReport.addEntry(entry2);
+    }
+
+    @Test
+    void testSnapshotIgnoresLaterChanges() {
+        Report snapshot = testReport.snapshot();
+        try {
+            entry1.setAmount(1.00);
+            entry1.setDescription("Changed");
+            entry1.setDate(2030, Calendar.JANUARY, 1);
+            testReport.addEntry(new Expense("Entry 3", 5.00, date1));
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+        testReport.deleteEntry(entry2);
+        assertEquals(2, snapshot.size());
+        assertEquals(AMOUNT_1 + AMOUNT_2, snapshot.sum());
+        assertEquals(AMOUNT_2, snapshot.min());
+        assertEquals(AMOUNT_1, snapshot.max());
+        assertEquals(AMOUNT_1, snapshot.sumInRange(date1, date1));
+        assertEquals(Money.toCents(AMOUNT_2), snapshot.getRollup().getYearTotal(Year.of(2022)));
+        List<Entry> entries = snapshot.getAllEntries();
+        assertEquals("Entry 1", entries.get(0).getDescription());
+        assertEquals(AMOUNT_1, entries.get(0).getAmount());
+        assertEquals(LocalDate.of(2021, 5, 4), entries.get(0).getLocalDate());
+        assertEquals(entry2.getId(), entries.get(1).getId());
+        assertSame(entries.get(0), snapshot.getEntryById(entry1.getId()));
+        assertEquals(1, snapshot.getEntriesInRange(date2, date2).size());
+        assertTrue(snapshot.contains(entry2));
+        assertTrue(snapshot.containsId(entry1.getId()));
+    }
+
+    @Test
+    void testSnapshotEntriesAreCopies() {
+        Report snapshot = testReport.snapshot();
+        Entry copy = snapshot.getEntryById(entry1.getId());
+        assertNotSame(entry1, copy);
+        try {
+            copy.setAmount(1.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        assertEquals(AMOUNT_1, entry1.getAmount());
+        assertEquals(AMOUNT_1 + AMOUNT_2, testReport.sum());
+        try {
+            entry1.setAmount(2.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        assertEquals(AMOUNT_1 + AMOUNT_2, snapshot.sum());
+    }
+
+    @Test
+    void testSnapshotIsReadOnly() {
+        Report snapshot = testReport.snapshot();
+        try {
+            snapshot.deleteEntry(entry1);
+            fail("UnsupportedOperationException was not thrown");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            snapshot.addEntry(new Expense("Entry 3", 5.00, date1));
+            fail("UnsupportedOperationException was not thrown");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        } catch (Exception e) {
+            fail("Cannot run test: failed to construct test entry");
+        }
+        assertSame(snapshot, snapshot.snapshot());
+    }
+
+    @Test
+    void testSnapshotsShareEntriesUntilDeleted() {
+        Report first = testReport.snapshot();
+        Entry entry3 = EntryType.EXPENSE.newEntry("Entry 3", 300, LocalDate.of(2023, 1, 1));
+        testReport.addEntry(entry3);
+        Report second = testReport.snapshot();
+        testReport.deleteEntry(entry1);
+        Report third = testReport.snapshot();
+        testReport.addEntry(EntryType.EXPENSE.newEntry("Entry 4", 400, LocalDate.of(2023, 1, 2)));
+        testReport.deleteEntry(entry3);
+        assertEquals(List.of("Entry 1", "Entry 2"), descriptionsOf(first));
+        assertEquals(List.of("Entry 1", "Entry 2", "Entry 3"), descriptionsOf(second));
+        assertEquals(List.of("Entry 2", "Entry 3"), descriptionsOf(third));
+        assertEquals(List.of("Entry 2", "Entry 4"), descriptionsOf(testReport));
+        assertEquals(300, third.getRollup().getYearTotal(Year.of(2023)));
+        assertEquals(0, first.getRollup().getYearTotal(Year.of(2023)));
+    }
+
+    @Test
+    void testSnapshotOfColumnarReport() {
+        ColumnarReport report = new ColumnarReport(EntryType.INCOME);
+        report.append("Entry 1", 100, LocalDate.of(2021, 5, 4));
+        report.append("Entry 2", 200, LocalDate.of(2021, 5, 5));
+        Report snapshot = report.snapshot();
+        try {
+            report.getEntry(0).setAmount(50.00);
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+        report.deleteEntry(report.getEntry(1));
+        assertEquals(EntryType.INCOME, snapshot.getType());
+        assertEquals(300, snapshot.sumInCents());
+        assertEquals(1.00, snapshot.getAllEntries().get(0).getAmount());
+        assertEquals(2.00, snapshot.getAllEntries().get(1).getAmount());
+    }
+
+    @Test
+    void testReadWhileWriting() {
+        for (int i = 0; i < 1000; i++) {
+            try {
+                testReport.addEntry(new Expense("Entry", i, date1));
+            } catch (Exception e) {
+                fail("Cannot run test: failed to construct test entry");
+            }
+        }
+        Report snapshot = testReport.snapshot();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (Entry e : testReport.getAllEntries()) {
+                try {
+                    e.setAmount(e.getAmount() + 1);
+                } catch (NegativeInputException exception) {
+                    return;
+                }
+            }
+            done.set(true);
+        });
+        writer.start();
+        long total = 0;
+        for (Entry e : snapshot.getAllEntries()) {
+            total += e.getAmountInCents();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            fail("InterruptedException should have not been thrown");
+        }
+        assertTrue(done.get());
+        assertEquals(snapshot.sumInCents(), total);
+        assertNotEquals(testReport.sumInCents(), snapshot.sumInCents());
+    }
+
+    // EFFECTS: returns the descriptions of the entries of report, in order
+    private List<String> descriptionsOf(Report report) {
+        List<String> descriptions = new ArrayList<>();
+        for (Entry e : report.getAllEntries()) {
+            descriptions.add(e.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,37 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Tests for the StringTable class
+public class StringTableTest {
+    private StringTable testTable;
+
+    @BeforeEach
+    void runBefore() {
+        testTable = new StringTable();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(0, testTable.size());
+    }
+
+    @Test
+    void testIdOfDistinctStrings() {
+        assertEquals(0, testTable.idOf("Rent"));
+        assertEquals(1, testTable.idOf("Groceries"));
+        assertEquals(2, testTable.size());
+        assertEquals("Rent", testTable.get(0));
+        assertEquals("Groceries", testTable.get(1));
+    }
+
+    @Test
+    void testIdOfRepeatedString() {
+        assertEquals(0, testTable.idOf("Rent"));
+        assertEquals(0, testTable.idOf("Rent"));
+        assertEquals(1, testTable.size());
+    }
+}
@@ -0,0 +1,140 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the TimeSeries class
+public class TimeSeriesTest {
+    private static final LocalDate DATE_1 = LocalDate.of(2021, 11, 30);
+    private static final LocalDate DATE_2 = LocalDate.of(2021, 12, 2);
+    private static final LocalDate DATE_3 = LocalDate.of(2022, 2, 14);
+
+    private Rollup testRollup;
+
+    @BeforeEach
+    void runBefore() {
+        testRollup = new Rollup();
+        testRollup.add(DATE_1.toEpochDay(), 100);
+        testRollup.add(DATE_2.toEpochDay(), 25);
+        testRollup.add(DATE_2.toEpochDay(), 50);
+        testRollup.add(DATE_3.toEpochDay(), 1000);
+    }
+
+    @Test
+    void testOfEmpty() {
+        assertEquals(0, TimeSeries.of(new Rollup(), TimeSeries.Interval.DAY).size());
+        assertEquals(0, TimeSeries.of(new Rollup(), TimeSeries.Interval.MONTH).size());
+        assertEquals(0, TimeSeries.of(new Rollup(), TimeSeries.Interval.MONTH).maxTotal());
+    }
+
+    @Test
+    void testOfDays() {
+        TimeSeries series = TimeSeries.of(testRollup, TimeSeries.Interval.DAY);
+        assertEquals(DATE_3.toEpochDay() - DATE_1.toEpochDay() + 1, series.size());
+        assertEquals(DATE_1.toEpochDay(), series.getDay(0));
+        assertEquals(100, series.getTotal(0));
+        assertEquals(0, series.getTotal(1));
+        assertEquals(DATE_2.toEpochDay(), series.getDay(2));
+        assertEquals(75, series.getTotal(2));
+        assertEquals(DATE_3.toEpochDay(), series.getDay(series.size() - 1));
+        assertEquals(1000, series.getTotal(series.size() - 1));
+        assertEquals(1000, series.maxTotal());
+    }
+
+    @Test
+    void testOfMonths() {
+        TimeSeries series = TimeSeries.of(testRollup, TimeSeries.Interval.MONTH);
+        assertEquals(4, series.size());
+        assertEquals(LocalDate.of(2021, 11, 1).toEpochDay(), series.getDay(0));
+        assertEquals(100, series.getTotal(0));
+        assertEquals(LocalDate.of(2021, 12, 1).toEpochDay(), series.getDay(1));
+        assertEquals(75, series.getTotal(1));
+        assertEquals(LocalDate.of(2022, 1, 1).toEpochDay(), series.getDay(2));
+        assertEquals(0, series.getTotal(2));
+        assertEquals(LocalDate.of(2022, 2, 1).toEpochDay(), series.getDay(3));
+        assertEquals(1000, series.getTotal(3));
+    }
+
+    @Test
+    void testOfDaysFarApart() {
+        LocalDate typo = LocalDate.of(20201, 12, 2);
+        testRollup.add(typo.toEpochDay(), 5);
+        TimeSeries series = TimeSeries.of(testRollup, TimeSeries.Interval.DAY);
+        assertEquals(9, series.size());
+        assertEquals(DATE_1.toEpochDay(), series.getDay(0));
+        assertEquals(DATE_1.toEpochDay() + 1, series.getDay(1));
+        assertEquals(0, series.getTotal(1));
+        assertEquals(DATE_2.toEpochDay(), series.getDay(2));
+        assertEquals(75, series.getTotal(2));
+        assertEquals(DATE_2.toEpochDay() + 1, series.getDay(3));
+        assertEquals(DATE_3.toEpochDay() - 1, series.getDay(4));
+        assertEquals(DATE_3.toEpochDay() + 1, series.getDay(6));
+        assertEquals(typo.toEpochDay() - 1, series.getDay(7));
+        assertEquals(0, series.getTotal(7));
+        assertEquals(typo.toEpochDay(), series.getDay(8));
+        assertEquals(5, series.getTotal(8));
+        assertEquals(3, series.downsample(3).size());
+    }
+
+    @Test
+    void testOfMonthsFarApart() {
+        testRollup.add(LocalDate.of(999999, 1, 31).toEpochDay(), 5);
+        TimeSeries series = TimeSeries.of(testRollup, TimeSeries.Interval.MONTH);
+        assertEquals(7, series.size());
+        assertEquals(LocalDate.of(2022, 1, 1).toEpochDay(), series.getDay(2));
+        assertEquals(LocalDate.of(2022, 3, 1).toEpochDay(), series.getDay(4));
+        assertEquals(LocalDate.of(999998, 12, 1).toEpochDay(), series.getDay(5));
+        assertEquals(LocalDate.of(999999, 1, 1).toEpochDay(), series.getDay(6));
+        assertEquals(5, series.getTotal(6));
+    }
+
+    @Test
+    void testDownsampleSmallSeries() {
+        TimeSeries series = TimeSeries.of(testRollup, TimeSeries.Interval.MONTH);
+        assertSame(series, series.downsample(4));
+        assertSame(series, series.downsample(10));
+    }
+
+    @Test
+    void testDownsampleKeepsEndsAndPeaks() {
+        int size = 20 * 365;
+        long[] days = new long[size];
+        long[] totals = new long[size];
+        for (int i = 0; i < size; i++) {
+            days[i] = 10000 + i;
+            totals[i] = 100 + (i % 7) * 10;
+        }
+        totals[1234] = 50000;
+        totals[5678] = 70000;
+        TimeSeries series = new TimeSeries(days, totals);
+        TimeSeries sampled = series.downsample(800);
+        assertEquals(800, sampled.size());
+        assertEquals(days[0], sampled.getDay(0));
+        assertEquals(totals[0], sampled.getTotal(0));
+        assertEquals(days[size - 1], sampled.getDay(799));
+        assertEquals(totals[size - 1], sampled.getTotal(799));
+        assertEquals(70000, sampled.maxTotal());
+        boolean keptFirstPeak = false;
+        for (int i = 1; i < sampled.size(); i++) {
+            assertTrue(sampled.getDay(i) > sampled.getDay(i - 1));
+            keptFirstPeak = keptFirstPeak || sampled.getDay(i) == days[1234];
+        }
+        assertTrue(keptFirstPeak);
+    }
+
+    @Test
+    void testDownsampleToThree() {
+        long[] days = {1, 2, 3, 4, 5, 6, 7};
+        long[] totals = {0, 5, 1, 40, 2, 3, 0};
+        TimeSeries sampled = new TimeSeries(days, totals).downsample(3);
+        assertEquals(3, sampled.size());
+        assertEquals(1, sampled.getDay(0));
+        assertEquals(4, sampled.getDay(1));
+        assertEquals(40, sampled.getTotal(1));
+        assertEquals(7, sampled.getDay(2));
+    }
+}
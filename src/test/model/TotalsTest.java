@@ -0,0 +1,78 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Tests for the Totals class
+public class TotalsTest {
+    private Totals testTotals;
+
+    @BeforeEach
+    void runBefore() {
+        testTotals = new Totals();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(0, testTotals.getCount());
+        assertEquals(0, testTotals.getSum());
+        assertEquals(0, testTotals.getMin());
+        assertEquals(0, testTotals.getMax());
+        assertEquals(0, testTotals.getMean());
+    }
+
+    @Test
+    void testAddMany() {
+        testTotals.add(1000);
+        testTotals.add(250);
+        testTotals.add(3000);
+        assertEquals(3, testTotals.getCount());
+        assertEquals(4250, testTotals.getSum());
+        assertEquals(250, testTotals.getMin());
+        assertEquals(3000, testTotals.getMax());
+        assertEquals(4250.0 / 3, testTotals.getMean());
+    }
+
+    @Test
+    void testRemoveDuplicateAmount() {
+        testTotals.add(5);
+        testTotals.add(5);
+        testTotals.add(1);
+        testTotals.remove(5);
+        assertEquals(2, testTotals.getCount());
+        assertEquals(1, testTotals.getMin());
+        assertEquals(5, testTotals.getMax());
+        testTotals.remove(1);
+        assertEquals(5, testTotals.getMin());
+    }
+
+    @Test
+    void testRemoveAll() {
+        testTotals.add(10);
+        testTotals.add(20);
+        testTotals.remove(10);
+        testTotals.remove(20);
+        assertEquals(0, testTotals.getCount());
+        assertEquals(0, testTotals.getSum());
+        assertEquals(0, testTotals.getMin());
+        assertEquals(0, testTotals.getMax());
+    }
+
+    @Test
+    void testAddAll() {
+        testTotals.add(5);
+        testTotals.addAll(new long[] {99, 7, 3, 7, 1, 99}, 1, 5);
+        assertEquals(5, testTotals.getCount());
+        assertEquals(23, testTotals.getSum());
+        assertEquals(1, testTotals.getMin());
+        assertEquals(7, testTotals.getMax());
+        testTotals.remove(7);
+        testTotals.remove(1);
+        assertEquals(3, testTotals.getMin());
+        assertEquals(7, testTotals.getMax());
+        testTotals.addAll(new long[] {99}, 1, 1);
+        assertEquals(3, testTotals.getCount());
+    }
+}
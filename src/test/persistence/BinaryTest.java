@@ -0,0 +1,167 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.Entry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Tests for the BinaryReader, BinaryWriter and BudgetFileConverter classes
+public class BinaryTest extends JsonTest {
+    private static final String[] FIXTURES = {"testReaderEmptyBudget", "testReaderExpenseEmptyIncomeMany",
+            "testReaderExpenseManyIncomeEmpty", "testReaderGeneralBudget", "testReaderInvalidEntries",
+            "testReaderExtraMembers"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRoundTripFixtures() {
+        try {
+            for (String fixture : FIXTURES) {
+                Budget budget = new JsonReader("./data/" + fixture + ".json").read();
+                String binary = file("testBinary.bin");
+                BudgetFileConverter.jsonToBinary("./data/" + fixture + ".json", binary);
+                Budget fromBinary = new BinaryReader(binary).read();
+                assertTrue(fromBinary.getExpenseReport() instanceof ColumnarReport);
+                checkSameEntries(new JsonReader("./data/" + fixture + ".json").read(), fromBinary, false);
+                BudgetFileConverter.binaryToJson(binary, file("testBinary.json"));
+                checkSameEntries(fromBinary, new JsonReader(file("testBinary.json")).read(), false);
+                assertEquals(budget.getDifferenceInCents(), fromBinary.getDifferenceInCents());
+            }
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testRoundTripKeepsIds() {
+        try {
+            Budget budget = new JsonReader("./data/testReaderGeneralBudget.json").read();
+            BinaryWriter writer = new BinaryWriter(file("testBinary.bin"));
+            writer.open();
+            writer.write(budget);
+            writer.close();
+            Budget fromBinary = new BinaryReader(file("testBinary.bin")).read();
+            for (Entry e : budget.getIncomeReport().getAllEntries()) {
+                Entry read = fromBinary.getIncomeReport().getEntryById(e.getId());
+                assertEquals(e.getDescription(), read.getDescription());
+            }
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testBinaryToJsonReportsWriteErrors() {
+        assumeTrue(Files.isWritable(Paths.get("/dev/full")));
+        try {
+            String binary = file("testBinary.bin");
+            BudgetFileConverter.jsonToBinary("./data/testReaderGeneralBudget.json", binary);
+            BudgetFileConverter.binaryToJson(binary, "/dev/full");
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReadThroughSmallWindows() {
+        try {
+            String binary = file("testBinary.bin");
+            BudgetFileConverter.jsonToBinary("./data/testReaderGeneralBudget.json", binary);
+            Budget fromBinary = new BinaryReader(binary, Long.BYTES + 1).read();
+            checkSameEntries(new BinaryReader(binary).read(), fromBinary, false);
+            checkSameEntries(new JsonReader("./data/testReaderGeneralBudget.json").read(), fromBinary, false);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReadMissingDescription() {
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file("testBinary.bin")))) {
+            output.writeInt(BinaryFormat.MAGIC);
+            output.writeInt(BinaryFormat.VERSION);
+            output.writeInt(0);
+            output.writeInt(1);
+            output.writeInt(0);
+            output.writeLong(1);
+            output.writeInt(0);
+            output.writeLong(100);
+            output.writeInt(0);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+        try {
+            new BinaryReader(file("testBinary.bin")).read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("corrupt"));
+        }
+    }
+
+    @Test
+    void testReadNotABudgetFile() {
+        try {
+            new BinaryReader("./data/testReaderEmptyBudget.json").read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReadUnsupportedVersion() {
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file("testBinary.bin")))) {
+            output.writeInt(BinaryFormat.MAGIC);
+            output.writeInt(BinaryFormat.VERSION + 1);
+            output.write(new byte[BinaryFormat.HEADER_SIZE]);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+        try {
+            new BinaryReader(file("testBinary.bin")).read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("version"));
+        }
+    }
+
+    @Test
+    void testReadTruncatedFile() {
+        try (DataOutputStream output = new DataOutputStream(new FileOutputStream(file("testBinary.bin")))) {
+            output.writeInt(BinaryFormat.MAGIC);
+            output.writeInt(BinaryFormat.VERSION);
+            output.writeInt(0);
+            output.writeInt(1);
+            output.writeInt(0);
+            output.writeLong(1);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+        try {
+            new BinaryReader(file("testBinary.bin")).read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    // EFFECTS: returns the path of the file with the given name in the temporary directory of the test
+    private String file(String name) {
+        return directory.resolve(name).toString();
+    }
+
+
+}
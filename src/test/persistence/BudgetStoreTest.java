@@ -0,0 +1,359 @@
+package persistence;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import model.Budget;
+import model.Entry;
+import model.Expense;
+import model.Income;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.GregorianCalendar;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the BudgetStore class
+public class BudgetStoreTest {
+    private static final String BASE = "./data/testStore.json";
+    private static final Path BASE_FILE = Paths.get(BASE);
+    private static final Path JOURNAL_FILE = Paths.get(BASE + ".journal");
+    private static final Path COMPACTING_FILE = Paths.get(BASE + ".journal.compacting");
+    private static final Path TEMPORARY_FILE = Paths.get(BASE + ".tmp");
+
+    private BudgetStore store;
+    private Budget testBudget;
+
+    @BeforeEach
+    void runBefore() {
+        deleteFiles();
+        store = new BudgetStore(BASE);
+        testBudget = new Budget();
+        try {
+            testBudget.addExpense(new Expense("Rent", 1200, new GregorianCalendar(2021, 0, 1)));
+            testBudget.addIncome(new Income("Salary", 2000, new GregorianCalendar(2021, 0, 1)));
+        } catch (NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @AfterEach
+    void runAfter() {
+        deleteFiles();
+    }
+
+    // EFFECTS: deletes the files written by the store
+    private void deleteFiles() {
+        try {
+            Files.deleteIfExists(BASE_FILE);
+            Files.deleteIfExists(JOURNAL_FILE);
+            Files.deleteIfExists(COMPACTING_FILE);
+            Files.deleteIfExists(TEMPORARY_FILE);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testLoadMissingFile() {
+        try {
+            store.load();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testFirstSaveWritesBase() {
+        try {
+            store.save(testBudget);
+            assertTrue(Files.exists(BASE_FILE));
+            assertFalse(Files.exists(JOURNAL_FILE));
+
+            Budget loaded = new BudgetStore(BASE).load();
+            assertEquals(1200, loaded.getExpenseReport().sum());
+            assertEquals(2000, loaded.getIncomeReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSaveAppendsOnlyChanges() {
+        try {
+            store.save(testBudget);
+            byte[] base = Files.readAllBytes(BASE_FILE);
+            Entry rent = testBudget.getExpenseReport().getAllEntries().get(0);
+            rent.setAmount(1250);
+            testBudget.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            store.save(testBudget);
+            assertArrayEquals(base, Files.readAllBytes(BASE_FILE));
+            assertEquals(2, Files.readAllLines(JOURNAL_FILE).size());
+
+            Budget loaded = new BudgetStore(BASE).load();
+            assertEquals(2, loaded.getExpenseReport().size());
+            assertEquals(1310, loaded.getExpenseReport().sum());
+            assertEquals(1250, loaded.getExpenseReport().getEntryById(rent.getId()).getAmount());
+            assertEquals(2000, loaded.getIncomeReport().sum());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testLoadedBudgetIsJournaled() {
+        try {
+            store.save(testBudget);
+            BudgetStore other = new BudgetStore(BASE);
+            Budget loaded = other.load();
+            loaded.getIncomeReport().deleteEntry(loaded.getIncomeReport().getAllEntries().get(0));
+            other.save(loaded);
+            assertEquals(1, Files.readAllLines(JOURNAL_FILE).size());
+
+            Budget reloaded = new BudgetStore(BASE).load();
+            assertTrue(reloaded.getIncomeReport().isEmpty());
+            assertEquals(1200, reloaded.getExpenseReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testCompact() {
+        try {
+            store.save(testBudget);
+            testBudget.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            store.compact().get();
+            assertFalse(Files.exists(JOURNAL_FILE));
+            testBudget.addExpense(new Expense("Bus", 3, new GregorianCalendar(2021, 0, 6)));
+            store.save(testBudget);
+            assertEquals(1, Files.readAllLines(JOURNAL_FILE).size());
+
+            Budget loaded = new BudgetStore(BASE).load();
+            assertEquals(3, loaded.getExpenseReport().size());
+            assertEquals(1263, loaded.getExpenseReport().sum());
+        } catch (IOException | InterruptedException | ExecutionException
+                 | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSaveCancelled() {
+        try {
+            store.save(new Budget());
+            byte[] base = Files.readAllBytes(BASE_FILE);
+            try {
+                Thread.currentThread().interrupt();
+                store.save(testBudget);
+                fail("CancellationException was not thrown");
+            } catch (CancellationException e) {
+                // expected
+            } finally {
+                Thread.interrupted();
+            }
+            assertArrayEquals(base, Files.readAllBytes(BASE_FILE));
+            assertFalse(Files.exists(Paths.get(BASE + ".tmp")));
+            store.save(testBudget);
+            assertEquals(1200, new BudgetStore(BASE).load().getExpenseReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testLoadCancelled() {
+        try {
+            store.save(testBudget);
+            BudgetStore other = new BudgetStore(BASE);
+            try {
+                other.load((done, total) -> {
+                    if (done == total) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                fail("CancellationException was not thrown");
+            } catch (CancellationException e) {
+                // expected
+            } finally {
+                Thread.interrupted();
+            }
+            Budget loaded = other.load();
+            loaded.getExpenseReport().deleteEntry(loaded.getExpenseReport().getAllEntries().get(0));
+            other.save(loaded);
+            assertEquals(1, Files.readAllLines(JOURNAL_FILE).size());
+            assertTrue(new BudgetStore(BASE).load().getExpenseReport().isEmpty());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSaveOtherBudgetRewritesBase() {
+        try {
+            store.save(testBudget);
+            testBudget.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            store.save(testBudget);
+            assertTrue(Files.exists(JOURNAL_FILE));
+
+            Budget empty = new Budget();
+            store.save(empty);
+            assertFalse(Files.exists(JOURNAL_FILE));
+            testBudget.addExpense(new Expense("Bus", 3, new GregorianCalendar(2021, 0, 6)));
+            store.save(empty);
+            assertFalse(Files.exists(JOURNAL_FILE));
+
+            Budget loaded = new BudgetStore(BASE).load();
+            assertTrue(loaded.getExpenseReport().isEmpty());
+            assertTrue(loaded.getIncomeReport().isEmpty());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFailedSaveKeepsBaseAndJournal() {
+        try {
+            store.save(testBudget);
+            testBudget.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            store.save(testBudget);
+            byte[] base = Files.readAllBytes(BASE_FILE);
+            try {
+                failingStore().save(testBudget);
+                fail("IOException was not thrown");
+            } catch (IOException e) {
+                // expected
+            }
+            assertArrayEquals(base, Files.readAllBytes(BASE_FILE));
+            assertEquals(1, Files.readAllLines(JOURNAL_FILE).size());
+            assertFalse(Files.exists(TEMPORARY_FILE));
+
+            Budget loaded = new BudgetStore(BASE).load();
+            assertEquals(2, loaded.getExpenseReport().size());
+            assertEquals(1260, loaded.getExpenseReport().sum());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFailedCompactionKeepsBaseAndJournal() {
+        try {
+            store.save(testBudget);
+            byte[] base = Files.readAllBytes(BASE_FILE);
+            BudgetStore failing = failingStore();
+            Budget loaded = failing.load();
+            loaded.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            try {
+                failing.compact().get();
+                fail("ExecutionException was not thrown");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+            assertArrayEquals(base, Files.readAllBytes(BASE_FILE));
+            assertTrue(Files.exists(COMPACTING_FILE));
+            assertFalse(Files.exists(TEMPORARY_FILE));
+
+            Budget reloaded = new BudgetStore(BASE).load();
+            assertEquals(2, reloaded.getExpenseReport().size());
+            assertEquals(1260, reloaded.getExpenseReport().sum());
+        } catch (IOException | InterruptedException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFailedCompactionIsReportedOnce() {
+        try {
+            store.save(testBudget);
+            BudgetStore failing = failingStore();
+            Budget loaded = failing.load();
+            loaded.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            failing.compact();
+            try {
+                failing.load();
+                fail("IOException was not thrown");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("compact"));
+            }
+            assertEquals(1260, failing.load().getExpenseReport().sum());
+            assertTrue(Files.exists(COMPACTING_FILE));
+            store.save(new Budget());
+            assertFalse(Files.exists(COMPACTING_FILE));
+            assertTrue(new BudgetStore(BASE).load().getExpenseReport().isEmpty());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testCompactionAppendsToEarlierCompactingJournal() {
+        try {
+            store.save(testBudget);
+            BudgetStore failing = failingStore();
+            Budget loaded = failing.load();
+            loaded.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, 0, 5)));
+            checkCompactionFails(failing);
+            loaded.addExpense(new Expense("Bus", 3, new GregorianCalendar(2021, 0, 6)));
+            checkCompactionFails(failing);
+            assertFalse(Files.exists(JOURNAL_FILE));
+
+            Budget reloaded = new BudgetStore(BASE).load();
+            assertEquals(3, reloaded.getExpenseReport().size());
+            assertEquals(1263, reloaded.getExpenseReport().sum());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    // EFFECTS: checks that a compaction of store fails
+    private void checkCompactionFails(BudgetStore store) throws IOException {
+        try {
+            store.compact().get();
+            fail("ExecutionException was not thrown");
+        } catch (ExecutionException | InterruptedException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
+
+    // EFFECTS: returns a store of BASE whose writes of the base file fail, as they do when the disk is full
+    private BudgetStore failingStore() {
+        return new BudgetStore(BASE) {
+            @Override
+            JsonWriter newWriter(String destination) {
+                return new JsonWriter(destination) {
+                    @Override
+                    public void open() throws FileNotFoundException {
+                        super.open();
+                        writer.close();
+                        writer = new PrintWriter(new Writer() {
+                            @Override
+                            public void write(char[] chars, int offset, int length) throws IOException {
+                                throw new IOException("No space left on device");
+                            }
+
+                            @Override
+                            public void flush() {
+                            }
+
+                            @Override
+                            public void close() {
+                            }
+                        });
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.EntryType;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.LocalDate;
+
+// Represents a benchmark of the number of rows per second CsvImporter imports from a large bank statement into a
+// budget with the default reports and into one with columnar reports, and CsvExporter exports back;
+// run with ./gradlew csvBenchmark
+public class CsvBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    // EFFECTS: writes a statement with ROWS rows, imports and exports it and prints the rates
+    public static void main(String[] args) throws IOException {
+        File source = File.createTempFile("statement", ".csv");
+        File rejects = File.createTempFile("rejects", ".csv");
+        File destination = File.createTempFile("export", ".csv");
+        source.deleteOnExit();
+        rejects.deleteOnExit();
+        destination.deleteOnExit();
+        writeStatement(source);
+        CsvMapping mapping = new CsvMapping(0, 1, 2);
+        for (int warmup = 0; warmup < 3; warmup++) {
+            Budget budget = new Budget();
+            long start = System.nanoTime();
+            new CsvImporter(mapping).importFile(source.getPath(), budget, rejects.getPath());
+            print("CsvImporter, default reports", start);
+            Budget columnar = new Budget(new ColumnarReport(EntryType.EXPENSE),
+                    new ColumnarReport(EntryType.INCOME));
+            start = System.nanoTime();
+            new CsvImporter(mapping).importFile(source.getPath(), columnar, rejects.getPath());
+            print("CsvImporter, columnar reports", start);
+            start = System.nanoTime();
+            new CsvExporter(mapping).exportFile(columnar, destination.getPath());
+            print("CsvExporter, columnar reports", start);
+        }
+    }
+
+    // EFFECTS: writes a statement with ROWS rows, a tenth of them incomes, to file
+    private static void writeStatement(File file) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("Date,Description,Amount\n");
+            for (int i = 0; i < ROWS; i++) {
+                String amount = (i % 10 == 0 ? "" : "-") + (i % 100_000) / 100 + "." + (10 + i % 90);
+                writer.write(FIRST_DAY.plusDays(i % 3650) + ",\"Payee " + (i % 5000) + ", Vancouver\"," + amount);
+                writer.write('\n');
+            }
+        }
+    }
+
+    // EFFECTS: prints the rows per second since start
+    private static void print(String task, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-32s %8.0f ms  %,12.0f rows/s%n", task, seconds * 1e3, ROWS / seconds);
+    }
+}
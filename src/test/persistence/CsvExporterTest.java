@@ -0,0 +1,107 @@
+package persistence;
+
+import model.Budget;
+import model.EntryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the CsvExporter class
+public class CsvExporterTest extends JsonTest {
+    private static final String DESTINATION = "./data/testCsvExport.csv";
+    private static final String REJECTS = "./data/testCsvExportRejected.csv";
+
+    private Budget testBudget;
+
+    @BeforeEach
+    void runBefore() {
+        testBudget = new Budget();
+        testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("Rent, \"January\"", 120000,
+                LocalDate.of(2021, 1, 1)));
+        testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("Free sample", 0,
+                LocalDate.of(2021, 1, 2)));
+        testBudget.getIncomeReport().addEntry(EntryType.INCOME.newEntry("Salary", 200005,
+                LocalDate.of(2021, 11, 30)));
+    }
+
+    @AfterEach
+    void runAfter() {
+        try {
+            Files.deleteIfExists(Paths.get(DESTINATION));
+            Files.deleteIfExists(Paths.get(REJECTS));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testExportSignedAmounts() {
+        try {
+            new CsvExporter(new CsvMapping(0, 1, 2)).exportFile(testBudget, DESTINATION);
+            List<String> lines = Files.readAllLines(Paths.get(DESTINATION), StandardCharsets.UTF_8);
+            assertEquals(List.of("date,description,amount",
+                    "2021-01-01,\"Rent, \"\"January\"\"\",-1200.00",
+                    "2021-01-02,Free sample,-0.00",
+                    "2021-11-30,Salary,2000.05"), lines);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testExportDebitCreditColumns() {
+        CsvMapping mapping = new CsvMapping(2, 0, -1);
+        mapping.setDebitCreditColumns(3, 1);
+        mapping.setDelimiter(';');
+        mapping.setDecimalSeparator(',');
+        mapping.setDateOrder(CsvMapping.DateOrder.MONTH_DAY_YEAR);
+        mapping.setHeader(false);
+        try {
+            new CsvExporter(mapping).exportFile(testBudget, DESTINATION);
+            List<String> lines = Files.readAllLines(Paths.get(DESTINATION), StandardCharsets.UTF_8);
+            assertEquals(List.of("\"Rent, \"\"January\"\"\";;01/01/2021;1200,00",
+                    "Free sample;;01/02/2021;0,00",
+                    "Salary;2000,05;11/30/2021;"), lines);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testExportAndImport() {
+        CsvMapping mapping = new CsvMapping(1, 2, 0);
+        mapping.setSign(CsvMapping.Sign.POSITIVE_IS_EXPENSE);
+        mapping.setDateOrder(CsvMapping.DateOrder.DAY_MONTH_YEAR);
+        mapping.setDecimalSeparator(',');
+        Budget imported = new Budget();
+        try {
+            new CsvExporter(mapping).exportFile(testBudget, DESTINATION);
+            CsvImporter importer = new CsvImporter(mapping);
+            importer.importFile(DESTINATION, imported, REJECTS);
+            assertEquals(0, importer.getRejectedCount());
+            checkSameEntries(testBudget, imported, false);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testExportInvalidDestination() {
+        try {
+            new CsvExporter(new CsvMapping(0, 1, 2)).exportFile(testBudget, "./data/no/such/dir.csv");
+            fail("IOException should have been thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+}
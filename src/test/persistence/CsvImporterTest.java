@@ -0,0 +1,217 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.Entry;
+import model.EntryType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the CsvImporter class
+public class CsvImporterTest {
+    private static final String REJECTS = "./data/testCsvRejected.csv";
+
+    @TempDir
+    Path directory;
+
+    private Budget testBudget;
+
+    @BeforeEach
+    void runBefore() {
+        testBudget = new Budget();
+    }
+
+    @AfterEach
+    void runAfter() {
+        try {
+            Files.deleteIfExists(Paths.get(REJECTS));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportSignedAmounts() {
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        try {
+            importer.importFile("./data/testCsvSigned.csv", testBudget, REJECTS);
+            assertEquals(4, importer.getImportedCount());
+            assertEquals(0, importer.getRejectedCount());
+            assertFalse(Files.exists(Paths.get(REJECTS)));
+            List<Entry> expenses = testBudget.getExpenseReport().getAllEntries();
+            assertEquals(3, expenses.size());
+            checkEntry(expenses.get(0), "Coffee", 450, LocalDate.of(2021, 1, 5));
+            checkEntry(expenses.get(1), "Rent, January", 120000, LocalDate.of(2021, 1, 6));
+            checkEntry(expenses.get(2), "Refund", 1225, LocalDate.of(2021, 1, 8));
+            List<Entry> incomes = testBudget.getIncomeReport().getAllEntries();
+            assertEquals(1, incomes.size());
+            checkEntry(incomes.get(0), "Salary \"bonus\"", 200000, LocalDate.of(2021, 1, 7));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportPositiveIsExpense() {
+        CsvMapping mapping = new CsvMapping(0, 1, 2);
+        mapping.setSign(CsvMapping.Sign.POSITIVE_IS_EXPENSE);
+        CsvImporter importer = new CsvImporter(mapping);
+        try {
+            importer.importFile("./data/testCsvSigned.csv", testBudget, REJECTS);
+            assertEquals(1, testBudget.getExpenseReport().size());
+            assertEquals(2000, testBudget.getExpenseReport().sum());
+            assertEquals(3, testBudget.getIncomeReport().size());
+            assertEquals(1216.75, testBudget.getIncomeReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportDebitCreditColumns() {
+        CsvMapping mapping = new CsvMapping(0, 1, -1);
+        mapping.setDebitCreditColumns(2, 3);
+        mapping.setDelimiter(';');
+        mapping.setDecimalSeparator(',');
+        mapping.setDateOrder(CsvMapping.DateOrder.DAY_MONTH_YEAR);
+        CsvImporter importer = new CsvImporter(mapping);
+        try {
+            importer.importFile("./data/testCsvDebitCredit.csv", testBudget, REJECTS);
+            assertEquals(3, importer.getImportedCount());
+            List<Entry> expenses = testBudget.getExpenseReport().getAllEntries();
+            assertEquals(2, expenses.size());
+            checkEntry(expenses.get(0), "Coffee", 450, LocalDate.of(2021, 1, 5));
+            checkEntry(expenses.get(1), "Groceries", 123456, LocalDate.of(2021, 1, 7));
+            List<Entry> incomes = testBudget.getIncomeReport().getAllEntries();
+            assertEquals(1, incomes.size());
+            checkEntry(incomes.get(0), "Salary", 100000, LocalDate.of(2021, 1, 6));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportRejects() {
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        try {
+            importer.importFile("./data/testCsvRejects.csv", testBudget, REJECTS);
+            assertEquals(1, importer.getImportedCount());
+            assertEquals(5, importer.getRejectedCount());
+            assertEquals(1, testBudget.getExpenseReport().size());
+            List<String> lines = Files.readAllLines(Paths.get(REJECTS), StandardCharsets.UTF_8);
+            assertEquals(6, lines.size());
+            assertEquals("Date,Description,Amount,\"reason\"", lines.get(0));
+            assertEquals("2021-13-01,Bad month,-1.00,\"Invalid date: 2021-13-01\"", lines.get(1));
+            assertEquals("2021-01-06,,-2.00,\"Empty description\"", lines.get(2));
+            assertEquals("2021-01-07,Short,\"Missing columns\"", lines.get(3));
+            assertEquals("2021-01-08,Letters,abc,\"Invalid amount: abc\"", lines.get(4));
+            assertTrue(lines.get(5).endsWith(",\"Unbalanced quotes\""));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportRejectsAgain() {
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        try {
+            String rejectsFirst = "./data/testCsvRejectedFirst.csv";
+            importer.importFile("./data/testCsvRejects.csv", testBudget, rejectsFirst);
+            importer.importFile(rejectsFirst, testBudget, REJECTS);
+            Files.delete(Paths.get(rejectsFirst));
+            assertEquals(0, importer.getImportedCount());
+            assertEquals(5, importer.getRejectedCount());
+            assertEquals(6, Files.readAllLines(Paths.get(REJECTS), StandardCharsets.UTF_8).size());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportIntoColumnarReports() {
+        Budget columnar = new Budget(new ColumnarReport(EntryType.EXPENSE), new ColumnarReport(EntryType.INCOME));
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        try {
+            importer.importFile("./data/testCsvSigned.csv", columnar, REJECTS);
+            assertEquals(3, columnar.getExpenseReport().size());
+            assertEquals(1216.75, columnar.getExpenseReport().sum());
+            checkEntry(columnar.getIncomeReport().getAllEntries().get(0), "Salary \"bonus\"", 200000,
+                    LocalDate.of(2021, 1, 7));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportTooManyColumns() {
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        StringBuilder row = new StringBuilder("2021-01-09,Wide,-3.00");
+        for (int i = 3; i < 64; i++) {
+            row.append(",x");
+        }
+        try {
+            Path source = directory.resolve("wide.csv");
+            Files.write(source, ("Date,Description,Amount\n" + row + "\n" + row + ",x\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            importer.importFile(source.toString(), testBudget, REJECTS);
+            assertEquals(1, importer.getImportedCount());
+            assertEquals(1, importer.getRejectedCount());
+            List<String> lines = Files.readAllLines(Paths.get(REJECTS), StandardCharsets.UTF_8);
+            assertEquals(row + ",x,\"Too many columns\"", lines.get(1));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportAmountsTooLarge() {
+        CsvImporter importer = new CsvImporter(new CsvMapping(0, 1, 2));
+        try {
+            Path source = directory.resolve("large.csv");
+            Files.write(source, ("Date,Description,Amount\n"
+                    + "2021-01-09,Largest,92233720368547758.07\n"
+                    + "2021-01-09,Whole,92233720368547759\n"
+                    + "2021-01-09,Fraction,-92233720368547758.99\n"
+                    + "2021-01-09,Rounded,-92233720368547758.075\n").getBytes(StandardCharsets.UTF_8));
+            importer.importFile(source.toString(), testBudget, REJECTS);
+            assertEquals(1, importer.getImportedCount());
+            assertEquals(3, importer.getRejectedCount());
+            assertEquals(Long.MAX_VALUE, testBudget.getIncomeReport().sumInCents());
+            assertTrue(testBudget.getExpenseReport().isEmpty());
+            List<String> lines = Files.readAllLines(Paths.get(REJECTS), StandardCharsets.UTF_8);
+            assertEquals("2021-01-09,Whole,92233720368547759,\"Amount is too large: 92233720368547759\"",
+                    lines.get(1));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testImportMissingFile() {
+        try {
+            new CsvImporter(new CsvMapping(0, 1, 2)).importFile("./data/noSuchFile.csv", testBudget, REJECTS);
+            fail("IOException should have been thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    // EFFECTS: checks that entry has the given description, amount in cents and date
+    private void checkEntry(Entry entry, String description, long cents, LocalDate date) {
+        assertEquals(description, entry.getDescription());
+        assertEquals(cents, entry.getAmountInCents());
+        assertEquals(date, entry.getLocalDate());
+    }
+}
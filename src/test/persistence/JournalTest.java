@@ -0,0 +1,170 @@
+package persistence;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import model.Budget;
+import model.Entry;
+import model.Expense;
+import model.Income;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.GregorianCalendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the Journal class
+public class JournalTest {
+    private static final String JOURNAL = "./data/testJournal.journal";
+
+    private Budget testBudget;
+    private Journal journal;
+    private Expense groceries;
+    private Income salary;
+
+    @BeforeEach
+    void runBefore() {
+        try {
+            Files.deleteIfExists(Paths.get(JOURNAL));
+            testBudget = new Budget();
+            journal = new Journal(JOURNAL);
+            journal.attach(testBudget);
+            groceries = new Expense("Groceries", 45.50, new GregorianCalendar(2021, 2, 4));
+            salary = new Income("Salary", 2000, new GregorianCalendar(2021, 2, 1));
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @AfterEach
+    void runAfter() {
+        try {
+            Files.deleteIfExists(Paths.get(JOURNAL));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testRecordsOperations() {
+        try {
+            testBudget.addExpense(groceries);
+            testBudget.addIncome(salary);
+            groceries.setAmount(50);
+            testBudget.getIncomeReport().deleteEntry(salary);
+            assertEquals(4, journal.pendingCount());
+
+            journal.detach(testBudget);
+            testBudget.addIncome(salary);
+            assertEquals(4, journal.pendingCount());
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFlushAndReplay() {
+        try {
+            testBudget.addExpense(groceries);
+            testBudget.addIncome(salary);
+            groceries.setAmount(50);
+            groceries.setDescription("Food");
+            journal.flush();
+            assertEquals(0, journal.pendingCount());
+            testBudget.getIncomeReport().deleteEntry(salary);
+            journal.flush();
+            journal.flush();
+            assertEquals(5, Files.readAllLines(Paths.get(JOURNAL)).size());
+
+            Budget replayed = new Budget();
+            Journal.replay(JOURNAL, replayed);
+            assertEquals(0, replayed.getIncomeReport().size());
+            assertEquals(1, replayed.getExpenseReport().size());
+            Entry food = replayed.getExpenseReport().getEntryById(groceries.getId());
+            assertEquals("Food", food.getDescription());
+            assertEquals(5000, food.getAmountInCents());
+            assertEquals(groceries.getLocalDate(), food.getLocalDate());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReplayIsIdempotent() {
+        try {
+            testBudget.addExpense(groceries);
+            testBudget.addIncome(salary);
+            groceries.setAmount(50);
+            testBudget.getIncomeReport().deleteEntry(salary);
+            journal.flush();
+
+            Budget replayed = new Budget();
+            Journal.replay(JOURNAL, replayed);
+            Journal.replay(JOURNAL, replayed);
+            assertEquals(0, replayed.getIncomeReport().size());
+            assertEquals(1, replayed.getExpenseReport().size());
+            assertEquals(50, replayed.getExpenseReport().sum());
+        } catch (IOException | NegativeInputException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReplaySkipsTornLine() {
+        try {
+            testBudget.addExpense(groceries);
+            testBudget.addIncome(salary);
+            journal.flush();
+            try (FileOutputStream output = new FileOutputStream(JOURNAL, true)) {
+                output.write("{\"op\":\"delete\",\"rep".getBytes(StandardCharsets.UTF_8));
+            }
+
+            Budget replayed = new Budget();
+            Journal.replay(JOURNAL, replayed);
+            assertEquals(1, replayed.getExpenseReport().size());
+            assertEquals(1, replayed.getIncomeReport().size());
+            assertEquals(2000, replayed.getIncomeReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFlushAfterTornLine() {
+        try {
+            testBudget.addExpense(groceries);
+            journal.flush();
+            try (FileOutputStream output = new FileOutputStream(JOURNAL, true)) {
+                output.write("{\"op\":\"delete\",\"rep".getBytes(StandardCharsets.UTF_8));
+            }
+            testBudget.addIncome(salary);
+            journal.flush();
+            assertEquals(3, Files.readAllLines(Paths.get(JOURNAL)).size());
+
+            Budget replayed = new Budget();
+            Journal.replay(JOURNAL, replayed);
+            assertEquals(1, replayed.getExpenseReport().size());
+            assertEquals(2000, replayed.getIncomeReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReplayMissingFile() {
+        try {
+            Budget replayed = new Budget();
+            Journal.replay("./data/noSuchFile.journal", replayed);
+            assertTrue(replayed.getExpenseReport().isEmpty());
+            assertTrue(replayed.getIncomeReport().isEmpty());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+}
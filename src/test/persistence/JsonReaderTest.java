@@ -3,15 +3,25 @@ package persistence;
 import model.Budget;
 import model.Entry;
 import model.Report;
+import org.json.JSONException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 // Tests for the JsonReader class
 public class JsonReaderTest extends JsonTest{
+    @TempDir
+    Path directory;
+
     private Budget testBudget;
     private JsonReader reader;
 
@@ -102,6 +112,118 @@ public class JsonReaderTest extends JsonTest{
         }
     }
 
+    @Test
+    void testReaderSkipsOtherMembers() {
+        reader = new JsonReader("./data/testReaderExtraMembers.json");
+        try {
+            testBudget = reader.read();
+            assertTrue(testBudget.getExpenseReport().isEmpty());
+            assertEquals(1, testBudget.getIncomeReport().size());
+            checkEntry(testBudget.getIncomeReport().getAllEntries().get(0), "test income 1", 14100, 2019, 8, 29);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderSkipsPrimitiveMembers() {
+        try {
+            String source = write("skip.json", "{\"a\": \"x\\\"}\", \"b\": -1.5e3, \"c\": true, \"d\": null,"
+                    + " \"expenseReport\": {\"entries\": [], \"n\": 2}, \"incomeReport\": {\"entries\": []}}");
+            testBudget = new JsonReader(source).read();
+            assertTrue(testBudget.getExpenseReport().isEmpty());
+            assertTrue(testBudget.getIncomeReport().isEmpty());
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderMissingReports() {
+        checkNotABudget("{}");
+        checkNotABudget("{\"expenseReport\": {\"entries\": []}}");
+        checkNotABudget("{\"expenseReport\": {\"entries\": []}, \"incomeReport\": {}}");
+        checkNotABudget("{\"expenseReport\": {\"entries\": []}, \"incomeReport\": {\"entries\": [\"}");
+    }
+
+    // EFFECTS: checks that reading a file holding the given JSON throws JSONException
+    private void checkNotABudget(String json) {
+        try {
+            new JsonReader(write("notABudget.json", json)).read();
+            fail("JSONException was not thrown");
+        } catch (JSONException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    // EFFECTS: writes text to the file with the given name in the temporary directory of the test and returns its
+    //          path
+    private String write(String name, String text) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    @Test
+    void testReaderMalformedFile() {
+        reader = new JsonReader("./data/testReaderMalformed.json");
+        try {
+            reader.read();
+            fail("JSONException was not thrown");
+        } catch (JSONException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderProgress() {
+        reader = new JsonReader("./data/testReaderGeneralBudget.json");
+        long[] last = new long[2];
+        try {
+            testBudget = reader.read((done, total) -> {
+                assertTrue(done >= last[0] && done <= total);
+                last[0] = done;
+                last[1] = total;
+            });
+            assertEquals(Files.size(Paths.get("./data/testReaderGeneralBudget.json")), last[1]);
+            assertEquals(last[1], last[0]);
+            assertEquals(3, testBudget.getExpenseReport().size());
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderCancelled() {
+        reader = new JsonReader("./data/testReaderGeneralBudget.json");
+        try {
+            Thread.currentThread().interrupt();
+            reader.read();
+            fail("CancellationException was not thrown");
+        } catch (CancellationException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testReadFileKeepsNewlines() {
+        reader = new JsonReader("./data/testReaderEmptyBudget.json");
+        try {
+            String contents = reader.readFile("./data/testReaderEmptyBudget.json");
+            assertTrue(contents.contains("\n"));
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
     // REQUIRES: expenseReport has at least 3 entries
     // EFFECTS: checks whether expenses were read correctly
     private void checkExpenses(Report expenseReport) {
@@ -1,12 +1,15 @@
 package persistence;
 
+import model.Budget;
 import model.Entry;
+import model.Report;
 
 import java.util.Calendar;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-// Helper methods for JsonReaderTest and JsonWriterTest
+// Helper methods for the tests of the readers and writers of budgets
 public class JsonTest {
 
     // REQUIRES: description has non-zero length and amount >= 0
@@ -18,4 +21,32 @@ public class JsonTest {
         assertEquals(month, entry.getDate().get(Calendar.MONTH));
         assertEquals(day, entry.getDate().get(Calendar.DAY_OF_MONTH));
     }
+
+    // EFFECTS: checks that both reports of actual have the same entries as those of expected, in the same order,
+    //          and the same ids if keepsIds
+    protected void checkSameEntries(Budget expected, Budget actual, boolean keepsIds) {
+        checkSameEntries(expected.getExpenseReport(), actual.getExpenseReport(), keepsIds);
+        checkSameEntries(expected.getIncomeReport(), actual.getIncomeReport(), keepsIds);
+    }
+
+    // EFFECTS: checks that actual has the same entries and totals as expected, with the entries in the same order
+    //          and with the same ids if keepsIds
+    protected void checkSameEntries(Report expected, Report actual, boolean keepsIds) {
+        List<Entry> expectedEntries = expected.getAllEntries();
+        List<Entry> actualEntries = actual.getAllEntries();
+        assertEquals(expectedEntries.size(), actualEntries.size());
+        for (int i = 0; i < expectedEntries.size(); i++) {
+            Entry expectedEntry = expectedEntries.get(i);
+            Entry actualEntry = actualEntries.get(i);
+            assertEquals(expectedEntry.getClass(), actualEntry.getClass());
+            assertEquals(expectedEntry.getDescription(), actualEntry.getDescription());
+            assertEquals(expectedEntry.getAmountInCents(), actualEntry.getAmountInCents());
+            assertEquals(expectedEntry.getLocalDate(), actualEntry.getLocalDate());
+            if (keepsIds) {
+                assertEquals(expectedEntry.getId(), actualEntry.getId());
+            }
+        }
+        assertEquals(expected.sumInCents(), actual.sumInCents());
+        assertEquals(expected.getRollup().getDayTotals(), actual.getRollup().getDayTotals());
+    }
 }
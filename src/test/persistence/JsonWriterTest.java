@@ -5,12 +5,16 @@ import exception.NegativeInputException;
 import model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +24,9 @@ public class JsonWriterTest extends JsonTest {
     private JsonWriter writer;
     private JsonReader reader;
 
+    @TempDir
+    Path directory;
+
     @BeforeEach
     void runBefore() {
         testBudget = new Budget();
@@ -39,11 +46,11 @@ public class JsonWriterTest extends JsonTest {
     @Test
     void testWriterEmptyBudget() {
         try {
-            writer = new JsonWriter("./data/testWriterEmptyBudget.json");
+            writer = new JsonWriter(file("testWriterEmptyBudget.json"));
             writer.open();
             writer.write(testBudget);
             writer.close();
-            reader = new JsonReader("./data/testWriterEmptyBudget.json");
+            reader = new JsonReader(file("testWriterEmptyBudget.json"));
             testBudget = reader.read();
             assertTrue(testBudget.getExpenseReport().isEmpty());
             assertTrue(testBudget.getIncomeReport().isEmpty());
@@ -58,11 +65,11 @@ public class JsonWriterTest extends JsonTest {
     void testWriterExpenseEmptyIncomeMany() {
         try {
             addIncomes();
-            writer = new JsonWriter("./data/testWriterExpenseEmptyIncomeMany.json");
+            writer = new JsonWriter(file("testWriterExpenseEmptyIncomeMany.json"));
             writer.open();
             writer.write(testBudget);
             writer.close();
-            reader = new JsonReader("./data/testWriterExpenseEmptyIncomeMany.json");
+            reader = new JsonReader(file("testWriterExpenseEmptyIncomeMany.json"));
             testBudget = reader.read();
             Report expenseReport = testBudget.getExpenseReport();
             Report incomeReport = testBudget.getIncomeReport();
@@ -78,13 +85,13 @@ public class JsonWriterTest extends JsonTest {
 
     @Test
     void testWriterExpenseManyIncomeEmpty() {
-        writer = new JsonWriter("./data/testWriterExpenseManyIncomeEmpty.json");
+        writer = new JsonWriter(file("testWriterExpenseManyIncomeEmpty.json"));
         try {
             addExpenses();
             writer.open();
             writer.write(testBudget);
             writer.close();
-            reader = new JsonReader("./data/testWriterExpenseManyIncomeEmpty.json");
+            reader = new JsonReader(file("testWriterExpenseManyIncomeEmpty.json"));
             reader.read();
             Report expenseReport = testBudget.getExpenseReport();
             Report incomeReport = testBudget.getIncomeReport();
@@ -103,11 +110,11 @@ public class JsonWriterTest extends JsonTest {
         try {
             addExpenses();
             addIncomes();
-            writer = new JsonWriter("./data/testWriterGeneralBudget.json");
+            writer = new JsonWriter(file("testWriterGeneralBudget.json"));
             writer.open();
             writer.write(testBudget);
             writer.close();
-            reader = new JsonReader("./data/testWriterGeneralBudget.json");
+            reader = new JsonReader(file("testWriterGeneralBudget.json"));
             testBudget = reader.read();
             Report expenseReport = testBudget.getExpenseReport();
             Report incomeReport = testBudget.getIncomeReport();
@@ -122,6 +129,100 @@ public class JsonWriterTest extends JsonTest {
         }
     }
 
+    @Test
+    void testWriterKeepsIds() {
+        try {
+            addExpenses();
+            Entry expense = testBudget.getExpenseReport().getAllEntries().get(1);
+            writer = new JsonWriter(file("testWriterKeepsIds.json"));
+            writer.open();
+            writer.write(testBudget);
+            writer.close();
+            reader = new JsonReader(file("testWriterKeepsIds.json"));
+            Report expenseReport = reader.read().getExpenseReport();
+            Entry readExpense = expenseReport.getEntryById(expense.getId());
+            checkEntry(readExpense, "test expense 2", 1234.56, 1995, 2, 14);
+        } catch (FileNotFoundException e) {
+            fail("FileNotFoundException should not have been thrown");
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testWriterProgress() {
+        try {
+            addExpenses();
+            addIncomes();
+            List<Long> progress = new ArrayList<>();
+            writer = new JsonWriter(file("testWriterGeneralBudget.json"));
+            writer.open();
+            writer.write(testBudget, (done, total) -> {
+                assertEquals(6, total);
+                progress.add(done);
+            });
+            writer.close();
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), progress);
+        } catch (FileNotFoundException e) {
+            fail("FileNotFoundException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testWriterCancelled() {
+        try {
+            addExpenses();
+            writer = new JsonWriter(file("testWriterGeneralBudget.json"));
+            writer.open();
+            Thread.currentThread().interrupt();
+            writer.write(testBudget);
+            fail("CancellationException was not thrown");
+        } catch (CancellationException e) {
+            // expected
+        } catch (FileNotFoundException e) {
+            fail("FileNotFoundException should not have been thrown");
+        } finally {
+            Thread.interrupted();
+            writer.close();
+        }
+    }
+
+    @Test
+    void testWriterMatchesToJson() {
+        try {
+            checkMatchesToJson(false);
+            addIncomes();
+            checkMatchesToJson(false);
+            Calendar date = new GregorianCalendar(2021, Calendar.JANUARY, 2);
+            testBudget.addExpense(new Expense("quote \" and\nnew line", 1e7, date));
+            checkMatchesToJson(false);
+            checkMatchesToJson(true);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        } catch (NegativeInputException e) {
+            fail("NegativeInputException should have not been thrown");
+        } catch (EmptyStringException e) {
+            fail("EmptyStringException should have not been thrown");
+        }
+    }
+
+    // EFFECTS: writes testBudget to file and checks that the file has the same contents as the JSON tree of
+    //          testBudget, pretty-printed unless compact
+    private void checkMatchesToJson(boolean compact) throws IOException {
+        writer = new JsonWriter(file("testWriterMatchesToJson.json"), compact);
+        writer.open();
+        writer.write(testBudget);
+        writer.close();
+        String expected = compact ? testBudget.toJson().toString() : testBudget.toJson().toString(3);
+        reader = new JsonReader(file("testWriterMatchesToJson.json"));
+        assertEquals(expected, reader.readFile(file("testWriterMatchesToJson.json")));
+    }
+
+    // EFFECTS: returns the path of the file with the given name in the temporary directory of the test
+    private String file(String name) {
+        return directory.resolve(name).toString();
+    }
+
     // MODIFIES: this
     // EFFECTS: adds expenses to testBudget
     private void addExpenses() {
@@ -0,0 +1,72 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.Entry;
+import model.EntryType;
+import model.Report;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.List;
+
+// Represents a benchmark of the time JsonReader and LazyJsonReader take to read a large budget file and show its
+// totals and its latest page of entries, and of the heap the budget they read takes up;
+// run with ./gradlew lazyReadBenchmark
+public class LazyJsonReaderBenchmark {
+    private static final int ENTRIES = 1_000_000;
+    private static final int PAGE = 50;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    // EFFECTS: writes a budget file with ENTRIES entries, reads it with each reader and prints the times and heap
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("budget", ".json");
+        file.deleteOnExit();
+        writeBudget(file.getPath());
+        for (int warmup = 0; warmup < 3; warmup++) {
+            long start = System.nanoTime();
+            Budget budget = new JsonReader(file.getPath()).read();
+            showLatestPage(budget.getExpenseReport());
+            print("JsonReader", start, budget);
+            budget = null;
+            start = System.nanoTime();
+            budget = new LazyJsonReader(file.getPath()).read();
+            showLatestPage(budget.getExpenseReport());
+            print("LazyJsonReader", start, budget);
+        }
+    }
+
+    // EFFECTS: writes a budget with ENTRIES expenses to destination
+    private static void writeBudget(String destination) throws Exception {
+        ColumnarReport expenses = new ColumnarReport(EntryType.EXPENSE);
+        for (int i = 0; i < ENTRIES; i++) {
+            expenses.append("entry " + i, i % 100_000, FIRST_DAY.plusDays(i % 3650));
+        }
+        JsonWriter writer = new JsonWriter(destination);
+        writer.open();
+        writer.write(new Budget(expenses, new ColumnarReport(EntryType.INCOME)));
+        writer.close();
+    }
+
+    // EFFECTS: reads the total and the descriptions of the last PAGE entries of report, as a list view would
+    private static void showLatestPage(Report report) {
+        List<Entry> entries = report.getAllEntries();
+        long length = report.sumInCents();
+        for (int i = entries.size() - PAGE; i < entries.size(); i++) {
+            length += entries.get(i).getDescription().length();
+        }
+        if (length < 0) {
+            System.out.println(length);
+        }
+    }
+
+    // EFFECTS: prints the time since start and the heap in use while budget is reachable
+    private static void print(String reader, long start, Budget budget) {
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        long heap = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+        System.out.printf("%-16s %8.0f ms  %6d MB heap  %d entries%n", reader, millis, heap,
+                budget.getExpenseReport().size());
+    }
+}
@@ -0,0 +1,126 @@
+package persistence;
+
+import model.Budget;
+import model.ColumnarReport;
+import model.Entry;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the LazyJsonReader class
+public class LazyJsonReaderTest extends JsonTest {
+    private static final String[] FILES = {
+        "./data/testReaderEmptyBudget.json",
+        "./data/testReaderExpenseEmptyIncomeMany.json",
+        "./data/testReaderExpenseManyIncomeEmpty.json",
+        "./data/testReaderGeneralBudget.json",
+        "./data/testReaderInvalidEntries.json",
+        "./data/testReaderExtraMembers.json",
+        "./data/testReaderEscapedStrings.json"
+    };
+    private static final String FILE = "./data/testLazyReader.json";
+
+    @AfterEach
+    void runAfter() {
+        try {
+            Files.deleteIfExists(Paths.get(FILE));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new LazyJsonReader("./data/noSuchFile.json").read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderMatchesJsonReader() {
+        try {
+            for (String file : FILES) {
+                JsonReader reader = new JsonReader(file);
+                Budget expected = reader.read();
+                boolean keepsIds = reader.readFile(file).contains("\"id\"");
+                Budget budget = new LazyJsonReader(file).read();
+                checkSameEntries(expected, budget, keepsIds);
+            }
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderDecodesDescriptionsWhenAccessed() {
+        String json = "{\"incomeReport\": {\"entries\": []}, \"expenseReport\": {\"entries\": ["
+                + "{\"date\": {\"month\": 0, \"year\": 2021, \"day\": 1}, \"amount\": 12.5, "
+                + "\"description\": \"café \\\"latte\\\" \\u00e0 emporter\", \"id\": 7},"
+                + "{\"id\": 7, \"description\": \"Rent\", \"amount\": 1000, "
+                + "\"date\": {\"day\": 2, \"year\": 2021, \"month\": 0}},"
+                + "{\"date\": {\"month\": 0, \"year\": 2021, \"day\": 3}, \"amount\": 5, \"description\": \" \\n \"}"
+                + "]}}";
+        try {
+            Files.write(Paths.get(FILE), json.getBytes(StandardCharsets.UTF_8));
+            Budget budget = new LazyJsonReader(FILE).read();
+            ColumnarReport expenses = (ColumnarReport) budget.getExpenseReport();
+            assertEquals(2, expenses.size());
+            assertEquals(1012.5, expenses.sum());
+            assertEquals(1012.5, budget.getExpensesInMonth(2021, 0));
+            assertFalse(expenses.isDescriptionRead(0));
+            assertFalse(expenses.isDescriptionRead(1));
+            assertEquals("Rent", expenses.getDescription(1));
+            assertFalse(expenses.isDescriptionRead(0));
+            Entry latte = expenses.getEntry(0);
+            assertEquals("café \"latte\" à emporter", latte.getDescription());
+            assertEquals(7, latte.getId());
+            assertNotEquals(7, expenses.getEntry(1).getId());
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderSkipsOutOfRangeEntries() {
+        String json = "{\"incomeReport\": {\"entries\": []}, \"expenseReport\": {\"entries\": ["
+                + "{\"description\": \"Huge\", \"amount\": 1e20, "
+                + "\"date\": {\"year\": 2021, \"month\": 0, \"day\": 1}},"
+                + "{\"description\": \"Far\", \"amount\": 5, "
+                + "\"date\": {\"year\": 2000000000, \"month\": 0, \"day\": 1}},"
+                + "{\"description\": \"Rent\", \"amount\": 1000, "
+                + "\"date\": {\"year\": 2021, \"month\": 0, \"day\": 2}}"
+                + "]}}";
+        try {
+            Files.write(Paths.get(FILE), json.getBytes(StandardCharsets.UTF_8));
+            Budget expected = new JsonReader(FILE).read();
+            Budget budget = new LazyJsonReader(FILE).read();
+            assertEquals(1, budget.getExpenseReport().size());
+            checkSameEntries(expected.getExpenseReport(), budget.getExpenseReport(), false);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderMalformedFile() {
+        try {
+            new LazyJsonReader("./data/testReaderMalformed.json").read();
+            fail("JSONException was not thrown");
+        } catch (JSONException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+package persistence;
+
+import model.Budget;
+import model.Entry;
+import model.EntryType;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the NdjsonReader class and the newline-delimited JSON written by JsonWriter
+public class NdjsonReaderTest extends JsonTest {
+    private static final String FILE = "./data/testNdjson.ndjson";
+
+    private Budget testBudget;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void runBefore() {
+        pool = new ForkJoinPool(4);
+        testBudget = new Budget();
+        testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("Rent", 120000,
+                LocalDate.of(2021, 1, 1)));
+        testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("quote \" and\nnew line", 1250,
+                LocalDate.of(2021, 1, 2)));
+        testBudget.getIncomeReport().addEntry(EntryType.INCOME.newEntry("Salary", 200005,
+                LocalDate.of(2021, 12, 31)));
+    }
+
+    @AfterEach
+    void runAfter() {
+        pool.shutdown();
+        try {
+            Files.deleteIfExists(Paths.get(FILE));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testWriteLines() {
+        try {
+            writeLines(testBudget);
+            List<String> lines = Files.readAllLines(Paths.get(FILE), StandardCharsets.UTF_8);
+            assertEquals(3, lines.size());
+            Entry rent = testBudget.getExpenseReport().getAllEntries().get(0);
+            assertEquals("{\"type\":\"EXPENSE\",\"date\":{\"month\":0,\"year\":2021,\"day\":1},\"amount\":1200,"
+                    + "\"description\":\"Rent\",\"id\":" + rent.getId() + "}", lines.get(0));
+            assertTrue(lines.get(2).startsWith("{\"type\":\"INCOME\""));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testRead() {
+        try {
+            writeLines(testBudget);
+            Budget budget = new NdjsonReader(FILE).read();
+            checkSameEntries(testBudget, budget, true);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReadAfterAppend() {
+        try {
+            writeLines(testBudget);
+            Entry bonus = EntryType.INCOME.newEntry("Bonus", 50000, LocalDate.of(2022, 1, 1));
+            writeLine(EntryType.INCOME, bonus);
+            Budget budget = new NdjsonReader(FILE).read();
+            assertEquals(2, budget.getExpenseReport().size());
+            assertEquals(2, budget.getIncomeReport().size());
+            assertEquals("Bonus", budget.getIncomeReport().getAllEntries().get(1).getDescription());
+            assertEquals(bonus.getId(), budget.getIncomeReport().getAllEntries().get(1).getId());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReadSkipsUnfinishedLastLine() {
+        try {
+            writeLines(testBudget);
+            String unfinished = "\n{\"type\":\"EXPENSE\",\"date\":{\"mon";
+            Files.write(Paths.get(FILE), unfinished.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            Budget budget = new NdjsonReader(FILE).read();
+            checkSameEntries(testBudget, budget, true);
+            Budget parallel = new NdjsonReader(FILE).read(pool, 16);
+            checkSameEntries(testBudget, parallel, true);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReadInvalidLine() {
+        checkInvalidLine("not json\n");
+        checkInvalidLine("{\"type\":\"LOAN\",\"date\":{\"month\":0,\"year\":2021,\"day\":1},"
+                + "\"amount\":1,\"description\":\"x\"}\n");
+        checkInvalidLine("{\"type\":\"EXPENSE\",\"date\":{\"mon\n");
+    }
+
+    // EFFECTS: checks that both ways of reading a file with line in the middle of it throw JSONException
+    private void checkInvalidLine(String line) {
+        try {
+            writeLines(testBudget);
+            Files.write(Paths.get(FILE), line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            writeLine(EntryType.INCOME, EntryType.INCOME.newEntry("Bonus", 50000, LocalDate.of(2022, 1, 1)));
+            try {
+                new NdjsonReader(FILE).read();
+                fail("JSONException was not thrown");
+            } catch (JSONException e) {
+                // expected
+            }
+            try {
+                new NdjsonReader(FILE).read(pool, 16);
+                fail("JSONException was not thrown");
+            } catch (JSONException e) {
+                // expected
+            }
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReadParallelMatchesRead() {
+        try {
+            for (int i = 0; i < 100; i++) {
+                testBudget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("Entry " + i, i,
+                        LocalDate.of(2020, 1, 1).plusDays(i)));
+            }
+            writeLines(testBudget);
+            Budget expected = new NdjsonReader(FILE).read();
+            for (int chunkSize = 1; chunkSize <= 1000; chunkSize *= 10) {
+                Budget budget = new NdjsonReader(FILE).read(pool, chunkSize);
+                checkSameEntries(expected, budget, true);
+            }
+            checkSameEntries(expected.getExpenseReport(), new NdjsonReader(FILE).read(pool).getExpenseReport(), true);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testReadNonExistentFile() {
+        try {
+            new NdjsonReader("./data/noSuchFile.ndjson").read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    // EFFECTS: writes budget to FILE in newline-delimited JSON
+    private void writeLines(Budget budget) throws FileNotFoundException {
+        JsonWriter writer = new JsonWriter(FILE);
+        writer.open();
+        writer.writeLines(budget);
+        writer.close();
+    }
+
+    // EFFECTS: appends entry of the given type to FILE as a line of JSON
+    private void writeLine(EntryType type, Entry entry) throws FileNotFoundException {
+        JsonWriter writer = new JsonWriter(FILE);
+        writer.openForAppend();
+        writer.writeLine(type, entry);
+        writer.close();
+    }
+
+}
@@ -0,0 +1,153 @@
+package persistence;
+
+import model.Budget;
+import model.EntryType;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the NdjsonTailer class
+public class NdjsonTailerTest {
+    private static final String FILE = "./data/testNdjsonTail.ndjson";
+    private static final String LINE = "{\"type\":\"EXPENSE\",\"date\":{\"month\":0,\"year\":2021,\"day\":1},"
+            + "\"amount\":12.5,\"description\":\"Food\",\"id\":1}\n";
+
+    private Budget testBudget;
+    private NdjsonTailer tailer;
+
+    @BeforeEach
+    void runBefore() {
+        testBudget = new Budget();
+        tailer = new NdjsonTailer(FILE, testBudget);
+        try {
+            Files.deleteIfExists(Paths.get(FILE));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @AfterEach
+    void runAfter() {
+        try {
+            Files.deleteIfExists(Paths.get(FILE));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollNoFile() {
+        try {
+            assertEquals(0, tailer.poll());
+            assertEquals(0, tailer.getPosition());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollCompleteLinesOnly() {
+        try {
+            int split = LINE.indexOf("Food");
+            append(LINE + LINE.substring(0, split));
+            assertEquals(1, tailer.poll());
+            assertEquals(LINE.length(), tailer.getPosition());
+            assertEquals(0, tailer.poll());
+            append(LINE.substring(split) + LINE);
+            assertEquals(2, tailer.poll());
+            assertEquals(3, testBudget.getExpenseReport().size());
+            assertEquals(37.5, testBudget.getExpenseReport().sum());
+            assertEquals(Files.size(Paths.get(FILE)), tailer.getPosition());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollInvalidLine() {
+        try {
+            append(LINE + "not json\n" + LINE);
+            try {
+                tailer.poll();
+                fail("JSONException was not thrown");
+            } catch (JSONException e) {
+                // expected
+            }
+            assertEquals(1, testBudget.getExpenseReport().size());
+            assertEquals(LINE.length(), tailer.getPosition());
+            try {
+                tailer.poll();
+                fail("JSONException was not thrown");
+            } catch (JSONException e) {
+                // expected
+            }
+            assertEquals(1, testBudget.getExpenseReport().size());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollLongLine() {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            description.append('x');
+        }
+        try {
+            append(LINE.replace("Food", description));
+            append(LINE);
+            assertEquals(2, tailer.poll());
+            assertEquals(100_000, testBudget.getExpenseReport().getAllEntries().get(0).getDescription().length());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollWhileWriterAppends() {
+        try {
+            JsonWriter writer = new JsonWriter(FILE);
+            writer.openForAppend();
+            writer.writeLine(EntryType.INCOME, EntryType.INCOME.newEntry("Salary", 200000, LocalDate.of(2021, 1, 1)));
+            assertEquals(0, tailer.poll());
+            writer.flush();
+            assertEquals(1, tailer.poll());
+            writer.writeLine(EntryType.EXPENSE, EntryType.EXPENSE.newEntry("Rent", 100000, LocalDate.of(2021, 1, 1)));
+            writer.close();
+            assertEquals(1, tailer.poll());
+            assertEquals(2000, testBudget.getIncomeReport().sum());
+            assertEquals(1000, testBudget.getExpenseReport().sum());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testPollTruncated() {
+        try {
+            append(LINE + LINE);
+            assertEquals(2, tailer.poll());
+            Files.write(Paths.get(FILE), LINE.getBytes(StandardCharsets.UTF_8));
+            tailer.poll();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    // EFFECTS: appends text to FILE, creating it if needed
+    private void append(String text) throws IOException {
+        Files.write(Paths.get(FILE), text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,54 @@
+package persistence;
+
+import model.Budget;
+import model.EntryType;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+// Represents a benchmark of the time JsonReader and ParallelJsonReader with 1, 2, 4, ... threads take to read a
+// large budget file; run with ./gradlew parallelReadBenchmark
+public class ParallelJsonReaderBenchmark {
+    private static final int ENTRIES = 1_000_000;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    // EFFECTS: writes a budget file with ENTRIES entries, reads it with each reader and prints the read times
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("budget", ".json");
+        file.deleteOnExit();
+        writeBudget(file.getPath());
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int warmup = 0; warmup < 2; warmup++) {
+            long start = System.nanoTime();
+            Budget budget = new JsonReader(file.getPath()).read();
+            print("JsonReader", start, budget);
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                start = System.nanoTime();
+                budget = new ParallelJsonReader(file.getPath(), pool).read();
+                print("ParallelJsonReader, " + threads + " threads", start, budget);
+                pool.shutdown();
+            }
+        }
+    }
+
+    // EFFECTS: writes a budget with ENTRIES expenses to destination
+    private static void writeBudget(String destination) throws Exception {
+        Budget budget = new Budget();
+        for (int i = 0; i < ENTRIES; i++) {
+            budget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("entry " + i, i % 100_000,
+                    FIRST_DAY.plusDays(i % 3650)));
+        }
+        JsonWriter writer = new JsonWriter(destination);
+        writer.open();
+        writer.write(budget);
+        writer.close();
+    }
+
+    // EFFECTS: prints the time since start and the size of budget
+    private static void print(String reader, long start, Budget budget) {
+        System.out.printf("%-32s %8.0f ms  %d entries%n", reader, (System.nanoTime() - start) / 1e6,
+                budget.getExpenseReport().size());
+    }
+}
@@ -0,0 +1,133 @@
+package persistence;
+
+import model.Budget;
+import model.EntryType;
+import model.Report;
+import org.json.JSONException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the ParallelJsonReader class
+public class ParallelJsonReaderTest extends JsonTest {
+    private static final String[] FILES = {
+        "./data/testReaderEmptyBudget.json",
+        "./data/testReaderExpenseEmptyIncomeMany.json",
+        "./data/testReaderExpenseManyIncomeEmpty.json",
+        "./data/testReaderGeneralBudget.json",
+        "./data/testReaderInvalidEntries.json",
+        "./data/testReaderExtraMembers.json",
+        "./data/testReaderEscapedStrings.json"
+    };
+
+    @TempDir
+    Path directory;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void runBefore() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void runAfter() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new ParallelJsonReader("./data/noSuchFile.json").read();
+            fail("IOException was not thrown");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testReaderMatchesJsonReader() {
+        try {
+            for (String file : FILES) {
+                JsonReader reader = new JsonReader(file);
+                Budget expected = reader.read();
+                boolean keepsIds = reader.readFile(file).contains("\"id\"");
+                for (int chunkSize = 1; chunkSize <= 3; chunkSize++) {
+                    Budget budget = new ParallelJsonReader(file, pool, chunkSize).read();
+                    checkSameEntries(expected, budget, keepsIds);
+                }
+                Report expenses = new ParallelJsonReader(file).read().getExpenseReport();
+                checkSameEntries(expected.getExpenseReport(), expenses, keepsIds);
+            }
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderMalformedFile() {
+        try {
+            new ParallelJsonReader("./data/testReaderMalformed.json", pool).read();
+            fail("JSONException was not thrown");
+        } catch (JSONException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderNonObjectEntry() {
+        try {
+            Path file = directory.resolve("nonObject.json");
+            Files.write(file, ("{\"expenseReport\":{\"entries\":[{\"date\":{\"month\":0,\"year\":2021,"
+                    + "\"day\":1},\"amount\":12,\"description\":\"Rent\"}, 5]},"
+                    + "\"incomeReport\":{\"entries\":[]}}").getBytes(StandardCharsets.UTF_8));
+            for (int chunkSize = 1; chunkSize <= 2; chunkSize++) {
+                try {
+                    new ParallelJsonReader(file.toString(), pool, chunkSize).read();
+                    fail("JSONException was not thrown");
+                } catch (JSONException e) {
+                    // expected
+                }
+            }
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderFileLargerThanBlock() {
+        Budget budget = new Budget();
+        for (int i = 0; i < 3000; i++) {
+            budget.getExpenseReport().addEntry(EntryType.EXPENSE.newEntry("caf\u00e9 \u65e5\u672c \"" + i + "\" [{,:}]",
+                    i, LocalDate.of(2020, 1, 1).plusDays(i)));
+        }
+        try {
+            String file = directory.resolve("large.json").toString();
+            JsonWriter writer = new JsonWriter(file);
+            writer.open();
+            writer.write(budget);
+            writer.close();
+            assertTrue(Files.size(Paths.get(file)) > 1 << 16);
+            Budget expected = new JsonReader(file).read();
+            Budget actual = new ParallelJsonReader(file, pool, 7).read();
+            checkSameEntries(expected.getExpenseReport(), actual.getExpenseReport(), true);
+            checkSameEntries(budget.getExpenseReport(), actual.getExpenseReport(), true);
+        } catch (IOException e) {
+            fail("IOException should not have been thrown");
+        }
+    }
+
+}
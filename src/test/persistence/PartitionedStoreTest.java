@@ -0,0 +1,181 @@
+package persistence;
+
+import exception.EmptyStringException;
+import exception.NegativeInputException;
+import model.Budget;
+import model.Entry;
+import model.Expense;
+import model.Income;
+import model.PartitionedBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the PartitionedStore class
+public class PartitionedStoreTest {
+    private static final String DIRECTORY = "./data/testPartitions";
+    private static final YearMonth JANUARY = YearMonth.of(2021, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2021, 2);
+
+    private PartitionedStore store;
+    private Budget testBudget;
+
+    @BeforeEach
+    void runBefore() {
+        deleteDirectory();
+        store = new PartitionedStore(DIRECTORY);
+        testBudget = new Budget();
+        try {
+            testBudget.addExpense(new Expense("Rent", 1200, new GregorianCalendar(2021, Calendar.JANUARY, 1)));
+            testBudget.addExpense(new Expense("Phone", 60, new GregorianCalendar(2021, Calendar.FEBRUARY, 5)));
+            testBudget.addIncome(new Income("Salary", 2000, new GregorianCalendar(2021, Calendar.JANUARY, 1)));
+            store.write(testBudget);
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @AfterEach
+    void runAfter() {
+        deleteDirectory();
+    }
+
+    // EFFECTS: deletes the directory of the store and its files
+    private void deleteDirectory() {
+        Path directory = Paths.get(DIRECTORY);
+        try (Stream<Path> files = Files.exists(directory) ? Files.list(directory) : Stream.empty()) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testWriteAndOpen() {
+        try {
+            assertTrue(Files.exists(Paths.get(DIRECTORY, "2021-01.json")));
+            assertTrue(Files.exists(Paths.get(DIRECTORY, "2021-02.json")));
+            PartitionedBudget budget = store.open();
+            assertEquals(List.of(JANUARY, FEBRUARY), new ArrayList<>(budget.getUnreadMonths()));
+            assertEquals(2, budget.getExpenseReport().size());
+            assertEquals(1260, budget.getExpenseReport().sum());
+            assertEquals(2000, budget.getIncomeReport().sum());
+            assertEquals(60, budget.getExpensesInMonth(2021, Calendar.FEBRUARY));
+            assertEquals(List.of(JANUARY), new ArrayList<>(budget.getUnreadMonths()));
+
+            Entry rent = testBudget.getExpenseReport().getAllEntries().get(0);
+            assertEquals("Rent", budget.getExpenseReport().getEntryById(rent.getId()).getDescription());
+            assertTrue(budget.getUnreadMonths().isEmpty());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testFailedSegmentKeepsManifest() {
+        try {
+            byte[] manifest = Files.readAllBytes(Paths.get(DIRECTORY, "manifest.json"));
+            Files.createDirectory(Paths.get(DIRECTORY, "2021-03.json.tmp"));
+            testBudget.addExpense(new Expense("Bus", 3, new GregorianCalendar(2021, Calendar.MARCH, 2)));
+            try {
+                store.write(testBudget);
+                fail("IOException was not thrown");
+            } catch (IOException e) {
+                // expected
+            }
+            assertArrayEquals(manifest, Files.readAllBytes(Paths.get(DIRECTORY, "manifest.json")));
+            assertFalse(Files.exists(Paths.get(DIRECTORY, "2021-03.json")));
+            PartitionedBudget budget = store.open();
+            assertEquals(List.of(JANUARY, FEBRUARY), new ArrayList<>(budget.getUnreadMonths()));
+            assertEquals(1260, budget.getExpenseReport().sum());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testOpenEmptyStore() {
+        try {
+            PartitionedBudget budget = new PartitionedStore(DIRECTORY + "/none").open();
+            assertTrue(budget.getExpenseReport().isEmpty());
+            assertTrue(budget.getIncomeReport().isEmpty());
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSaveRewritesOnlyChangedMonths() {
+        try {
+            Path january = Paths.get(DIRECTORY, "2021-01.json");
+            byte[] januaryBytes = Files.readAllBytes(january);
+            PartitionedBudget budget = store.open();
+            budget.addExpense(new Expense("Bus", 3, new GregorianCalendar(2021, Calendar.FEBRUARY, 6)));
+            budget.addExpense(new Expense("Train", 40, new GregorianCalendar(2021, Calendar.MARCH, 1)));
+            store.save(budget);
+            assertArrayEquals(januaryBytes, Files.readAllBytes(january));
+            assertTrue(Files.exists(Paths.get(DIRECTORY, "2021-03.json")));
+            assertEquals(List.of(JANUARY), new ArrayList<>(budget.getUnreadMonths()));
+            assertTrue(budget.getChangedMonths().isEmpty());
+
+            PartitionedBudget reopened = store.open();
+            assertEquals(4, reopened.getExpenseReport().size());
+            assertEquals(1303, reopened.getExpenseReport().sum());
+            assertEquals(4, reopened.getExpenseReport().getAllEntries().size());
+        } catch (IOException | NegativeInputException | EmptyStringException e) {
+            fail("Exception should have not been thrown");
+        }
+    }
+
+    @Test
+    void testSaveDropsEmptyMonths() {
+        try {
+            PartitionedBudget budget = store.open();
+            Calendar start = new GregorianCalendar(2021, Calendar.FEBRUARY, 1);
+            Calendar end = new GregorianCalendar(2021, Calendar.FEBRUARY, 28);
+            Entry phone = budget.getExpenseReport().getEntriesInRange(start, end).get(0);
+            phone.setDate(2021, Calendar.JANUARY, 5);
+            store.save(budget);
+            assertFalse(Files.exists(Paths.get(DIRECTORY, "2021-02.json")));
+
+            PartitionedBudget reopened = store.open();
+            assertEquals(List.of(JANUARY), new ArrayList<>(reopened.getUnreadMonths()));
+            assertEquals(1260, reopened.getExpenseReport().sum());
+            assertEquals(1260, reopened.getExpensesInMonth(2021, Calendar.JANUARY));
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+
+    @Test
+    void testMissingSegment() {
+        try {
+            Files.delete(Paths.get(DIRECTORY, "2021-02.json"));
+            PartitionedBudget budget = store.open();
+            assertEquals(1200, budget.getExpensesInMonth(2021, Calendar.JANUARY));
+            budget.getExpensesInMonth(2021, Calendar.FEBRUARY);
+            fail("UncheckedIOException was not thrown");
+        } catch (UncheckedIOException e) {
+            // expected
+        } catch (IOException e) {
+            fail("IOException should have not been thrown");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package ui.gui;
+
+import exception.NegativeInputException;
+import model.Entry;
+import model.EntryFilter;
+import model.EntryType;
+import model.ExpenseReport;
+import model.Report;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.lang.reflect.InvocationTargetException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tests for the ReportListModel class
+public class ReportListModelTest {
+    private static final LocalDate DATE = LocalDate.of(2021, 3, 14);
+    private static final long TIMEOUT = 5000;       // milliseconds to wait for a filter query
+
+    private Report testReport;
+    private ReportListModel testModel;
+    private List<String> events;
+
+    @BeforeEach
+    void runBefore() {
+        testReport = new ExpenseReport();
+        for (int i = 0; i < 3; i++) {
+            testReport.addEntry(newEntry("Entry " + i, 100 + i));
+        }
+        testModel = new ReportListModel(testReport);
+        events = new ArrayList<>();
+        testModel.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+    }
+
+    @Test
+    void testConstructorReadsReport() {
+        assertEquals(3, testModel.getSize());
+        for (int i = 0; i < 3; i++) {
+            assertSame(testReport.getAllEntries().get(i), testModel.getElementAt(i));
+        }
+    }
+
+    @Test
+    void testAddsCoalesced() {
+        Entry added = newEntry("Entry 3", 103);
+        runOnEventThread(() -> {
+            testReport.addEntry(added);
+            testReport.addEntry(newEntry("Entry 4", 104));
+            assertEquals(3, testModel.getSize());
+        });
+        flush();
+        assertEquals(List.of("added 3-4"), events);
+        assertEquals(5, testModel.getSize());
+        assertSame(added, testModel.getElementAt(3));
+    }
+
+    @Test
+    void testModifiesCoalesced() {
+        runOnEventThread(() -> {
+            try {
+                testReport.getAllEntries().get(0).setAmountInCents(5);
+                testReport.getAllEntries().get(2).setAmountInCents(7);
+            } catch (NegativeInputException e) {
+                fail("NegativeInputException should not have been thrown");
+            }
+        });
+        flush();
+        assertEquals(List.of("changed 0-2"), events);
+        assertEquals(5, testModel.getElementAt(0).getAmountInCents());
+    }
+
+    @Test
+    void testDeletesCoalesced() {
+        Entry first = testReport.getAllEntries().get(0);
+        Entry last = testReport.getAllEntries().get(2);
+        runOnEventThread(() -> {
+            testReport.deleteEntry(testReport.getAllEntries().get(0));
+            testReport.deleteEntry(testReport.getAllEntries().get(0));
+            assertEquals(3, testModel.getSize());
+            assertSame(first, testModel.getElementAt(0));
+            assertSame(last, testModel.getElementAt(2));
+        });
+        flush();
+        assertEquals(List.of("removed 1-2", "changed 0-0"), events);
+        assertEquals(1, testModel.getSize());
+        assertSame(last, testModel.getElementAt(0));
+    }
+
+    @Test
+    void testMixedChangesCoalesced() {
+        runOnEventThread(() -> {
+            testReport.deleteEntry(testReport.getAllEntries().get(1));
+            testReport.addEntry(newEntry("Entry 3", 103));
+            testReport.addEntry(newEntry("Entry 4", 104));
+        });
+        flush();
+        assertEquals(List.of("added 3-3", "changed 0-2"), events);
+        assertEquals(4, testModel.getSize());
+        assertEquals("Entry 4", testModel.getElementAt(3).getDescription());
+    }
+
+    @Test
+    void testSetReport() {
+        Report other = new ExpenseReport();
+        other.addEntry(newEntry("Other", 1));
+        runOnEventThread(() -> testModel.setReport(other));
+        assertEquals(List.of("removed 1-2", "changed 0-0"), events);
+        assertEquals("Other", testModel.getElementAt(0).getDescription());
+        runOnEventThread(() -> testReport.addEntry(newEntry("Entry 3", 103)));
+        flush();
+        assertEquals(1, testModel.getSize());
+    }
+
+    @Test
+    void testSetFilter() {
+        EntryFilter filter = new EntryFilter("entry 1", 0, Long.MAX_VALUE, LocalDate.MIN, LocalDate.MAX);
+        runOnEventThread(() -> testModel.setFilter(filter));
+        waitForSize(1);
+        assertSame(testReport.getAllEntries().get(1), testModel.getElementAt(0));
+        runOnEventThread(() -> testModel.setFilter(EntryFilter.ALL));
+        assertEquals(3, testModel.getSize());
+    }
+
+    // EFFECTS: returns a new expense with the given description and amount in cents
+    private Entry newEntry(String description, long cents) {
+        return EntryType.EXPENSE.newEntry(description, cents, DATE);
+    }
+
+    // EFFECTS: waits until the events scheduled on the event dispatch thread so far have been published
+    private void flush() {
+        runOnEventThread(() -> { });
+    }
+
+    // EFFECTS: runs task on the event dispatch thread, as the GUI changes reports, and waits for it to finish;
+    //          fails with the error of task if it fails
+    private void runOnEventThread(Runnable task) {
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof AssertionError) {
+                throw (AssertionError) e.getCause();
+            }
+            fail("Event dispatch thread failed: " + e.getCause());
+        } catch (InterruptedException e) {
+            fail("Interrupted while waiting for the event dispatch thread");
+        }
+    }
+
+    // EFFECTS: waits until the model shows the given number of rows, failing if it takes longer than TIMEOUT
+    private void waitForSize(int size) {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (System.currentTimeMillis() < deadline) {
+            flush();
+            if (testModel.getSize() == size) {
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                fail("Interrupted while waiting for the filter");
+            }
+        }
+        fail("The filter was not applied in time");
+    }
+}
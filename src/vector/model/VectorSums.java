@@ -0,0 +1,29 @@
+package model;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Represents the Vector API implementation of Money.sum; this class is kept in its own source set, the only one
+// compiled against the jdk.incubator.vector module, and can only be loaded when the module is added to the program
+// (--add-modules jdk.incubator.vector)
+class VectorSums implements SumKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    // REQUIRES: 0 <= from <= to <= values.length
+    // EFFECTS: returns the sum of values[from] to values[to - 1]
+    @Override
+    public long sum(long[] values, int from, int to) {
+        LongVector lanes = LongVector.zero(SPECIES);
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            lanes = lanes.add(LongVector.fromArray(SPECIES, values, i));
+        }
+        long sum = lanes.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+}